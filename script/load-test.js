@@ -0,0 +1,69 @@
+// 스레드 모드(platform/virtual)별 처리량 비교용 k6 부하 테스트
+//
+// 실행 예:
+//   k6 run -e BASE_URL=http://localhost:9000 -e EMAIL=test@example.com -e PASSWORD=password \
+//     -e MODE=virtual -e VUS=200 script/load-test.js
+//
+// 논블로킹 조회 API를 측정하려면 -e READ_PREFIX=/api/rx 를 추가합니다.
+// 결과는 표준 출력과 load-test-{MODE}.json 파일에 기록됩니다.
+import http from "k6/http";
+import { check } from "k6";
+import { textSummary } from "https://jslib.k6.io/k6-summary/0.1.0/index.js";
+
+const BASE_URL = __ENV.BASE_URL || "http://localhost:9000";
+const MODE = __ENV.MODE || "platform";
+const VUS = Number(__ENV.VUS || 200);
+const READ_PREFIX = __ENV.READ_PREFIX || "/api";
+
+export const options = {
+  scenarios: {
+    feed: {
+      executor: "ramping-vus",
+      startVUs: 0,
+      stages: [
+        { duration: "30s", target: VUS },
+        { duration: "2m", target: VUS },
+        { duration: "15s", target: 0 },
+      ],
+    },
+  },
+  thresholds: {
+    http_req_failed: ["rate<0.01"],
+  },
+  summaryTrendStats: ["avg", "p(50)", "p(95)", "p(99)", "max"],
+};
+
+// 테스트 계정으로 한 번 로그인하여 모든 가상 사용자가 같은 토큰 사용
+export function setup() {
+  const res = http.post(
+    `${BASE_URL}/api/user/login`,
+    JSON.stringify({ user: { email: __ENV.EMAIL, password: __ENV.PASSWORD } }),
+    { headers: { "Content-Type": "application/json" } }
+  );
+  check(res, { "login 200": (r) => r.status === 200 });
+  return { token: res.json("user.token") };
+}
+
+// 피드 조회 (DB 조회와 게시글 상세 구성) 후 첫 게시글 상세 조회
+export default function (data) {
+  const params = {
+    headers: { Authorization: `Bearer ${data.token}` },
+    tags: { mode: MODE },
+  };
+
+  const feed = http.get(`${BASE_URL}${READ_PREFIX}/post/feed?limit=10`, params);
+  check(feed, { "feed 200": (r) => r.status === 200 });
+
+  const posts = feed.status === 200 ? feed.json("posts") : null;
+  if (posts && posts.length > 0) {
+    const detail = http.get(`${BASE_URL}${READ_PREFIX}/post/${posts[0].id}`, params);
+    check(detail, { "post 200": (r) => r.status === 200 });
+  }
+}
+
+export function handleSummary(data) {
+  return {
+    stdout: textSummary(data, { indent: " ", enableColors: true }),
+    [`load-test-${MODE}.json`]: JSON.stringify(data, null, 2),
+  };
+}
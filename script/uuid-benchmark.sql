@@ -0,0 +1,144 @@
+-- 기본 키 형식별 삽입 시간과 인덱스 크기 비교 (posts, hearts)
+--   v4: VARCHAR(255)에 무작위 UUID 문자열 저장 (V3 마이그레이션 이전)
+--   v7: uuid 타입에 시각 순 UUID 저장 (TimeOrderedUuid)
+--
+-- 실행 예 (PostgreSQL 13 이상, 임시 테이블만 사용하므로 운영 테이블에는 영향 없음):
+--   psql "$DB_URL" -v posts=1000000 -v hearts=3000000 -f script/uuid-benchmark.sql
+--
+-- 삽입 시간은 \timing 출력의 "bench_*" INSERT 문으로 비교합니다. 인덱스가 shared_buffers보다 커야 무작위 삽입의
+-- 페이지 분할/캐시 미스 차이가 드러나므로, 행 수는 운영 규모에 가깝게 지정합니다.
+
+\if :{?posts}
+\else
+\set posts 1000000
+\endif
+\if :{?hearts}
+\else
+\set hearts 3000000
+\endif
+\if :{?users}
+\else
+\set users 100000
+\endif
+
+\set ON_ERROR_STOP on
+\timing off
+
+-- 지정한 밀리초 시각의 UUID 버전 7 (상위 48비트 시각, 버전 비트 0111)
+CREATE FUNCTION pg_temp.uuid_v7(ms bigint) RETURNS uuid AS $$
+    SELECT encode(
+        set_bit(set_bit(
+            overlay(uuid_send(gen_random_uuid()) PLACING substring(int8send(ms) FROM 3) FROM 1 FOR 6),
+            52, 1), 53, 1),
+        'hex')::uuid
+$$ LANGUAGE sql VOLATILE;
+
+-- 삽입 순서(seq)별 ID를 미리 만들어 두고 ID 생성 비용은 측정에서 제외
+-- v7은 게시글/사용자마다 1밀리초씩 늦게 생성된 것으로 간주
+CREATE TEMP TABLE bench_user_ids AS
+SELECT seq,
+       gen_random_uuid()::text AS v4,
+       pg_temp.uuid_v7(1700000000000 + seq) AS v7
+FROM generate_series(1, :users) AS seq;
+ALTER TABLE bench_user_ids ADD PRIMARY KEY (seq);
+
+CREATE TEMP TABLE bench_post_ids AS
+SELECT seq,
+       gen_random_uuid()::text AS v4,
+       pg_temp.uuid_v7(1710000000000 + seq) AS v7,
+       1 + floor(random() * :users)::int AS author_seq
+FROM generate_series(1, :posts) AS seq;
+ALTER TABLE bench_post_ids ADD PRIMARY KEY (seq);
+
+-- 좋아요는 주로 최근 게시글에 달리므로, 삽입 시점 기준 최근 게시글 100개 중 하나를 선택
+CREATE TEMP TABLE bench_heart_pairs AS
+SELECT seq,
+       greatest(1, (seq::bigint * :posts / :hearts)::int - floor(random() * 100)::int) AS post_seq,
+       1 + floor(random() * :users)::int AS user_seq
+FROM generate_series(1, :hearts) AS seq;
+
+-- 운영 스키마와 같은 컬럼/인덱스 구성 (외래 키는 두 형식에 같은 비용이므로 제외)
+CREATE TEMP TABLE bench_posts_v4 (
+    id            VARCHAR(255) PRIMARY KEY,
+    content       TEXT,
+    image         TEXT         NOT NULL,
+    author_id     VARCHAR(255) NOT NULL,
+    heart_count   INTEGER      NOT NULL DEFAULT 0,
+    comment_count INTEGER      NOT NULL DEFAULT 0,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6),
+    deleted_at    TIMESTAMP(6)
+);
+CREATE INDEX bench_posts_v4_author_created
+    ON bench_posts_v4 (author_id, created_at DESC, id DESC) WHERE deleted_at IS NULL;
+
+CREATE TEMP TABLE bench_posts_v7 (
+    id            uuid         PRIMARY KEY,
+    content       TEXT,
+    image         TEXT         NOT NULL,
+    author_id     uuid         NOT NULL,
+    heart_count   INTEGER      NOT NULL DEFAULT 0,
+    comment_count INTEGER      NOT NULL DEFAULT 0,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6),
+    deleted_at    TIMESTAMP(6)
+);
+CREATE INDEX bench_posts_v7_author_created
+    ON bench_posts_v7 (author_id, created_at DESC, id DESC) WHERE deleted_at IS NULL;
+
+CREATE TEMP TABLE bench_hearts_v4 (
+    post_id    VARCHAR(255) NOT NULL,
+    user_id    VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (post_id, user_id)
+);
+CREATE INDEX bench_hearts_v4_post ON bench_hearts_v4 (post_id);
+
+CREATE TEMP TABLE bench_hearts_v7 (
+    post_id    uuid         NOT NULL,
+    user_id    uuid         NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (post_id, user_id)
+);
+CREATE INDEX bench_hearts_v7_post ON bench_hearts_v7 (post_id);
+
+\echo '== 삽입 시간 (생성 순서대로 삽입) =='
+\timing on
+
+INSERT INTO bench_posts_v4 (id, content, image, author_id, created_at)
+SELECT p.v4, 'content', '', u.v4, now()
+FROM bench_post_ids p JOIN bench_user_ids u ON u.seq = p.author_seq
+ORDER BY p.seq;
+
+INSERT INTO bench_posts_v7 (id, content, image, author_id, created_at)
+SELECT p.v7, 'content', '', u.v7, now()
+FROM bench_post_ids p JOIN bench_user_ids u ON u.seq = p.author_seq
+ORDER BY p.seq;
+
+INSERT INTO bench_hearts_v4 (post_id, user_id, created_at)
+SELECT p.v4, u.v4, now()
+FROM bench_heart_pairs h
+JOIN bench_post_ids p ON p.seq = h.post_seq
+JOIN bench_user_ids u ON u.seq = h.user_seq
+ORDER BY h.seq
+ON CONFLICT DO NOTHING;
+
+INSERT INTO bench_hearts_v7 (post_id, user_id, created_at)
+SELECT p.v7, u.v7, now()
+FROM bench_heart_pairs h
+JOIN bench_post_ids p ON p.seq = h.post_seq
+JOIN bench_user_ids u ON u.seq = h.user_seq
+ORDER BY h.seq
+ON CONFLICT DO NOTHING;
+
+\timing off
+
+\echo '== 테이블/인덱스 크기 =='
+SELECT c.relname,
+       CASE c.relkind WHEN 'r' THEN 'table' ELSE 'index' END AS kind,
+       pg_size_pretty(pg_relation_size(c.oid)) AS size,
+       pg_relation_size(c.oid) / current_setting('block_size')::int AS pages
+FROM pg_class c
+WHERE c.relnamespace = pg_my_temp_schema()
+  AND c.relname ~ '^bench_(posts|hearts)_v[47]'
+ORDER BY c.relname;
@@ -0,0 +1,116 @@
+package com.soon_my_room.soon_my_room.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션을 동시에 빌려 쓸 수 있는 스레드 수를 제한하는 DataSource입니다.
+ *
+ * <p>가상 스레드 모드에서는 요청마다 스레드가 만들어지므로 커넥션 풀보다 훨씬 많은 요청이 한꺼번에 커넥션을 요청할 수 있습니다. 풀 크기만큼의 공정한
+ * 세마포어로 먼저 온 순서대로 허가를 주고, 커넥션을 닫으면 허가를 반환합니다. 제한 시간 안에 허가를 얻지 못하면 풀에 닿기 전에 실패합니다.
+ */
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource {
+
+  private final Semaphore permits;
+  private final long acquireTimeoutNanos;
+  private final Timer acquireTimer;
+
+  public ConcurrencyLimitingDataSource(
+      DataSource targetDataSource,
+      int maxConcurrency,
+      Duration acquireTimeout,
+      MeterRegistry meterRegistry) {
+    super(targetDataSource);
+    this.permits = new Semaphore(maxConcurrency, true);
+    this.acquireTimeoutNanos = acquireTimeout.toNanos();
+
+    Gauge.builder("jdbc.connections.limiter.waiting", permits, Semaphore::getQueueLength)
+        .description("커넥션 허가를 기다리는 스레드 수")
+        .register(meterRegistry);
+    Gauge.builder(
+            "jdbc.connections.limiter.active",
+            permits,
+            semaphore -> maxConcurrency - semaphore.availablePermits())
+        .description("커넥션 허가를 가진 스레드 수")
+        .register(meterRegistry);
+    this.acquireTimer =
+        Timer.builder("jdbc.connections.limiter.acquire")
+            .description("커넥션 허가를 얻기까지 걸린 시간")
+            .register(meterRegistry);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    try {
+      return releasing(super.getConnection());
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    try {
+      return releasing(super.getConnection(username, password));
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  private void acquire() throws SQLException {
+    long start = System.nanoTime();
+    try {
+      if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+        throw new SQLTransientConnectionException("DB 커넥션 대기 시간이 초과되었습니다.");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("DB 커넥션 대기 중 중단되었습니다.", e);
+    } finally {
+      acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /** 처음 close를 호출할 때 허가를 반환하는 커넥션 */
+  private Connection releasing(Connection connection) {
+    AtomicBoolean released = new AtomicBoolean();
+    return (Connection)
+        Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+              if (method.getName().equals("equals")) {
+                return proxy == args[0];
+              }
+              if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+              }
+
+              try {
+                return method.invoke(connection, args);
+              } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+              } finally {
+                if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                  permits.release();
+                }
+              }
+            });
+  }
+}
@@ -0,0 +1,31 @@
+package com.soon_my_room.soon_my_room.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * JPA, Flyway, JdbcTemplate이 사용하는 JDBC 커넥션 풀(Hikari) 설정입니다.
+ *
+ * <p>R2DBC {@code ConnectionFactory} 빈({@link R2dbcConfig})이 있으면 Spring Boot의 DataSource 자동 설정이
+ * 동작하지 않으므로, 자동 설정과 같은 방식(spring.datasource.*, spring.datasource.hikari.*)으로 직접 만듭니다.
+ */
+@Configuration
+public class DataSourceConfig {
+
+  @Bean
+  @Primary
+  @ConfigurationProperties("spring.datasource")
+  public DataSourceProperties dataSourceProperties() {
+    return new DataSourceProperties();
+  }
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource dataSource(DataSourceProperties dataSourceProperties) {
+    return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+}
@@ -0,0 +1,44 @@
+package com.soon_my_room.soon_my_room.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가상 스레드 모드에서 DB 동시 사용을 Hikari 풀 크기로 제한합니다.
+ *
+ * <p>플랫폼 스레드 모드에서는 Tomcat 스레드 수가 동시 요청을 제한하지만, 가상 스레드 모드에서는 그런 상한이 없으므로 DataSource를 {@link
+ * ConcurrencyLimitingDataSource}로 감쌉니다. 허가 대기 제한 시간은 Hikari의 connection-timeout을 따릅니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class JdbcConcurrencyConfig {
+
+  @Bean
+  public static BeanPostProcessor jdbcConcurrencyLimiter(
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof HikariDataSource hikariDataSource)) {
+          return bean;
+        }
+
+        int maxConcurrency = hikariDataSource.getMaximumPoolSize();
+        log.info("DB 동시 사용 제한: {} (데이터소스: {})", maxConcurrency, beanName);
+        return new ConcurrencyLimitingDataSource(
+            hikariDataSource,
+            maxConcurrency,
+            Duration.ofMillis(hikariDataSource.getConnectionTimeout()),
+            meterRegistry.getObject());
+      }
+    };
+  }
+}
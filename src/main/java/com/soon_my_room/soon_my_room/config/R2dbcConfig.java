@@ -0,0 +1,53 @@
+package com.soon_my_room.soon_my_room.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 리액티브 조회 API(/api/rx)가 사용하는 R2DBC 커넥션 풀 설정입니다.
+ *
+ * <p>JDBC와 같은 DB 접속 정보(spring.datasource.*)로 만들며, 커넥션은 첫 조회 때 연결합니다. 풀이 가득 차면 요청은 스레드를 점유하지 않고
+ * 대기열에서 커넥션을 기다립니다.
+ */
+@Configuration
+public class R2dbcConfig {
+
+  // 커넥션 대기 최대 시간 (JDBC 커넥션 풀 기본값과 같음)
+  private static final Duration MAX_ACQUIRE_TIME = Duration.ofSeconds(30);
+
+  @Value("${spring.datasource.url}")
+  private String url;
+
+  @Value("${spring.datasource.username}")
+  private String username;
+
+  @Value("${spring.datasource.password}")
+  private String password;
+
+  @Value("${app.reactive.pool-size:10}")
+  private int poolSize;
+
+  @Bean(destroyMethod = "dispose")
+  public ConnectionPool connectionFactory() {
+    // jdbc:postgresql://... 형식의 URL을 r2dbc:postgresql://...로 변환
+    ConnectionFactoryOptions options =
+        ConnectionFactoryOptions.parse(url.replaceFirst("^jdbc:", "r2dbc:"))
+            .mutate()
+            .option(ConnectionFactoryOptions.USER, username)
+            .option(ConnectionFactoryOptions.PASSWORD, password)
+            .build();
+
+    return new ConnectionPool(
+        ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+            .initialSize(0)
+            .maxSize(poolSize)
+            .maxAcquireTime(MAX_ACQUIRE_TIME)
+            .build());
+  }
+}
@@ -0,0 +1,153 @@
+package com.soon_my_room.soon_my_room.config;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.callback.Callback;
+import org.flywaydb.core.api.callback.Context;
+import org.flywaydb.core.api.callback.Event;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마이그레이션 직후 주요 조회 쿼리에 필요한 인덱스가 있는지 확인하고, 없으면 시작을 중단합니다.
+ *
+ * <p>인덱스 이름 대신 키 컬럼 순서로 확인하므로, 기본 키나 다른 이름의 인덱스라도 앞쪽 컬럼이 같으면 통과합니다. CONCURRENTLY 생성이 실패해 남은
+ * INVALID 인덱스는 없는 것으로 봅니다.
+ */
+@Component
+@ConditionalOnProperty(
+    name = "app.schema.verify-indexes",
+    havingValue = "true",
+    matchIfMissing = true)
+@Slf4j
+public class SchemaIndexVerifier implements Callback {
+
+  // 테이블별 필요한 인덱스의 앞쪽 키 컬럼
+  private static final List<ExpectedIndex> EXPECTED_INDEXES =
+      List.of(
+          // 로그인, 프로필 조회
+          new ExpectedIndex("users", "email"),
+          new ExpectedIndex("users", "accountname"),
+          // 홈 피드, 삭제된 게시글 정리
+          new ExpectedIndex("timeline_entries", "owner_id", "created_at", "post_id"),
+          new ExpectedIndex("timeline_entries", "post_id"),
+          // 사용자 게시글 목록, 삭제된 게시글 조회
+          new ExpectedIndex("posts", "author_id", "created_at", "id"),
+          new ExpectedIndex("posts", "deleted_at"),
+          // 댓글 목록, 게시글별 좋아요/댓글 수
+          new ExpectedIndex("comments", "post_id", "created_at", "id"),
+          new ExpectedIndex("hearts", "post_id"),
+          // 팔로워/팔로잉 목록
+          new ExpectedIndex("follows", "following_id", "created_at", "follower_id"),
+          new ExpectedIndex("follows", "follower_id", "created_at", "following_id"),
+          // 다른 인스턴스의 팔로우 변경 조회, 오래된 변경 삭제
+          new ExpectedIndex("follow_events", "created_at"),
+          // 사용자 상품 목록
+          new ExpectedIndex("products", "author_id", "created_at", "id"),
+          // 파생 이미지 대기 항목, 만료된 업로드 세션
+          new ExpectedIndex("image_assets", "status", "created_at"),
+          new ExpectedIndex("upload_sessions", "expires_at"));
+
+  // 현재 스키마의 유효한 인덱스별 키 컬럼 (INCLUDE 컬럼 제외, 순서대로)
+  private static final String INDEX_COLUMNS_SQL =
+      "SELECT ix.indexrelid, t.relname AS table_name, a.attname AS column_name"
+          + " FROM pg_index ix"
+          + " JOIN pg_class t ON t.oid = ix.indrelid"
+          + " JOIN pg_namespace n ON n.oid = t.relnamespace"
+          + " CROSS JOIN LATERAL unnest(ix.indkey::int2[]) WITH ORDINALITY AS k(attnum, ord)"
+          + " JOIN pg_attribute a ON a.attrelid = t.oid AND a.attnum = k.attnum"
+          + " WHERE n.nspname = current_schema() AND ix.indisvalid AND ix.indisready"
+          + " AND k.ord <= ix.indnkeyatts"
+          + " ORDER BY ix.indexrelid, k.ord";
+
+  @Override
+  public boolean supports(Event event, Context context) {
+    return event == Event.AFTER_MIGRATE;
+  }
+
+  @Override
+  public boolean canHandleInTransaction(Event event, Context context) {
+    return true;
+  }
+
+  @Override
+  public void handle(Event event, Context context) {
+    Map<String, List<List<String>>> indexesByTable;
+    try {
+      indexesByTable = findIndexes(context.getConnection());
+    } catch (SQLException e) {
+      throw new IllegalStateException("인덱스 정보를 조회할 수 없습니다.", e);
+    }
+
+    List<String> missing = new ArrayList<>();
+    for (ExpectedIndex expected : EXPECTED_INDEXES) {
+      List<List<String>> indexes = indexesByTable.getOrDefault(expected.table(), List.of());
+      if (indexes.stream().noneMatch(expected::isServedBy)) {
+        missing.add(expected.toString());
+      }
+    }
+
+    if (!missing.isEmpty()) {
+      log.error("필수 인덱스가 없거나 유효하지 않습니다: {}", missing);
+      throw new IllegalStateException("필수 인덱스가 없거나 유효하지 않습니다: " + missing);
+    }
+
+    log.info("필수 인덱스 확인 완료: {}개", EXPECTED_INDEXES.size());
+  }
+
+  @Override
+  public String getCallbackName() {
+    return "schemaIndexVerifier";
+  }
+
+  /** 테이블별 인덱스 키 컬럼 목록 조회 */
+  private Map<String, List<List<String>>> findIndexes(Connection connection) throws SQLException {
+    Map<Long, String> tables = new LinkedHashMap<>();
+    Map<Long, List<String>> columns = new LinkedHashMap<>();
+
+    try (PreparedStatement statement = connection.prepareStatement(INDEX_COLUMNS_SQL);
+        ResultSet resultSet = statement.executeQuery()) {
+      while (resultSet.next()) {
+        long indexId = resultSet.getLong("indexrelid");
+        tables.put(indexId, resultSet.getString("table_name"));
+        columns
+            .computeIfAbsent(indexId, id -> new ArrayList<>())
+            .add(resultSet.getString("column_name"));
+      }
+    }
+
+    Map<String, List<List<String>>> indexesByTable = new LinkedHashMap<>();
+    tables.forEach(
+        (indexId, table) ->
+            indexesByTable
+                .computeIfAbsent(table, t -> new ArrayList<>())
+                .add(columns.get(indexId)));
+    return indexesByTable;
+  }
+
+  /** 필요한 인덱스 (테이블과 앞쪽 키 컬럼) */
+  private record ExpectedIndex(String table, List<String> columns) {
+
+    ExpectedIndex(String table, String... columns) {
+      this(table, List.of(columns));
+    }
+
+    /** 인덱스의 앞쪽 키 컬럼이 같은지 확인 */
+    boolean isServedBy(List<String> indexColumns) {
+      return indexColumns.size() >= columns.size()
+          && indexColumns.subList(0, columns.size()).equals(columns);
+    }
+
+    @Override
+    public String toString() {
+      return table + "(" + String.join(", ", columns) + ")";
+    }
+  }
+}
@@ -3,6 +3,7 @@ package com.soon_my_room.soon_my_room.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.soon_my_room.soon_my_room.security.CustomUserDetailsService;
 import com.soon_my_room.soon_my_room.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -67,7 +68,7 @@ public class SecurityConfig {
     configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
     configuration.setAllowedHeaders(
         Arrays.asList("Authorization", "Cache-Control", "Content-Type"));
-    configuration.setExposedHeaders(Arrays.asList("Set-Cookie", "Authorization"));
+    configuration.setExposedHeaders(Arrays.asList("Set-Cookie", "Authorization", "X-Next-Cursor"));
     configuration.setAllowCredentials(true); // 쿠키 포함 요청 허용 (CORS with credentials)
     configuration.setMaxAge(3600L);
     UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -110,6 +111,9 @@ public class SecurityConfig {
         .authorizeHttpRequests(
             authz ->
                 authz
+                    // 비동기 응답(/api/rx)의 재디스패치 허용 (최초 요청에서 이미 인증됨)
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                    .permitAll()
                     // Swagger UI 접근 허용
                     .requestMatchers(
                         new AntPathRequestMatcher("/swagger-ui/**"),
@@ -117,6 +121,13 @@ public class SecurityConfig {
                         new AntPathRequestMatcher("/swagger-resources/**"),
                         new AntPathRequestMatcher("/webjars/**"))
                     .permitAll()
+                    // 직접 업로드와 이어 올리기는 발급받은/세션을 만든 사용자만 사용할 수 있도록 인증 필요
+                    .requestMatchers(
+                        new AntPathRequestMatcher("/api/image/presign"),
+                        new AntPathRequestMatcher("/api/image/confirm"),
+                        new AntPathRequestMatcher("/api/image/uploads"),
+                        new AntPathRequestMatcher("/api/image/uploads/**"))
+                    .authenticated()
                     // 이미지 업로드 API 접근 허용
                     .requestMatchers(new AntPathRequestMatcher("/api/image/**"))
                     .permitAll()
@@ -1,6 +1,7 @@
 package com.soon_my_room.soon_my_room.controller;
 
 import com.soon_my_room.soon_my_room.dto.CommentDTO;
+import com.soon_my_room.soon_my_room.security.AuthenticatedUser;
 import com.soon_my_room.soon_my_room.service.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -81,14 +82,16 @@ public class CommentController {
       @Parameter(description = "게시글 ID", required = true) @PathVariable("post_id") String postId,
       @Parameter(description = "페이지당 댓글 수") @RequestParam(required = false) Integer limit,
       @Parameter(description = "건너뛸 댓글 수") @RequestParam(required = false) Integer skip,
+      @Parameter(description = "다음 페이지 커서 (이전 응답의 next 값)") @RequestParam(required = false)
+          String cursor,
       Authentication authentication) {
 
     try {
-      UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-      String currentUserEmail = userDetails.getUsername();
+      AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+      String currentUserId = principal.getId();
 
       CommentDTO.CommentListResponse response =
-          commentService.getComments(postId, currentUserEmail, limit, skip);
+          commentService.getComments(postId, currentUserId, limit, skip, cursor);
       return ResponseEntity.ok(response);
     } catch (com.soon_my_room.soon_my_room.exception.ResourceNotFoundException e) {
       return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", e.getMessage()));
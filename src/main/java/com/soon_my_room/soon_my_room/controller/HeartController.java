@@ -1,6 +1,7 @@
 package com.soon_my_room.soon_my_room.controller;
 
 import com.soon_my_room.soon_my_room.dto.PostDTO;
+import com.soon_my_room.soon_my_room.security.AuthenticatedUser;
 import com.soon_my_room.soon_my_room.service.HeartService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,7 +14,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -44,10 +44,10 @@ public class HeartController {
       Authentication authentication) {
 
     try {
-      UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-      String currentUserEmail = userDetails.getUsername();
+      AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+      String currentUserId = principal.getId();
 
-      PostDTO.PostResponse response = heartService.addHeart(postId, currentUserEmail);
+      PostDTO.PostResponse response = heartService.addHeart(postId, currentUserId);
       return ResponseEntity.ok(response);
     } catch (com.soon_my_room.soon_my_room.exception.ResourceNotFoundException e) {
       return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", e.getMessage()));
@@ -70,10 +70,10 @@ public class HeartController {
       Authentication authentication) {
 
     try {
-      UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-      String currentUserEmail = userDetails.getUsername();
+      AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+      String currentUserId = principal.getId();
 
-      PostDTO.PostResponse response = heartService.removeHeart(postId, currentUserEmail);
+      PostDTO.PostResponse response = heartService.removeHeart(postId, currentUserId);
       return ResponseEntity.ok(response);
     } catch (com.soon_my_room.soon_my_room.exception.ResourceNotFoundException e) {
       return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", e.getMessage()));
@@ -1,18 +1,26 @@
 package com.soon_my_room.soon_my_room.controller;
 
 import com.soon_my_room.soon_my_room.dto.ImageResponseDTO;
-import com.soon_my_room.soon_my_room.service.S3StorageService;
+import com.soon_my_room.soon_my_room.dto.ImageUploadDTO;
+import com.soon_my_room.soon_my_room.security.AuthenticatedUser;
+import com.soon_my_room.soon_my_room.service.ResumableUploadService;
+import com.soon_my_room.soon_my_room.service.StorageService;
+import com.soon_my_room.soon_my_room.storage.ImageProxyCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -23,7 +31,9 @@ import org.springframework.web.multipart.MultipartFile;
 @Tag(name = "Image", description = "이미지 업로드 관련 API")
 public class ImageController {
 
-  private final S3StorageService storageService;
+  private final StorageService storageService;
+  private final ResumableUploadService resumableUploadService;
+  private final ImageProxyCache imageProxyCache;
 
   @Operation(summary = "단일 이미지 업로드", description = "프로필 이미지, 게시글 이미지 등 단일 이미지를 업로드합니다.")
   @ApiResponses(
@@ -71,12 +81,13 @@ public class ImageController {
     List<ImageResponseDTO> results =
         storageService.uploadMultipleFiles(files, request.getHeader("Referer"));
 
-    // 에러 체크
-    boolean hasError =
-        results.stream()
-            .anyMatch(result -> result.getError() != null && !result.getError().isEmpty());
+    // 에러 체크 (모든 파일이 실패한 경우에만 요청 실패, 일부 실패는 파일별 error로 전달)
+    boolean allFailed =
+        !results.isEmpty()
+            && results.stream()
+                .allMatch(result -> result.getError() != null && !result.getError().isEmpty());
 
-    if (hasError) {
+    if (allFailed) {
       String errorMessage =
           results.stream()
               .filter(result -> result.getError() != null && !result.getError().isEmpty())
@@ -90,4 +101,164 @@ public class ImageController {
     log.info("다중 이미지 업로드 성공: {} 개 파일", results.size());
     return ResponseEntity.ok(results);
   }
+
+  @Operation(
+      summary = "직접 업로드 URL 발급",
+      description = "스토리지에 직접 이미지를 업로드할 수 있는 짧은 유효 기간의 PUT URL을 발급합니다.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "발급 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청(이미지 파일이 아니거나, 크기가 너무 큰 경우)"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+      })
+  @PostMapping("/presign")
+  public ResponseEntity<ImageUploadDTO.PresignResponse> createPresignedUpload(
+      @Valid @RequestBody ImageUploadDTO.PresignRequest presignRequest,
+      HttpServletRequest request,
+      Authentication authentication) {
+    AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+    return ResponseEntity.ok(
+        storageService.createPresignedUpload(
+            presignRequest, request.getHeader("Referer"), principal.getId()));
+  }
+
+  @Operation(
+      summary = "직접 업로드 확인",
+      description = "직접 업로드한 이미지의 크기와 형식을 확인합니다. JPEG, PNG는 메타데이터를 제거하기 전이므로 이미지 URL 없이 경로만 반환합니다.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "확인 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청(이미지 파일이 아니거나, 크기가 너무 큰 경우)"),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "403", description = "다른 사용자에게 발급한 업로드"),
+        @ApiResponse(responseCode = "404", description = "업로드된 파일이 없음")
+      })
+  @PostMapping("/confirm")
+  public ResponseEntity<ImageResponseDTO> confirmUpload(
+      @Valid @RequestBody ImageUploadDTO.ConfirmRequest confirmRequest,
+      Authentication authentication) {
+    AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+    ImageResponseDTO result = storageService.confirmUpload(confirmRequest, principal.getId());
+
+    log.info("직접 업로드 확인: {}", result.getFilename());
+    return ResponseEntity.ok(result);
+  }
+
+  @Operation(
+      summary = "이어 올리기 세션 생성",
+      description = "큰 이미지를 여러 청크로 나누어 올리는 세션을 만듭니다. 응답의 chunkSize 크기로 청크를 나누어 올립니다.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "생성 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청(이미지 파일이 아니거나, 크기가 너무 큰 경우)")
+      })
+  @PostMapping("/uploads")
+  public ResponseEntity<ImageUploadDTO.UploadSessionResponse> createUploadSession(
+      @Valid @RequestBody ImageUploadDTO.PresignRequest sessionRequest,
+      HttpServletRequest request,
+      Authentication authentication) {
+    AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+    return ResponseEntity.ok(
+        resumableUploadService.createSession(
+            sessionRequest, request.getHeader("Referer"), principal.getId()));
+  }
+
+  @Operation(
+      summary = "이어 올리기 위치 조회",
+      description = "저장이 끝난 위치(offset)를 조회합니다. 연결이 끊긴 뒤 이 위치부터 다시 올립니다.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "403", description = "다른 사용자의 세션"),
+        @ApiResponse(responseCode = "404", description = "세션이 없거나 만료됨")
+      })
+  @GetMapping("/uploads/{uploadId}")
+  public ResponseEntity<ImageUploadDTO.UploadSessionResponse> getUploadSession(
+      @PathVariable String uploadId, Authentication authentication) {
+    AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+    return ResponseEntity.ok(resumableUploadService.getSession(uploadId, principal.getId()));
+  }
+
+  @Operation(
+      summary = "청크 업로드",
+      description = "offset부터 chunkSize 바이트(마지막 청크는 남은 크기)를 요청 본문으로 올립니다.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "저장 성공"),
+        @ApiResponse(responseCode = "400", description = "청크 크기가 맞지 않음"),
+        @ApiResponse(responseCode = "403", description = "다른 사용자의 세션"),
+        @ApiResponse(responseCode = "404", description = "세션이 없거나 만료됨"),
+        @ApiResponse(responseCode = "409", description = "업로드 위치가 일치하지 않음")
+      })
+  @PutMapping("/uploads/{uploadId}")
+  public ResponseEntity<ImageUploadDTO.UploadSessionResponse> uploadChunk(
+      @PathVariable String uploadId,
+      @RequestParam long offset,
+      HttpServletRequest request,
+      Authentication authentication)
+      throws IOException {
+    AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+    return ResponseEntity.ok(
+        resumableUploadService.uploadChunk(
+            uploadId,
+            principal.getId(),
+            offset,
+            request.getInputStream(),
+            request.getContentLengthLong()));
+  }
+
+  @Operation(summary = "이어 올리기 완료", description = "모든 청크를 올린 뒤 이미지를 완성하고 업로드 결과를 반환합니다.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "완료 성공"),
+        @ApiResponse(responseCode = "400", description = "올리지 않은 청크가 있거나 이미지 파일이 아닌 경우"),
+        @ApiResponse(responseCode = "403", description = "다른 사용자의 세션"),
+        @ApiResponse(responseCode = "404", description = "세션이 없거나 만료됨")
+      })
+  @PostMapping("/uploads/{uploadId}/complete")
+  public ResponseEntity<ImageResponseDTO> completeUploadSession(
+      @PathVariable String uploadId, Authentication authentication) throws IOException {
+    AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+    ImageResponseDTO result = resumableUploadService.completeSession(uploadId, principal.getId());
+
+    log.info("이어 올리기 완료: {}", result.getFilename());
+    return ResponseEntity.ok(result);
+  }
+
+  @Operation(summary = "이어 올리기 취소", description = "세션을 취소하고 올린 청크를 삭제합니다.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "204", description = "취소 성공"),
+        @ApiResponse(responseCode = "403", description = "다른 사용자의 세션"),
+        @ApiResponse(responseCode = "404", description = "세션이 없거나 만료됨")
+      })
+  @DeleteMapping("/uploads/{uploadId}")
+  public ResponseEntity<Void> abortUploadSession(
+      @PathVariable String uploadId, Authentication authentication) {
+    AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+    resumableUploadService.abortSession(uploadId, principal.getId());
+    return ResponseEntity.noContent().build();
+  }
+
+  @Operation(
+      summary = "이미지 조회 (프록시)",
+      description = "저장소 이미지를 고정 URL로 조회합니다. 자주 읽는 이미지는 서버 디스크 캐시에서 응답합니다. (Range, ETag 지원)")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "206", description = "부분 조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음"),
+        @ApiResponse(responseCode = "403", description = "유효하지 않은 URL"),
+        @ApiResponse(responseCode = "404", description = "이미지가 없음")
+      })
+  @GetMapping("/proxy/{bucketName}/{key}")
+  public void getProxiedImage(
+      @PathVariable String bucketName,
+      @PathVariable String key,
+      @RequestParam(required = false) String signature,
+      HttpServletRequest request,
+      HttpServletResponse response)
+      throws IOException {
+    imageProxyCache.serve(bucketName, key, signature, request, response);
+  }
 }
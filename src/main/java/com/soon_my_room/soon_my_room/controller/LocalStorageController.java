@@ -0,0 +1,64 @@
+package com.soon_my_room.soon_my_room.controller;
+
+import com.soon_my_room.soon_my_room.storage.LocalFileServer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/** 로컬 저장소 사용 시 서명된 URL로 이미지를 읽고 직접 업로드하는 API */
+@RestController
+@RequestMapping("/api/image")
+@ConditionalOnProperty(name = "app.storage.backend", havingValue = "local")
+@RequiredArgsConstructor
+@Tag(name = "Image", description = "이미지 업로드 관련 API")
+public class LocalStorageController {
+
+  private final LocalFileServer localFileServer;
+
+  @Operation(summary = "이미지 조회", description = "서명된 URL로 로컬 저장소의 이미지를 조회합니다. (Range, ETag 지원)")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "206", description = "부분 조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음"),
+        @ApiResponse(responseCode = "403", description = "유효하지 않거나 만료된 URL"),
+        @ApiResponse(responseCode = "404", description = "이미지가 없음")
+      })
+  @GetMapping("/{bucketName}/{key}")
+  public void getObject(
+      @PathVariable String bucketName,
+      @PathVariable String key,
+      @RequestParam long expires,
+      @RequestParam String signature,
+      HttpServletRequest request,
+      HttpServletResponse response)
+      throws IOException {
+    localFileServer.serve(bucketName, key, expires, signature, request, response);
+  }
+
+  @Operation(summary = "이미지 직접 업로드", description = "/api/image/presign으로 발급받은 URL로 이미지를 업로드합니다.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "업로드 성공"),
+        @ApiResponse(responseCode = "403", description = "유효하지 않거나 만료된 URL")
+      })
+  @PutMapping("/{bucketName}/{key}")
+  public ResponseEntity<Void> putObject(
+      @PathVariable String bucketName,
+      @PathVariable String key,
+      @RequestParam long expires,
+      @RequestParam String signature,
+      HttpServletRequest request)
+      throws IOException {
+    localFileServer.receive(bucketName, key, expires, signature, request);
+    return ResponseEntity.ok().build();
+  }
+}
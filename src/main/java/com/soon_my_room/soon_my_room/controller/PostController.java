@@ -2,6 +2,7 @@ package com.soon_my_room.soon_my_room.controller;
 
 import com.soon_my_room.soon_my_room.dto.PostDTO;
 import com.soon_my_room.soon_my_room.repository.UserRepository;
+import com.soon_my_room.soon_my_room.security.AuthenticatedUser;
 import com.soon_my_room.soon_my_room.service.PostService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -77,12 +78,15 @@ public class PostController {
   public ResponseEntity<?> getFeedPosts(
       @Parameter(description = "페이지당 게시글 수") @RequestParam(required = false) Integer limit,
       @Parameter(description = "건너뛸 게시글 수") @RequestParam(required = false) Integer skip,
+      @Parameter(description = "다음 페이지 커서 (이전 응답의 next 값)") @RequestParam(required = false)
+          String cursor,
       Authentication authentication) {
 
-    UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-    String currentUserEmail = userDetails.getUsername();
+    AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+    String currentUserId = principal.getId();
 
-    PostDTO.PostListResponse response = postService.getFeedPosts(currentUserEmail, limit, skip);
+    PostDTO.PostListResponse response =
+        postService.getFeedPosts(currentUserId, limit, skip, cursor);
     return ResponseEntity.ok(response);
   }
 
@@ -101,13 +105,15 @@ public class PostController {
       @PathVariable String accountname,
       @Parameter(description = "페이지당 게시글 수") @RequestParam(required = false) Integer limit,
       @Parameter(description = "건너뛸 게시글 수") @RequestParam(required = false) Integer skip,
+      @Parameter(description = "다음 페이지 커서 (이전 응답의 next 값)") @RequestParam(required = false)
+          String cursor,
       Authentication authentication) {
     System.out.println("[시작]");
-    UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-    String currentUserEmail = userDetails.getUsername();
+    AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+    String currentUserId = principal.getId();
 
     PostDTO.PostResponse response =
-        postService.getUserPosts(accountname, currentUserEmail, limit, skip);
+        postService.getUserPosts(accountname, currentUserId, limit, skip, cursor);
 
     System.out.println("[종료]");
     return ResponseEntity.ok(response);
@@ -129,10 +135,10 @@ public class PostController {
       Authentication authentication) {
 
     try {
-      UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-      String currentUserEmail = userDetails.getUsername();
+      AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+      String currentUserId = principal.getId();
 
-      PostDTO.PostResponse response = postService.getPostDetail(postId, currentUserEmail);
+      PostDTO.PostResponse response = postService.getPostDetail(postId, currentUserId);
       return ResponseEntity.ok(response);
     } catch (com.soon_my_room.soon_my_room.exception.ResourceNotFoundException e) {
       return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", e.getMessage()));
@@ -1,6 +1,7 @@
 package com.soon_my_room.soon_my_room.controller;
 
 import com.soon_my_room.soon_my_room.dto.ProductDTO;
+import com.soon_my_room.soon_my_room.security.AuthenticatedUser;
 import com.soon_my_room.soon_my_room.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -77,14 +78,16 @@ public class ProductController {
       @Parameter(description = "계정명", required = true) @PathVariable String accountname,
       @Parameter(description = "페이지당 상품 수") @RequestParam(required = false) Integer limit,
       @Parameter(description = "건너뛸 상품 수") @RequestParam(required = false) Integer skip,
+      @Parameter(description = "다음 페이지 커서 (이전 응답의 next 값)") @RequestParam(required = false)
+          String cursor,
       Authentication authentication) {
 
     try {
-      UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-      String currentUserEmail = userDetails.getUsername();
+      AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+      String currentUserId = principal.getId();
 
       ProductDTO.ProductListResponse response =
-          productService.getUserProducts(accountname, currentUserEmail, limit, skip);
+          productService.getUserProducts(accountname, currentUserId, limit, skip, cursor);
       return ResponseEntity.ok(response);
     } catch (com.soon_my_room.soon_my_room.exception.ResourceNotFoundException e) {
       return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -109,11 +112,11 @@ public class ProductController {
       Authentication authentication) {
 
     try {
-      UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-      String currentUserEmail = userDetails.getUsername();
+      AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+      String currentUserId = principal.getId();
 
       ProductDTO.ProductResponse response =
-          productService.getProductDetail(productId, currentUserEmail);
+          productService.getProductDetail(productId, currentUserId);
       return ResponseEntity.ok(response);
     } catch (com.soon_my_room.soon_my_room.exception.ResourceNotFoundException e) {
       return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", "등록된 상품이 없습니다."));
@@ -2,8 +2,7 @@ package com.soon_my_room.soon_my_room.controller;
 
 import com.soon_my_room.soon_my_room.dto.ProfileDTO;
 import com.soon_my_room.soon_my_room.dto.UserRequestDTO;
-import com.soon_my_room.soon_my_room.model.User;
-import com.soon_my_room.soon_my_room.repository.UserRepository;
+import com.soon_my_room.soon_my_room.security.AuthenticatedUser;
 import com.soon_my_room.soon_my_room.service.FollowService;
 import com.soon_my_room.soon_my_room.service.ProfileService;
 import com.soon_my_room.soon_my_room.service.UserService;
@@ -27,9 +26,10 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Profile", description = "프로필 및 팔로우 관련 API")
 public class ProfileController {
 
+  private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
   private final FollowService followService;
   private final ProfileService profileService;
-  private final UserRepository userRepository;
   private final UserService userService;
 
   @Operation(summary = "프로필 조회", description = "특정 사용자의 프로필을 조회합니다.")
@@ -41,19 +41,18 @@ public class ProfileController {
       })
   @GetMapping("/profile/{accountname}")
   public ResponseEntity<ProfileDTO.ProfileResponse> getProfile(
-      @PathVariable String accountname, Authentication authentication) {
-    UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-    String currentUserEmail = userDetails.getUsername();
-    User currentUser =
-        userRepository
-            .findByEmail(currentUserEmail)
-            .orElseThrow(
-                () ->
-                    new com.soon_my_room.soon_my_room.exception.ResourceNotFoundException(
-                        "사용자를 찾을 수 없습니다."));
+      @PathVariable String accountname,
+      @Parameter(description = "프로필 형식 (compact: ID 목록 제외, full: 전체)")
+          @RequestParam(required = false)
+          String profile,
+      Authentication authentication) {
+    AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
 
     ProfileDTO.ProfileResponse response =
-        profileService.getProfile(accountname, currentUser.getId());
+        profileService.getProfile(
+            accountname,
+            principal.getId(),
+            ProfileDTO.View.from(profile, ProfileDTO.View.FULL));
     return ResponseEntity.ok(response);
   }
 
@@ -94,18 +93,10 @@ public class ProfileController {
   public ResponseEntity<?> followUser(
       @PathVariable String accountname, Authentication authentication) {
     try {
-      UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-      String currentUserEmail = userDetails.getUsername();
-      User currentUser =
-          userRepository
-              .findByEmail(currentUserEmail)
-              .orElseThrow(
-                  () ->
-                      new com.soon_my_room.soon_my_room.exception.ResourceNotFoundException(
-                          "사용자를 찾을 수 없습니다."));
+      AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
 
       ProfileDTO.ProfileResponse response =
-          followService.followUser(currentUser.getId(), accountname);
+          followService.followUser(principal.getId(), accountname);
       return ResponseEntity.ok(response);
     } catch (IllegalArgumentException e) {
       return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
@@ -122,18 +113,10 @@ public class ProfileController {
   @DeleteMapping("/profile/{accountname}/unfollow")
   public ResponseEntity<ProfileDTO.ProfileResponse> unfollowUser(
       @PathVariable String accountname, Authentication authentication) {
-    UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-    String currentUserEmail = userDetails.getUsername();
-    User currentUser =
-        userRepository
-            .findByEmail(currentUserEmail)
-            .orElseThrow(
-                () ->
-                    new com.soon_my_room.soon_my_room.exception.ResourceNotFoundException(
-                        "사용자를 찾을 수 없습니다."));
+    AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
 
     ProfileDTO.ProfileResponse response =
-        followService.unfollowUser(currentUser.getId(), accountname);
+        followService.unfollowUser(principal.getId(), accountname);
     return ResponseEntity.ok(response);
   }
 
@@ -148,21 +131,25 @@ public class ProfileController {
       @PathVariable String accountname,
       @Parameter(description = "페이지당 항목 수") @RequestParam(required = false) Integer limit,
       @Parameter(description = "건너뛸 항목 수") @RequestParam(required = false) Integer skip,
+      @Parameter(description = "다음 페이지 커서 (이전 응답의 X-Next-Cursor 헤더 값)")
+          @RequestParam(required = false)
+          String cursor,
+      @Parameter(description = "프로필 형식 (compact: ID 목록 제외, full: 전체)")
+          @RequestParam(required = false)
+          String profile,
       Authentication authentication) {
 
-    UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-    String currentUserEmail = userDetails.getUsername();
-    User currentUser =
-        userRepository
-            .findByEmail(currentUserEmail)
-            .orElseThrow(
-                () ->
-                    new com.soon_my_room.soon_my_room.exception.ResourceNotFoundException(
-                        "사용자를 찾을 수 없습니다."));
-
-    List<ProfileDTO.Profile> followers =
-        followService.getFollowerProfiles(accountname, currentUser.getId(), limit, skip);
-    return ResponseEntity.ok(followers);
+    AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+
+    ProfileDTO.ProfilePage page =
+        followService.getFollowerProfiles(
+            accountname,
+            principal.getId(),
+            limit,
+            skip,
+            cursor,
+            ProfileDTO.View.from(profile, ProfileDTO.View.FULL));
+    return toProfileListResponse(page);
   }
 
   @Operation(summary = "팔로잉 목록 조회", description = "특정 사용자가 팔로우하는 사용자 목록을 조회합니다.")
@@ -176,20 +163,62 @@ public class ProfileController {
       @PathVariable String accountname,
       @Parameter(description = "페이지당 항목 수") @RequestParam(required = false) Integer limit,
       @Parameter(description = "건너뛸 항목 수") @RequestParam(required = false) Integer skip,
+      @Parameter(description = "다음 페이지 커서 (이전 응답의 X-Next-Cursor 헤더 값)")
+          @RequestParam(required = false)
+          String cursor,
+      @Parameter(description = "프로필 형식 (compact: ID 목록 제외, full: 전체)")
+          @RequestParam(required = false)
+          String profile,
       Authentication authentication) {
 
-    UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-    String currentUserEmail = userDetails.getUsername();
-    User currentUser =
-        userRepository
-            .findByEmail(currentUserEmail)
-            .orElseThrow(
-                () ->
-                    new com.soon_my_room.soon_my_room.exception.ResourceNotFoundException(
-                        "사용자를 찾을 수 없습니다."));
-
-    List<ProfileDTO.Profile> following =
-        followService.getFollowingProfiles(accountname, currentUser.getId(), limit, skip);
-    return ResponseEntity.ok(following);
+    AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+
+    ProfileDTO.ProfilePage page =
+        followService.getFollowingProfiles(
+            accountname,
+            principal.getId(),
+            limit,
+            skip,
+            cursor,
+            ProfileDTO.View.from(profile, ProfileDTO.View.FULL));
+    return toProfileListResponse(page);
+  }
+
+  @Operation(summary = "팔로워 ID 목록 조회", description = "특정 사용자의 팔로워 ID 목록을 최근 팔로우 순으로 조회합니다.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "404", description = "계정이 존재하지 않음")
+      })
+  @GetMapping("/profile/{accountname}/follower/ids")
+  public ResponseEntity<ProfileDTO.IdListResponse> getFollowerIds(
+      @PathVariable String accountname,
+      @Parameter(description = "페이지당 항목 수") @RequestParam(required = false) Integer limit,
+      @Parameter(description = "건너뛸 항목 수") @RequestParam(required = false) Integer skip) {
+    return ResponseEntity.ok(followService.getFollowerIds(accountname, limit, skip));
+  }
+
+  @Operation(summary = "팔로잉 ID 목록 조회", description = "특정 사용자가 팔로우하는 사용자 ID 목록을 최근 팔로우 순으로 조회합니다.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "404", description = "계정이 존재하지 않음")
+      })
+  @GetMapping("/profile/{accountname}/following/ids")
+  public ResponseEntity<ProfileDTO.IdListResponse> getFollowingIds(
+      @PathVariable String accountname,
+      @Parameter(description = "페이지당 항목 수") @RequestParam(required = false) Integer limit,
+      @Parameter(description = "건너뛸 항목 수") @RequestParam(required = false) Integer skip) {
+    return ResponseEntity.ok(followService.getFollowingIds(accountname, limit, skip));
+  }
+
+  /** 프로필 목록 응답 (다음 페이지 커서는 헤더로 전달하여 응답 본문 형식 유지) */
+  private ResponseEntity<List<ProfileDTO.Profile>> toProfileListResponse(
+      ProfileDTO.ProfilePage page) {
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+    if (page.getNext() != null) {
+      response.header(NEXT_CURSOR_HEADER, page.getNext());
+    }
+    return response.body(page.getProfiles());
   }
 }
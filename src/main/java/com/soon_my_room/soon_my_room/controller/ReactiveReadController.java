@@ -0,0 +1,97 @@
+package com.soon_my_room.soon_my_room.controller;
+
+import com.soon_my_room.soon_my_room.dto.PostDTO;
+import com.soon_my_room.soon_my_room.dto.ProfileDTO;
+import com.soon_my_room.soon_my_room.security.AuthenticatedUser;
+import com.soon_my_room.soon_my_room.service.ReactiveReadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * 조회가 많은 API의 논블로킹 버전입니다. 응답 형식은 같은 경로의 기존 API와 같습니다.
+ *
+ * <p>DB 조회(R2DBC)를 기다리는 동안 요청 스레드를 반환하므로, 스레드 풀을 늘리지 않고도 더 많은 동시 조회를 처리합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/rx")
+@Tag(name = "Reactive", description = "논블로킹 조회 API (피드, 게시글 상세, 프로필)")
+public class ReactiveReadController {
+
+  private final ReactiveReadService reactiveReadService;
+
+  @Operation(
+      summary = "팔로잉 게시글 목록(피드)",
+      description = "/api/post/feed와 같은 응답을 논블로킹으로 조회합니다.",
+      security = {@SecurityRequirement(name = "bearerAuth")})
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+      })
+  @GetMapping("/post/feed")
+  public Mono<PostDTO.PostListResponse> getFeedPosts(
+      @Parameter(description = "페이지당 게시글 수") @RequestParam(required = false) Integer limit,
+      @Parameter(description = "건너뛸 게시글 수") @RequestParam(required = false) Integer skip,
+      @Parameter(description = "다음 페이지 커서 (이전 응답의 next 값)") @RequestParam(required = false)
+          String cursor,
+      Authentication authentication) {
+    AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+
+    return reactiveReadService.getFeedPosts(principal.getId(), limit, skip, cursor);
+  }
+
+  @Operation(
+      summary = "게시글 상세 조회",
+      description = "/api/post/{post_id}와 같은 응답을 논블로킹으로 조회합니다.",
+      security = {@SecurityRequirement(name = "bearerAuth")})
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "404", description = "게시글이 존재하지 않음")
+      })
+  @GetMapping("/post/{post_id}")
+  public Mono<PostDTO.PostResponse> getPostDetail(
+      @Parameter(description = "게시글 ID", required = true) @PathVariable("post_id") String postId,
+      Authentication authentication) {
+    AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+
+    return reactiveReadService.getPostDetail(postId, principal.getId());
+  }
+
+  @Operation(
+      summary = "프로필 조회",
+      description = "/api/profile/{accountname}과 같은 응답을 논블로킹으로 조회합니다.",
+      security = {@SecurityRequirement(name = "bearerAuth")})
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "404", description = "계정이 존재하지 않음")
+      })
+  @GetMapping("/profile/{accountname}")
+  public Mono<ProfileDTO.ProfileResponse> getProfile(
+      @PathVariable String accountname,
+      @Parameter(description = "프로필 형식 (compact: ID 목록 제외, full: 전체)")
+          @RequestParam(required = false)
+          String profile,
+      Authentication authentication) {
+    AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+
+    return reactiveReadService.getProfile(
+        accountname, principal.getId(), ProfileDTO.View.from(profile, ProfileDTO.View.FULL));
+  }
+}
@@ -1,5 +1,6 @@
 package com.soon_my_room.soon_my_room.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.soon_my_room.soon_my_room.model.Comment;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
@@ -55,6 +56,10 @@ public class CommentDTO {
   @AllArgsConstructor
   public static class CommentListResponse {
     private List<CommentDetail> comment;
+
+    // 다음 페이지 커서
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String next;
   }
 
   @Data
@@ -1,5 +1,6 @@
 package com.soon_my_room.soon_my_room.dto;
 
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,6 +21,7 @@ public class ImageResponseDTO {
   private String publicUrl; // 이미지 접근 URL
   private String imageSrc; // 이미지 접근 URL
   private String bucketName; // 버킷 이름
+  private Map<String, String> variants; // 너비별 변형 이미지 경로 (버킷/키, 업로드 후 비동기 생성)
   private long size;
   private String error; // 에러 메시지
 }
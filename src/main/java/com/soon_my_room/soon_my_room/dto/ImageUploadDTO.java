@@ -0,0 +1,76 @@
+package com.soon_my_room.soon_my_room.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+public class ImageUploadDTO {
+
+  /** 직접 업로드 URL 발급 요청 */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class PresignRequest {
+    @NotBlank(message = "파일명을 입력해주세요.")
+    private String filename;
+
+    @NotBlank(message = "파일 형식을 입력해주세요.")
+    private String contentType;
+
+    @NotNull(message = "파일 크기를 입력해주세요.")
+    @Positive(message = "빈 파일은 업로드할 수 없습니다.")
+    private Long size;
+  }
+
+  /** 직접 업로드 URL 발급 응답 (클라이언트는 headers를 포함해 uploadUrl로 PUT 요청) */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class PresignResponse {
+    private String uploadUrl;
+    private String method;
+    private Map<String, String> headers;
+    private String bucketName;
+    private String filename;
+    private Instant expiresAt;
+  }
+
+  /** 직접 업로드 완료 확인 요청 */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class ConfirmRequest {
+    @NotBlank(message = "버킷 이름을 입력해주세요.")
+    private String bucketName;
+
+    @NotBlank(message = "파일명을 입력해주세요.")
+    private String filename;
+
+    private String originalname;
+  }
+
+  /** 이어 올리기 업로드 세션 상태 (클라이언트는 offset부터 chunkSize 크기의 청크를 PUT 요청) */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class UploadSessionResponse {
+    private String uploadId;
+    private String bucketName;
+    private String filename;
+    private long size;
+    private long offset;
+    private int chunkSize;
+    private LocalDateTime expiresAt;
+  }
+}
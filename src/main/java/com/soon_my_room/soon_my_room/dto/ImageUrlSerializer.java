@@ -0,0 +1,24 @@
+package com.soon_my_room.soon_my_room.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.soon_my_room.soon_my_room.service.ImageUrlResolver;
+import java.io.IOException;
+
+/** 저장된 이미지 참조를 응답 직렬화 시점에 서명된 URL로 변환합니다. */
+public class ImageUrlSerializer extends StdSerializer<String> {
+
+  private final ImageUrlResolver imageUrlResolver;
+
+  public ImageUrlSerializer(ImageUrlResolver imageUrlResolver) {
+    super(String.class);
+    this.imageUrlResolver = imageUrlResolver;
+  }
+
+  @Override
+  public void serialize(String value, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    gen.writeString(imageUrlResolver.toUrl(value));
+  }
+}
@@ -0,0 +1,26 @@
+package com.soon_my_room.soon_my_room.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 원본 이미지의 크기, 블러해시 자리표시자와 너비별 변형 이미지 */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageVariantsDTO {
+  @JsonSerialize(using = ImageUrlSerializer.class)
+  private String image; // 원본 이미지 URL
+
+  private Integer width;
+  private Integer height;
+  private String blurhash;
+
+  // 너비별 변형 이미지 URL (예: "150" → 썸네일)
+  @JsonSerialize(contentUsing = ImageUrlSerializer.class)
+  private Map<String, String> variants;
+}
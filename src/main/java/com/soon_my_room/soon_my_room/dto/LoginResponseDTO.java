@@ -1,5 +1,6 @@
 package com.soon_my_room.soon_my_room.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.soon_my_room.soon_my_room.model.User;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,7 +24,10 @@ public class LoginResponseDTO {
     private String email;
     private String accountname;
     private String intro;
+
+    @JsonSerialize(using = ImageUrlSerializer.class)
     private String image;
+
     private String token;
   }
 
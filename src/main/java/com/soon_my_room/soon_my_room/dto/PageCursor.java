@@ -0,0 +1,86 @@
+package com.soon_my_room.soon_my_room.dto;
+
+import com.soon_my_room.soon_my_room.model.UuidStringType;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 키셋(커서) 페이지네이션에 사용하는 커서입니다.
+ *
+ * <p>마지막으로 조회한 항목의 (createdAt, id)를 불투명한 문자열로 인코딩하며, 다음 페이지는 {@code (created_at, id) < (?, ?)}
+ * 조건으로 조회합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PageCursor {
+
+  private static final String DELIMITER = "|";
+
+  private final LocalDateTime createdAt;
+  private final String id;
+
+  /** 커서를 문자열로 인코딩 */
+  public String encode() {
+    String raw = createdAt.toString() + DELIMITER + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 커서 문자열을 디코딩합니다.
+   *
+   * @param cursor 인코딩된 커서 (없으면 null)
+   * @return 디코딩된 커서, 커서가 없는 경우 null
+   * @throws IllegalArgumentException 유효하지 않은 커서인 경우
+   */
+  public static PageCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int delimiterIndex = raw.indexOf(DELIMITER);
+      if (delimiterIndex <= 0 || delimiterIndex == raw.length() - 1) {
+        throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+      }
+
+      // ID는 uuid 컬럼과 비교하므로 UUID 형식만 허용
+      String id = raw.substring(delimiterIndex + 1);
+      if (!UuidStringType.isUuid(id)) {
+        throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+      }
+
+      return new PageCursor(LocalDateTime.parse(raw.substring(0, delimiterIndex)), id);
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+    }
+  }
+
+  /**
+   * 조회 결과로부터 다음 페이지 커서를 생성합니다.
+   *
+   * @param items 조회된 항목 목록 (createdAt DESC, id DESC 정렬)
+   * @param limit 페이지 크기
+   * @return 다음 페이지 커서, 마지막 페이지인 경우 null
+   */
+  public static <T> String next(
+      List<T> items,
+      int limit,
+      Function<T, LocalDateTime> createdAtExtractor,
+      Function<T, String> idExtractor) {
+    if (items.isEmpty() || items.size() < limit) {
+      return null;
+    }
+
+    T last = items.get(items.size() - 1);
+    return new PageCursor(createdAtExtractor.apply(last), idExtractor.apply(last)).encode();
+  }
+}
@@ -1,5 +1,7 @@
 package com.soon_my_room.soon_my_room.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.soon_my_room.soon_my_room.model.Post;
 import jakarta.validation.Valid;
 import java.time.LocalDateTime;
@@ -36,6 +38,10 @@ public class PostDTO {
   public static class PostResponse {
     private List<PostDetail> post;
 
+    // 다음 페이지 커서 (목록 조회 시)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String next;
+
     public static PostResponse fromEntity(
         Post post, boolean hearted, int heartCount, int commentCount, ProfileDTO.Profile author) {
       PostDetail postDetail =
@@ -62,9 +68,17 @@ public class PostDTO {
   public static class PostListResponse {
     private List<PostDetail> posts;
 
+    // 다음 페이지 커서
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String next;
+
     public static PostListResponse fromEntities(List<PostDetail> postDetails) {
       return PostListResponse.builder().posts(postDetails).build();
     }
+
+    public static PostListResponse fromEntities(List<PostDetail> postDetails, String next) {
+      return PostListResponse.builder().posts(postDetails).next(next).build();
+    }
   }
 
   @Data
@@ -74,7 +88,15 @@ public class PostDTO {
   public static class PostDetail {
     private String id;
     private String content;
+
+    // 저장된 이미지 참조(버킷/키)는 응답 시 서명된 URL로 변환
+    @JsonSerialize(using = ImageUrlSerializer.class)
     private String image;
+
+    // 이미지 순서대로의 크기/블러해시/너비별 변형 (변형 생성이 끝난 이미지만)
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<ImageVariantsDTO> imageVariants;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private boolean hearted;
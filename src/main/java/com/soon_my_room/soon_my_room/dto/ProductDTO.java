@@ -1,5 +1,7 @@
 package com.soon_my_room.soon_my_room.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.soon_my_room.soon_my_room.model.Product;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
@@ -68,12 +70,25 @@ public class ProductDTO {
     private int data;
     private List<ProductDetail> product;
 
+    // 다음 페이지 커서
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String next;
+
     public static ProductListResponse fromEntities(List<ProductDetail> productDetails) {
       return ProductListResponse.builder()
           .data(productDetails.size())
           .product(productDetails)
           .build();
     }
+
+    public static ProductListResponse fromEntities(
+        List<ProductDetail> productDetails, String next) {
+      return ProductListResponse.builder()
+          .data(productDetails.size())
+          .product(productDetails)
+          .next(next)
+          .build();
+    }
   }
 
   @Data
@@ -85,7 +100,10 @@ public class ProductDTO {
     private String itemName;
     private int price;
     private String link;
+
+    @JsonSerialize(using = ImageUrlSerializer.class)
     private String itemImage;
+
     private ProfileDTO.Profile author;
   }
 }
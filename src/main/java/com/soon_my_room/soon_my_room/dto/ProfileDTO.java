@@ -1,11 +1,15 @@
 package com.soon_my_room.soon_my_room.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.soon_my_room.soon_my_room.model.User;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
 
 public class ProfileDTO {
 
@@ -18,7 +22,7 @@ public class ProfileDTO {
   }
 
   @Data
-  @Builder
+  @SuperBuilder
   @NoArgsConstructor
   @AllArgsConstructor
   public static class Profile {
@@ -26,12 +30,22 @@ public class ProfileDTO {
     private String username;
     private String accountname;
     private String intro;
+
+    @JsonSerialize(using = ImageUrlSerializer.class)
     private String image;
+
+    // 프로필 이미지 크기/블러해시/너비별 변형 (변형 생성 전에는 생략)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ImageVariantsDTO imageVariants;
+
     private boolean isfollow;
+
     private List<String> following;
     private List<String> follower;
+
     private int followerCount;
     private int followingCount;
+    private int postCount;
 
     public static Profile fromEntity(
         User user,
@@ -51,7 +65,74 @@ public class ProfileDTO {
           .follower(followers)
           .followerCount(followerCount)
           .followingCount(followingCount)
+          .postCount(user.getPostCount())
           .build();
     }
+
+    /** 간단 프로필 (팔로워/팔로잉 ID 목록과 소개 제외) */
+    public static Profile compactFromEntity(User user, boolean isFollowing) {
+      return CompactProfile.builder()
+          .id(user.getId())
+          .username(user.getUsername())
+          .accountname(user.getAccountname())
+          .image(user.getImage())
+          .isfollow(isFollowing)
+          .followerCount(user.getFollowerCount())
+          .followingCount(user.getFollowingCount())
+          .postCount(user.getPostCount())
+          .build();
+    }
+  }
+
+  /**
+   * 간단 프로필 (게시글 작성자, 팔로워/팔로잉 목록 등)
+   *
+   * <p>소개와 팔로워/팔로잉 ID 목록은 응답에서 키까지 생략합니다. (전체 목록은 /profile/{accountname}/follower/ids 등으로 조회)
+   * 전체 프로필은 값이 없어도 키를 유지합니다.
+   */
+  @SuperBuilder
+  @NoArgsConstructor
+  @JsonIgnoreProperties({"intro", "following", "follower"})
+  public static class CompactProfile extends Profile {}
+
+  /** 프로필 응답 형식 */
+  public enum View {
+    // 팔로워/팔로잉 ID 목록과 소개를 제외한 프로필 카드
+    COMPACT,
+    // 팔로워/팔로잉 ID 목록을 포함한 전체 프로필
+    FULL;
+
+    /** 요청 파라미터(compact, full)로부터 변환 */
+    public static View from(String value, View defaultView) {
+      if (value == null || value.isBlank()) {
+        return defaultView;
+      }
+
+      for (View view : values()) {
+        if (view.name().equalsIgnoreCase(value.trim())) {
+          return view;
+        }
+      }
+
+      throw new IllegalArgumentException("유효하지 않은 프로필 형식입니다.");
+    }
+  }
+
+  /** 프로필 목록 페이지 (다음 페이지 커서는 X-Next-Cursor 헤더로 전달) */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class ProfilePage {
+    private List<Profile> profiles;
+    private String next;
+  }
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class IdListResponse {
+    private List<String> ids;
   }
 }
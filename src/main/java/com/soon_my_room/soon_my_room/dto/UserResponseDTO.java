@@ -1,5 +1,6 @@
 package com.soon_my_room.soon_my_room.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.soon_my_room.soon_my_room.model.User;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -27,6 +28,8 @@ public class UserResponseDTO {
       private String email;
       private String accountname;
       private String intro;
+
+      @JsonSerialize(using = ImageUrlSerializer.class)
       private String image;
     }
 
@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Type;
 
 @Entity
 @Table(name = "follows")
@@ -20,10 +21,12 @@ public class Follow {
 
   @Id
   @Column(name = "follower_id")
+  @Type(UuidStringType.class)
   private String followerId;
 
   @Id
   @Column(name = "following_id")
+  @Type(UuidStringType.class)
   private String followingId;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Type;
 
 @Entity
 @Table(name = "hearts")
@@ -20,10 +21,12 @@ public class Heart {
 
   @Id
   @Column(name = "user_id")
+  @Type(UuidStringType.class)
   private String userId;
 
   @Id
   @Column(name = "post_id")
+  @Type(UuidStringType.class)
   private String postId;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,58 @@
+package com.soon_my_room.soon_my_room.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** 업로드된 원본 이미지의 파생 이미지(너비별 변형, 블러해시) 생성 상태 */
+@Entity
+@Table(name = "image_assets")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageAsset {
+
+  // 원본 이미지 참조 (버킷/키)
+  @Id
+  @Column(updatable = false, nullable = false)
+  private String reference;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private Status status;
+
+  // 원본 이미지 크기 (방향 보정 후)
+  private Integer width;
+  private Integer height;
+
+  private String blurhash;
+
+  // 생성된 변형 너비 목록 (쉼표 구분, 예: 150,640,1080)
+  private String variantWidths;
+
+  // 처리 시도 횟수
+  @Column(nullable = false)
+  private int attempts;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+  private LocalDateTime processedAt;
+
+  public enum Status {
+    // 생성 대기 중
+    PENDING,
+    // 변형 생성 완료
+    READY,
+    // 디코딩할 수 없는 형식 (SVG, HEIC 등)
+    UNSUPPORTED,
+    // 재시도 횟수 초과
+    FAILED
+  }
+}
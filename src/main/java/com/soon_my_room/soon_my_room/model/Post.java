@@ -7,10 +7,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.Type;
 
 @Entity
 @Table(name = "posts")
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,8 +22,8 @@ import org.hibernate.annotations.GenericGenerator;
 public class Post {
 
   @Id
-  @GeneratedValue(generator = "UUID")
-  @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+  @TimeOrderedUuid
+  @Type(UuidStringType.class)
   @Column(updatable = false, nullable = false)
   private String id;
 
@@ -34,11 +37,24 @@ public class Post {
   @JoinColumn(name = "author_id", nullable = false)
   private User author;
 
+  // 좋아요 수 (PostCounterBuffer가 일괄 반영하므로 엔티티 저장 시 갱신하지 않음)
+  @ColumnDefault("0")
+  @Column(nullable = false, insertable = false, updatable = false)
+  private int heartCount;
+
+  // 댓글 수 (PostCounterBuffer가 일괄 반영하므로 엔티티 저장 시 갱신하지 않음)
+  @ColumnDefault("0")
+  @Column(nullable = false, insertable = false, updatable = false)
+  private int commentCount;
+
   @Column(nullable = false)
   private LocalDateTime createdAt;
 
   private LocalDateTime updatedAt;
 
+  // 삭제 시각 (삭제된 게시글은 조회에서 제외되며 PostPurger가 연관 데이터와 함께 정리)
+  private LocalDateTime deletedAt;
+
   @PrePersist
   public void prePersist() {
     this.createdAt = LocalDateTime.now();
@@ -9,7 +9,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Type;
 
 @Entity
 @Table(name = "products")
@@ -21,8 +21,8 @@ import org.hibernate.annotations.GenericGenerator;
 public class Product {
 
   @Id
-  @GeneratedValue(generator = "UUID")
-  @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+  @TimeOrderedUuid
+  @Type(UuidStringType.class)
   @Column(updatable = false, nullable = false)
   private String id;
 
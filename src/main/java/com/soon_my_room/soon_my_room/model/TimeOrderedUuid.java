@@ -0,0 +1,17 @@
+package com.soon_my_room.soon_my_room.model;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 생성 시각 순으로 정렬되는 UUID(버전 7) 기본 키를 생성합니다.
+ *
+ * <p>무작위 UUID(버전 4)와 달리 새 행이 기본 키/외래 키 인덱스의 오른쪽 끝에 추가되므로 삽입 시 페이지 분할과 캐시 미스가 줄어듭니다.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {}
@@ -0,0 +1,48 @@
+package com.soon_my_room.soon_my_room.model;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * {@link TimeOrderedUuid} ID 생성기 (RFC 9562 UUID 버전 7)
+ *
+ * <p>상위 48비트는 밀리초 단위 Unix 시각, 다음 12비트는 같은 밀리초 안의 순번이며 나머지 62비트는 난수입니다. 같은 밀리초에 4096개를 넘게
+ * 생성하면 시각 부분을 1밀리초씩 앞당겨 인스턴스 안에서는 항상 증가하는 값을 유지합니다.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  // 마지막으로 사용한 (시각 << 12 | 순번)
+  private static final AtomicLong LAST_TICK = new AtomicLong();
+
+  @Override
+  public Object generate(
+      SharedSessionContractImplementor session,
+      Object owner,
+      Object currentValue,
+      EventType eventType) {
+    return next().toString();
+  }
+
+  @Override
+  public EnumSet<EventType> getEventTypes() {
+    return EventTypeSets.INSERT_ONLY;
+  }
+
+  /** 다음 ID 생성 */
+  public static UUID next() {
+    long now = System.currentTimeMillis() << 12;
+    long tick = LAST_TICK.updateAndGet(last -> Math.max(now, last + 1));
+
+    long mostSigBits = ((tick >>> 12) << 16) | 0x7000L | (tick & 0x0FFFL);
+    long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    return new UUID(mostSigBits, leastSigBits);
+  }
+}
@@ -0,0 +1,36 @@
+package com.soon_my_room.soon_my_room.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Type;
+
+/** 사용자별 홈 타임라인(피드)에 미리 배포된 게시글 항목 */
+@Entity
+@Table(name = "timeline_entries")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@IdClass(TimelineEntryId.class)
+public class TimelineEntry {
+
+  @Id
+  @Column(name = "owner_id")
+  @Type(UuidStringType.class)
+  private String ownerId;
+
+  @Id
+  @Column(name = "post_id")
+  @Type(UuidStringType.class)
+  private String postId;
+
+  // 게시글 작성 시각 (정렬 기준)
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+}
@@ -0,0 +1,30 @@
+package com.soon_my_room.soon_my_room.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineEntryId implements Serializable {
+  private String ownerId;
+  private String postId;
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    TimelineEntryId that = (TimelineEntryId) o;
+    return Objects.equals(ownerId, that.ownerId) && Objects.equals(postId, that.postId);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(ownerId, postId);
+  }
+}
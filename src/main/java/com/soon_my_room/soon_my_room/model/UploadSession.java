@@ -0,0 +1,69 @@
+package com.soon_my_room.soon_my_room.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Type;
+
+/** 이어 올리기(청크) 업로드 세션 */
+@Entity
+@Table(name = "upload_sessions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSession {
+
+  @Id
+  @Column(updatable = false, nullable = false)
+  private String id;
+
+  // 세션을 만든 사용자 (이 사용자만 청크 업로드/조회/완료/취소 가능)
+  @Column(nullable = false, updatable = false)
+  @Type(UuidStringType.class)
+  private String ownerId;
+
+  @Column(nullable = false)
+  private String bucketName;
+
+  // 완성될 객체 키
+  @Column(nullable = false)
+  private String objectKey;
+
+  @Column(nullable = false)
+  private String contentType;
+
+  private String originalName;
+
+  // 전체 파일 크기
+  @Column(nullable = false)
+  private long size;
+
+  // 청크(저장소 파트) 크기, 마지막 청크만 이보다 작을 수 있음
+  @Column(nullable = false)
+  private int partSize;
+
+  // 저장이 끝난 바이트 수 (다음 청크의 시작 위치)
+  @Column(nullable = false)
+  private long uploadedBytes;
+
+  // 저장소의 멀티파트 업로드 ID
+  @Column(nullable = false)
+  private String storageUploadId;
+
+  // 저장된 파트의 ETag 목록 (파트 번호 순서, 쉼표 구분)
+  @Column(name = "part_etags", columnDefinition = "TEXT")
+  private String partETags;
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  // 마지막 청크 이후 이 시각까지 이어서 올리지 않으면 정리
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+}
@@ -11,7 +11,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Type;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -26,8 +27,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 public class User implements UserDetails {
 
   @Id
-  @GeneratedValue(generator = "UUID")
-  @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+  @TimeOrderedUuid
+  @Type(UuidStringType.class)
   @Column(updatable = false, nullable = false)
   private String id;
 
@@ -62,6 +63,21 @@ public class User implements UserDetails {
   @Column(columnDefinition = "TEXT")
   private String refreshToken;
 
+  // 팔로워 수 (UserRepository의 증감 쿼리로만 갱신)
+  @ColumnDefault("0")
+  @Column(nullable = false, insertable = false, updatable = false)
+  private int followerCount;
+
+  // 팔로잉 수 (UserRepository의 증감 쿼리로만 갱신)
+  @ColumnDefault("0")
+  @Column(nullable = false, insertable = false, updatable = false)
+  private int followingCount;
+
+  // 게시글 수 (UserRepository의 증감 쿼리로만 갱신)
+  @ColumnDefault("0")
+  @Column(nullable = false, insertable = false, updatable = false)
+  private int postCount;
+
   @Builder.Default private boolean active = true;
 
   @Builder.Default private Role role = Role.USER;
@@ -0,0 +1,110 @@
+package com.soon_my_room.soon_my_room.model;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.usertype.UserType;
+
+/**
+ * 문자열 ID를 PostgreSQL {@code uuid} 컬럼(16바이트)에 저장하는 타입입니다.
+ *
+ * <p>엔티티와 API에서는 기존처럼 36자 문자열로 다루고, 컬럼에 읽고 쓸 때만 {@link UUID}로 변환합니다. UUID 형식이 아닌 값은 어떤 행과도 일치할 수
+ * 없으므로 NULL로 바인딩해 조회 결과가 없게 합니다.
+ */
+public class UuidStringType implements UserType<String> {
+
+  private static final Pattern UUID_PATTERN =
+      Pattern.compile(
+          "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+  /**
+   * 문자열 ID를 UUID로 변환합니다.
+   *
+   * @return 변환한 UUID, UUID 형식이 아니면 null
+   */
+  public static UUID toUuid(String value) {
+    if (value == null || !UUID_PATTERN.matcher(value).matches()) {
+      return null;
+    }
+    return UUID.fromString(value);
+  }
+
+  /** 문자열 ID 목록을 UUID 목록으로 변환 (UUID 형식이 아닌 값은 제외) */
+  public static List<UUID> toUuids(Collection<String> values) {
+    return values.stream().map(UuidStringType::toUuid).filter(Objects::nonNull).toList();
+  }
+
+  /** UUID 형식의 ID인지 확인 */
+  public static boolean isUuid(String value) {
+    return toUuid(value) != null;
+  }
+
+  @Override
+  public int getSqlType() {
+    return SqlTypes.UUID;
+  }
+
+  @Override
+  public Class<String> returnedClass() {
+    return String.class;
+  }
+
+  @Override
+  public boolean equals(String x, String y) {
+    return Objects.equals(x, y);
+  }
+
+  @Override
+  public int hashCode(String x) {
+    return Objects.hashCode(x);
+  }
+
+  @Override
+  public String nullSafeGet(
+      ResultSet rs, int position, SharedSessionContractImplementor session, Object owner)
+      throws SQLException {
+    UUID value = rs.getObject(position, UUID.class);
+    return value == null ? null : value.toString();
+  }
+
+  @Override
+  public void nullSafeSet(
+      PreparedStatement st, String value, int index, SharedSessionContractImplementor session)
+      throws SQLException {
+    UUID uuid = toUuid(value);
+    if (uuid == null) {
+      st.setNull(index, Types.OTHER);
+    } else {
+      st.setObject(index, uuid, Types.OTHER);
+    }
+  }
+
+  @Override
+  public String deepCopy(String value) {
+    return value;
+  }
+
+  @Override
+  public boolean isMutable() {
+    return false;
+  }
+
+  @Override
+  public Serializable disassemble(String value) {
+    return value;
+  }
+
+  @Override
+  public String assemble(Serializable cached, Object owner) {
+    return (String) cached;
+  }
+}
@@ -2,9 +2,13 @@ package com.soon_my_room.soon_my_room.repository;
 
 import com.soon_my_room.soon_my_room.model.Comment;
 import com.soon_my_room.soon_my_room.model.Post;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,5 +16,35 @@ public interface CommentRepository extends JpaRepository<Comment, String> {
 
   List<Comment> findByPostOrderByCreatedAtDesc(Post post, Pageable pageable);
 
+  // 키셋 페이지네이션: 첫 페이지
+  @Query(
+      value =
+          "SELECT * FROM comments WHERE post_id = :postId"
+              + " ORDER BY created_at DESC, id DESC LIMIT :limit",
+      nativeQuery = true)
+  List<Comment> findFirstPageByPostId(@Param("postId") String postId, @Param("limit") int limit);
+
+  // 키셋 페이지네이션: 커서 이후 페이지
+  @Query(
+      value =
+          "SELECT * FROM comments WHERE post_id = :postId"
+              + " AND (created_at, id) < (:createdAt, :id)"
+              + " ORDER BY created_at DESC, id DESC LIMIT :limit",
+      nativeQuery = true)
+  List<Comment> findPageByPostIdAfter(
+      @Param("postId") String postId,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") String id,
+      @Param("limit") int limit);
+
   int countByPost(Post post);
+
+  // 삭제된 게시글의 댓글을 최대 limit 건 삭제 (삭제된 행 수 반환)
+  @Modifying
+  @Query(
+      value =
+          "DELETE FROM comments WHERE ctid IN"
+              + " (SELECT ctid FROM comments WHERE post_id = :postId LIMIT :limit)",
+      nativeQuery = true)
+  int deleteChunkByPostId(@Param("postId") String postId, @Param("limit") int limit);
 }
@@ -2,8 +2,14 @@ package com.soon_my_room.soon_my_room.repository;
 
 import com.soon_my_room.soon_my_room.model.Follow;
 import com.soon_my_room.soon_my_room.model.FollowId;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -17,4 +23,82 @@ public interface FollowRepository extends JpaRepository<Follow, FollowId> {
   long countByFollowingId(String followingId);
 
   boolean existsByFollowerIdAndFollowingId(String followerId, String followingId);
+
+  List<Follow> findByFollowerIdIn(Collection<String> followerIds);
+
+  List<Follow> findByFollowingIdIn(Collection<String> followingIds);
+
+  // 대상 사용자 중 팔로우 중인 사용자 ID 조회
+  @Query(
+      "SELECT f.followingId FROM Follow f"
+          + " WHERE f.followerId = :followerId AND f.followingId IN :followingIds")
+  List<String> findFollowingIdsIn(
+      @Param("followerId") String followerId,
+      @Param("followingIds") Collection<String> followingIds);
+
+  // 팔로워 목록 페이지 (최근 팔로우 순, 팔로워 사용자 함께 조회)
+  @Query(
+      "SELECT f FROM Follow f JOIN FETCH f.follower WHERE f.followingId = :userId"
+          + " ORDER BY f.createdAt DESC, f.followerId DESC")
+  List<Follow> findFollowerPage(@Param("userId") String userId, Pageable pageable);
+
+  // 팔로워 목록 커서 이후 페이지
+  @Query(
+      "SELECT f FROM Follow f JOIN FETCH f.follower WHERE f.followingId = :userId"
+          + " AND (f.createdAt < :createdAt"
+          + " OR (f.createdAt = :createdAt AND f.followerId < :id))"
+          + " ORDER BY f.createdAt DESC, f.followerId DESC")
+  List<Follow> findFollowerPageAfter(
+      @Param("userId") String userId,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") String id,
+      Pageable pageable);
+
+  // 팔로잉 목록 페이지 (최근 팔로우 순, 팔로잉 사용자 함께 조회)
+  @Query(
+      "SELECT f FROM Follow f JOIN FETCH f.following WHERE f.followerId = :userId"
+          + " ORDER BY f.createdAt DESC, f.followingId DESC")
+  List<Follow> findFollowingPage(@Param("userId") String userId, Pageable pageable);
+
+  // 팔로잉 목록 커서 이후 페이지
+  @Query(
+      "SELECT f FROM Follow f JOIN FETCH f.following WHERE f.followerId = :userId"
+          + " AND (f.createdAt < :createdAt"
+          + " OR (f.createdAt = :createdAt AND f.followingId < :id))"
+          + " ORDER BY f.createdAt DESC, f.followingId DESC")
+  List<Follow> findFollowingPageAfter(
+      @Param("userId") String userId,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") String id,
+      Pageable pageable);
+
+  // 팔로워 ID 목록 (최근 팔로우 순)
+  @Query(
+      "SELECT f.followerId FROM Follow f WHERE f.followingId = :userId"
+          + " ORDER BY f.createdAt DESC, f.followerId DESC")
+  List<String> findFollowerIds(@Param("userId") String userId, Pageable pageable);
+
+  // 팔로잉 ID 목록 (최근 팔로우 순)
+  @Query(
+      "SELECT f.followingId FROM Follow f WHERE f.followerId = :userId"
+          + " ORDER BY f.createdAt DESC, f.followingId DESC")
+  List<String> findFollowingIds(@Param("userId") String userId, Pageable pageable);
+
+  // 팔로우 관계 추가 (이미 존재하면 무시, 추가된 행 수 반환)
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO follows (follower_id, following_id, created_at)"
+              + " VALUES (:followerId, :followingId, :createdAt)"
+              + " ON CONFLICT DO NOTHING",
+      nativeQuery = true)
+  int insertIfAbsent(
+      @Param("followerId") String followerId,
+      @Param("followingId") String followingId,
+      @Param("createdAt") LocalDateTime createdAt);
+
+  // 팔로우 관계 삭제 (삭제된 행 수 반환)
+  @Modifying
+  @Query("DELETE FROM Follow f WHERE f.followerId = :followerId AND f.followingId = :followingId")
+  int deleteByIds(@Param("followerId") String followerId, @Param("followingId") String followingId);
 }
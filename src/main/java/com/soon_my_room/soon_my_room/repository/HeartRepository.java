@@ -2,8 +2,13 @@ package com.soon_my_room.soon_my_room.repository;
 
 import com.soon_my_room.soon_my_room.model.Heart;
 import com.soon_my_room.soon_my_room.model.HeartId;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,5 +18,38 @@ public interface HeartRepository extends JpaRepository<Heart, HeartId> {
 
   int countByPostId(String postId);
 
-  List<Heart> findByPostId(String postId);
+  // 게시글 목록 중 사용자가 좋아요한 게시글 ID 조회
+  @Query("SELECT h.postId FROM Heart h WHERE h.userId = :userId AND h.postId IN :postIds")
+  List<String> findHeartedPostIds(
+      @Param("userId") String userId, @Param("postIds") Collection<String> postIds);
+
+  // 좋아요 추가 (게시글이 없거나 이미 좋아요한 경우 무시, 추가된 행 수 반환)
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO hearts (user_id, post_id, created_at)"
+              + " SELECT :userId, p.id, :createdAt FROM posts p"
+              + " WHERE p.id = :postId AND p.deleted_at IS NULL"
+              + " ON CONFLICT DO NOTHING",
+      nativeQuery = true)
+  int insertIfAbsent(
+      @Param("userId") String userId,
+      @Param("postId") String postId,
+      @Param("createdAt") LocalDateTime createdAt);
+
+  // 좋아요 삭제 (삭제된 행 수 반환)
+  @Modifying
+  @Query(
+      value = "DELETE FROM hearts WHERE user_id = :userId AND post_id = :postId",
+      nativeQuery = true)
+  int deleteByIds(@Param("userId") String userId, @Param("postId") String postId);
+
+  // 삭제된 게시글의 좋아요를 최대 limit 건 삭제 (삭제된 행 수 반환)
+  @Modifying
+  @Query(
+      value =
+          "DELETE FROM hearts WHERE ctid IN"
+              + " (SELECT ctid FROM hearts WHERE post_id = :postId LIMIT :limit)",
+      nativeQuery = true)
+  int deleteChunkByPostId(@Param("postId") String postId, @Param("limit") int limit);
 }
@@ -0,0 +1,40 @@
+package com.soon_my_room.soon_my_room.repository;
+
+import com.soon_my_room.soon_my_room.model.ImageAsset;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ImageAssetRepository extends JpaRepository<ImageAsset, String> {
+
+  // 상태별 이미지 조회 (변형 생성이 끝난 이미지 조회 등)
+  List<ImageAsset> findByReferenceInAndStatus(
+      Collection<String> references, ImageAsset.Status status);
+
+  // 생성 대기 항목 등록 (이미 등록된 경우 무시, 추가된 행 수 반환)
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO image_assets (reference, status, attempts, created_at)"
+              + " VALUES (:reference, 'PENDING', 0, :createdAt)"
+              + " ON CONFLICT DO NOTHING",
+      nativeQuery = true)
+  int insertIfAbsent(
+      @Param("reference") String reference, @Param("createdAt") LocalDateTime createdAt);
+
+  // 오래 대기 중인 항목 조회 (큐가 가득 찼거나 재시작으로 누락된 항목)
+  @Query(
+      value =
+          "SELECT reference FROM image_assets"
+              + " WHERE status = 'PENDING' AND created_at < :before"
+              + " ORDER BY created_at LIMIT :limit",
+      nativeQuery = true)
+  List<String> findPendingReferences(
+      @Param("before") LocalDateTime before, @Param("limit") int limit);
+}
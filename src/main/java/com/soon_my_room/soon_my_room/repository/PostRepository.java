@@ -2,9 +2,13 @@ package com.soon_my_room.soon_my_room.repository;
 
 import com.soon_my_room.soon_my_room.model.Post;
 import com.soon_my_room.soon_my_room.model.User;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,7 +16,51 @@ public interface PostRepository extends JpaRepository<Post, String> {
 
   List<Post> findByAuthorOrderByCreatedAtDesc(User author, Pageable pageable);
 
-  List<Post> findByAuthorInOrderByCreatedAtDesc(List<User> authors, Pageable pageable);
+  // 키셋 페이지네이션: 첫 페이지
+  @Query(
+      value =
+          "SELECT * FROM posts WHERE author_id = :authorId AND deleted_at IS NULL"
+              + " ORDER BY created_at DESC, id DESC LIMIT :limit",
+      nativeQuery = true)
+  List<Post> findFirstPageByAuthorId(@Param("authorId") String authorId, @Param("limit") int limit);
+
+  // 키셋 페이지네이션: 커서 이후 페이지
+  @Query(
+      value =
+          "SELECT * FROM posts WHERE author_id = :authorId AND deleted_at IS NULL"
+              + " AND (created_at, id) < (:createdAt, :id)"
+              + " ORDER BY created_at DESC, id DESC LIMIT :limit",
+      nativeQuery = true)
+  List<Post> findPageByAuthorIdAfter(
+      @Param("authorId") String authorId,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") String id,
+      @Param("limit") int limit);
 
   int countByAuthor(User author);
+
+  // 게시글 삭제 표시 (이미 삭제된 경우 무시, 변경된 행 수 반환)
+  @Modifying
+  @Query(
+      value = "UPDATE posts SET deleted_at = :deletedAt WHERE id = :id AND deleted_at IS NULL",
+      nativeQuery = true)
+  int markDeleted(@Param("id") String id, @Param("deletedAt") LocalDateTime deletedAt);
+
+  // 정리 대기 중인 삭제된 게시글 ID 조회 (삭제 순)
+  @Query(
+      value =
+          "SELECT CAST(id AS text) FROM posts WHERE deleted_at IS NOT NULL"
+              + " ORDER BY deleted_at LIMIT :limit",
+      nativeQuery = true)
+  List<String> findDeletedIds(@Param("limit") int limit);
+
+  @Query(value = "SELECT COUNT(*) FROM posts WHERE deleted_at IS NOT NULL", nativeQuery = true)
+  long countDeleted();
+
+  // 연관 데이터 정리가 끝난 게시글 행 삭제
+  @Modifying
+  @Query(
+      value = "DELETE FROM posts WHERE id = :id AND deleted_at IS NOT NULL",
+      nativeQuery = true)
+  int purgeById(@Param("id") String id);
 }
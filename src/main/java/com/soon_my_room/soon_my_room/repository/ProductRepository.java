@@ -2,9 +2,12 @@ package com.soon_my_room.soon_my_room.repository;
 
 import com.soon_my_room.soon_my_room.model.Product;
 import com.soon_my_room.soon_my_room.model.User;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,5 +15,27 @@ public interface ProductRepository extends JpaRepository<Product, String> {
 
   List<Product> findByAuthorOrderByCreatedAtDesc(User author, Pageable pageable);
 
+  // 키셋 페이지네이션: 첫 페이지
+  @Query(
+      value =
+          "SELECT * FROM products WHERE author_id = :authorId"
+              + " ORDER BY created_at DESC, id DESC LIMIT :limit",
+      nativeQuery = true)
+  List<Product> findFirstPageByAuthorId(
+      @Param("authorId") String authorId, @Param("limit") int limit);
+
+  // 키셋 페이지네이션: 커서 이후 페이지
+  @Query(
+      value =
+          "SELECT * FROM products WHERE author_id = :authorId"
+              + " AND (created_at, id) < (:createdAt, :id)"
+              + " ORDER BY created_at DESC, id DESC LIMIT :limit",
+      nativeQuery = true)
+  List<Product> findPageByAuthorIdAfter(
+      @Param("authorId") String authorId,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") String id,
+      @Param("limit") int limit);
+
   int countByAuthor(User author);
 }
@@ -0,0 +1,64 @@
+package com.soon_my_room.soon_my_room.repository;
+
+import com.soon_my_room.soon_my_room.model.Follow;
+import com.soon_my_room.soon_my_room.model.UuidStringType;
+import io.r2dbc.spi.Readable;
+import java.util.Collection;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * 리액티브 조회 API의 팔로우 관계 조회 (R2DBC)
+ *
+ * <p>팔로우 그래프 적재가 끝나기 전에만 사용하며, 조회 결과의 팔로워/팔로잉 사용자는 채우지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveFollowRepository {
+
+  private final DatabaseClient databaseClient;
+
+  // 대상 사용자 중 팔로우 중인 사용자 ID 조회
+  public Flux<String> findFollowingIdsIn(String followerId, Collection<String> followingIds) {
+    return databaseClient
+        .sql(
+            "SELECT following_id FROM follows"
+                + " WHERE follower_id = :followerId AND following_id IN (:followingIds)")
+        .bind("followerId", UuidStringType.toUuid(followerId))
+        .bind("followingIds", UuidStringType.toUuids(followingIds))
+        .map(row -> uuidString(row, "following_id"))
+        .all();
+  }
+
+  public Flux<Follow> findByFollowerIdIn(Collection<String> followerIds) {
+    return databaseClient
+        .sql("SELECT follower_id, following_id FROM follows WHERE follower_id IN (:ids)")
+        .bind("ids", UuidStringType.toUuids(followerIds))
+        .map(ReactiveFollowRepository::toFollow)
+        .all();
+  }
+
+  public Flux<Follow> findByFollowingIdIn(Collection<String> followingIds) {
+    return databaseClient
+        .sql("SELECT follower_id, following_id FROM follows WHERE following_id IN (:ids)")
+        .bind("ids", UuidStringType.toUuids(followingIds))
+        .map(ReactiveFollowRepository::toFollow)
+        .all();
+  }
+
+  private static Follow toFollow(Readable row) {
+    return Follow.builder()
+        .followerId(uuidString(row, "follower_id"))
+        .followingId(uuidString(row, "following_id"))
+        .build();
+  }
+
+  // uuid 컬럼 값을 문자열 ID로 변환
+  private static String uuidString(Readable row, String column) {
+    UUID value = row.get(column, UUID.class);
+    return value == null ? null : value.toString();
+  }
+}
@@ -0,0 +1,40 @@
+package com.soon_my_room.soon_my_room.repository;
+
+import com.soon_my_room.soon_my_room.model.ImageAsset;
+import io.r2dbc.spi.Readable;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/** 리액티브 조회 API의 이미지 변형 정보 조회 (R2DBC) */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveImageAssetRepository {
+
+  private final DatabaseClient databaseClient;
+
+  // 변형 생성이 끝난 이미지 정보 조회
+  public Flux<ImageAsset> findReadyByReferenceIn(Collection<String> references) {
+    return databaseClient
+        .sql(
+            "SELECT reference, width, height, blurhash, variant_widths FROM image_assets"
+                + " WHERE reference IN (:references) AND status = :status")
+        .bind("references", references)
+        .bind("status", ImageAsset.Status.READY.name())
+        .map(ReactiveImageAssetRepository::toImageAsset)
+        .all();
+  }
+
+  private static ImageAsset toImageAsset(Readable row) {
+    return ImageAsset.builder()
+        .reference(row.get("reference", String.class))
+        .status(ImageAsset.Status.READY)
+        .width(row.get("width", Integer.class))
+        .height(row.get("height", Integer.class))
+        .blurhash(row.get("blurhash", String.class))
+        .variantWidths(row.get("variant_widths", String.class))
+        .build();
+  }
+}
@@ -0,0 +1,123 @@
+package com.soon_my_room.soon_my_room.repository;
+
+import com.soon_my_room.soon_my_room.model.Post;
+import com.soon_my_room.soon_my_room.model.User;
+import com.soon_my_room.soon_my_room.model.UuidStringType;
+import io.r2dbc.spi.Readable;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 리액티브 조회 API의 게시글/타임라인 조회 (R2DBC)
+ *
+ * <p>조회 결과는 JPA 엔티티 객체로 변환하지만 영속성 컨텍스트와는 무관하며, 작성자는 ID만 채워집니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactivePostRepository {
+
+  private static final String POST_COLUMNS =
+      "p.id, p.content, p.image, p.author_id, p.heart_count, p.comment_count,"
+          + " p.created_at, p.updated_at";
+
+  private final DatabaseClient databaseClient;
+
+  // 키셋 페이지네이션: 첫 페이지 (owner_id, created_at 인덱스 범위 스캔)
+  public Flux<Post> findFirstTimelinePage(String ownerId, int limit) {
+    return databaseClient
+        .sql(
+            "SELECT "
+                + POST_COLUMNS
+                + " FROM timeline_entries t JOIN posts p ON p.id = t.post_id"
+                + " WHERE t.owner_id = :ownerId AND p.deleted_at IS NULL"
+                + " ORDER BY t.created_at DESC, t.post_id DESC LIMIT :limit")
+        .bind("ownerId", UuidStringType.toUuid(ownerId))
+        .bind("limit", limit)
+        .map(ReactivePostRepository::toPost)
+        .all();
+  }
+
+  // 키셋 페이지네이션: 커서 이후 페이지
+  public Flux<Post> findTimelinePageAfter(
+      String ownerId, LocalDateTime createdAt, String postId, int limit) {
+    return databaseClient
+        .sql(
+            "SELECT "
+                + POST_COLUMNS
+                + " FROM timeline_entries t JOIN posts p ON p.id = t.post_id"
+                + " WHERE t.owner_id = :ownerId AND p.deleted_at IS NULL"
+                + " AND (t.created_at, t.post_id) < (:createdAt, :postId)"
+                + " ORDER BY t.created_at DESC, t.post_id DESC LIMIT :limit")
+        .bind("ownerId", UuidStringType.toUuid(ownerId))
+        .bind("createdAt", createdAt)
+        .bind("postId", UuidStringType.toUuid(postId))
+        .bind("limit", limit)
+        .map(ReactivePostRepository::toPost)
+        .all();
+  }
+
+  // 오프셋 페이지네이션 (skip 요청)
+  public Flux<Post> findTimelinePage(String ownerId, int limit, long offset) {
+    return databaseClient
+        .sql(
+            "SELECT "
+                + POST_COLUMNS
+                + " FROM timeline_entries t JOIN posts p ON p.id = t.post_id"
+                + " WHERE t.owner_id = :ownerId AND p.deleted_at IS NULL"
+                + " ORDER BY t.created_at DESC, t.post_id DESC LIMIT :limit OFFSET :offset")
+        .bind("ownerId", UuidStringType.toUuid(ownerId))
+        .bind("limit", limit)
+        .bind("offset", offset)
+        .map(ReactivePostRepository::toPost)
+        .all();
+  }
+
+  // 삭제되지 않은 게시글 조회
+  public Mono<Post> findById(String postId) {
+    UUID id = UuidStringType.toUuid(postId);
+    if (id == null) {
+      return Mono.empty();
+    }
+
+    return databaseClient
+        .sql("SELECT " + POST_COLUMNS + " FROM posts p WHERE p.id = :id AND p.deleted_at IS NULL")
+        .bind("id", id)
+        .map(ReactivePostRepository::toPost)
+        .one();
+  }
+
+  // 게시글 목록 중 사용자가 좋아요한 게시글 ID 조회
+  public Flux<String> findHeartedPostIds(String userId, Collection<String> postIds) {
+    return databaseClient
+        .sql("SELECT post_id FROM hearts WHERE user_id = :userId AND post_id IN (:postIds)")
+        .bind("userId", UuidStringType.toUuid(userId))
+        .bind("postIds", UuidStringType.toUuids(postIds))
+        .map(row -> uuidString(row, "post_id"))
+        .all();
+  }
+
+  private static Post toPost(Readable row) {
+    return Post.builder()
+        .id(uuidString(row, "id"))
+        .content(row.get("content", String.class))
+        .image(row.get("image", String.class))
+        .author(User.builder().id(uuidString(row, "author_id")).build())
+        .heartCount(row.get("heart_count", Integer.class))
+        .commentCount(row.get("comment_count", Integer.class))
+        .createdAt(row.get("created_at", LocalDateTime.class))
+        .updatedAt(row.get("updated_at", LocalDateTime.class))
+        .build();
+  }
+
+  // uuid 컬럼 값을 문자열 ID로 변환
+  private static String uuidString(Readable row, String column) {
+    UUID value = row.get(column, UUID.class);
+    return value == null ? null : value.toString();
+  }
+}
@@ -0,0 +1,64 @@
+package com.soon_my_room.soon_my_room.repository;
+
+import com.soon_my_room.soon_my_room.model.User;
+import com.soon_my_room.soon_my_room.model.UuidStringType;
+import io.r2dbc.spi.Readable;
+import java.util.Collection;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 리액티브 조회 API의 사용자 조회 (R2DBC)
+ *
+ * <p>프로필 구성에 필요한 컬럼만 조회하며, 비밀번호와 리프레시 토큰은 채우지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveUserRepository {
+
+  private static final String USER_COLUMNS =
+      "id, username, email, accountname, intro, image, follower_count, following_count,"
+          + " post_count";
+
+  private final DatabaseClient databaseClient;
+
+  public Flux<User> findAllById(Collection<String> ids) {
+    return databaseClient
+        .sql("SELECT " + USER_COLUMNS + " FROM users WHERE id IN (:ids)")
+        .bind("ids", UuidStringType.toUuids(ids))
+        .map(ReactiveUserRepository::toUser)
+        .all();
+  }
+
+  public Mono<User> findByAccountname(String accountname) {
+    return databaseClient
+        .sql("SELECT " + USER_COLUMNS + " FROM users WHERE accountname = :accountname")
+        .bind("accountname", accountname)
+        .map(ReactiveUserRepository::toUser)
+        .one();
+  }
+
+  private static User toUser(Readable row) {
+    return User.builder()
+        .id(uuidString(row, "id"))
+        .username(row.get("username", String.class))
+        .email(row.get("email", String.class))
+        .accountname(row.get("accountname", String.class))
+        .intro(row.get("intro", String.class))
+        .image(row.get("image", String.class))
+        .followerCount(row.get("follower_count", Integer.class))
+        .followingCount(row.get("following_count", Integer.class))
+        .postCount(row.get("post_count", Integer.class))
+        .build();
+  }
+
+  // uuid 컬럼 값을 문자열 ID로 변환
+  private static String uuidString(Readable row, String column) {
+    UUID value = row.get(column, UUID.class);
+    return value == null ? null : value.toString();
+  }
+}
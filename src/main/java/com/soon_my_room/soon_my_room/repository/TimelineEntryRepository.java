@@ -0,0 +1,104 @@
+package com.soon_my_room.soon_my_room.repository;
+
+import com.soon_my_room.soon_my_room.model.Post;
+import com.soon_my_room.soon_my_room.model.TimelineEntry;
+import com.soon_my_room.soon_my_room.model.TimelineEntryId;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TimelineEntryRepository extends JpaRepository<TimelineEntry, TimelineEntryId> {
+
+  // 타임라인 게시글 조회 (owner_id, created_at 인덱스 범위 스캔)
+  @Query(
+      "SELECT p FROM TimelineEntry t JOIN Post p ON p.id = t.postId"
+          + " WHERE t.ownerId = :ownerId AND p.deletedAt IS NULL"
+          + " ORDER BY t.createdAt DESC, t.postId DESC")
+  List<Post> findPostsByOwnerId(@Param("ownerId") String ownerId, Pageable pageable);
+
+  // 키셋 페이지네이션: 첫 페이지
+  @Query(
+      value =
+          "SELECT p.* FROM timeline_entries t JOIN posts p ON p.id = t.post_id"
+              + " WHERE t.owner_id = :ownerId AND p.deleted_at IS NULL"
+              + " ORDER BY t.created_at DESC, t.post_id DESC LIMIT :limit",
+      nativeQuery = true)
+  List<Post> findFirstPageByOwnerId(@Param("ownerId") String ownerId, @Param("limit") int limit);
+
+  // 키셋 페이지네이션: 커서 이후 페이지
+  @Query(
+      value =
+          "SELECT p.* FROM timeline_entries t JOIN posts p ON p.id = t.post_id"
+              + " WHERE t.owner_id = :ownerId AND p.deleted_at IS NULL"
+              + " AND (t.created_at, t.post_id) < (:createdAt, :postId)"
+              + " ORDER BY t.created_at DESC, t.post_id DESC LIMIT :limit",
+      nativeQuery = true)
+  List<Post> findPageByOwnerIdAfter(
+      @Param("ownerId") String ownerId,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("postId") String postId,
+      @Param("limit") int limit);
+
+  // 새 게시글을 작성자의 모든 팔로워 타임라인에 배포
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO timeline_entries (owner_id, post_id, created_at)"
+              + " SELECT f.follower_id, :postId, :createdAt FROM follows f"
+              + " WHERE f.following_id = :authorId"
+              + " ON CONFLICT DO NOTHING",
+      nativeQuery = true)
+  int fanOutPost(
+      @Param("authorId") String authorId,
+      @Param("postId") String postId,
+      @Param("createdAt") LocalDateTime createdAt);
+
+  // 팔로우한 사용자의 기존 게시글을 타임라인에 채움
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO timeline_entries (owner_id, post_id, created_at)"
+              + " SELECT :ownerId, p.id, p.created_at FROM posts p"
+              + " WHERE p.author_id = :authorId AND p.deleted_at IS NULL"
+              + " ON CONFLICT DO NOTHING",
+      nativeQuery = true)
+  int insertAuthorPosts(@Param("ownerId") String ownerId, @Param("authorId") String authorId);
+
+  // 언팔로우한 사용자의 게시글을 타임라인에서 제거
+  @Modifying
+  @Query(
+      value =
+          "DELETE FROM timeline_entries t USING posts p"
+              + " WHERE t.post_id = p.id AND t.owner_id = :ownerId AND p.author_id = :authorId",
+      nativeQuery = true)
+  int deleteAuthorPosts(@Param("ownerId") String ownerId, @Param("authorId") String authorId);
+
+  // 삭제된 게시글을 타임라인에서 최대 limit 건 제거 (삭제된 행 수 반환)
+  @Modifying
+  @Query(
+      value =
+          "DELETE FROM timeline_entries WHERE ctid IN"
+              + " (SELECT ctid FROM timeline_entries WHERE post_id = :postId LIMIT :limit)",
+      nativeQuery = true)
+  int deleteChunkByPostId(@Param("postId") String postId, @Param("limit") int limit);
+
+  @Query(value = "SELECT EXISTS (SELECT 1 FROM timeline_entries)", nativeQuery = true)
+  boolean existsAny();
+
+  // 기존 팔로우 관계로부터 전체 타임라인 재구성
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO timeline_entries (owner_id, post_id, created_at)"
+              + " SELECT f.follower_id, p.id, p.created_at FROM follows f"
+              + " JOIN posts p ON p.author_id = f.following_id AND p.deleted_at IS NULL"
+              + " ON CONFLICT DO NOTHING",
+      nativeQuery = true)
+  int rebuildAll();
+}
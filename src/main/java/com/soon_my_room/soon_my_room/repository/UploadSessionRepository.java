@@ -0,0 +1,38 @@
+package com.soon_my_room.soon_my_room.repository;
+
+import com.soon_my_room.soon_my_room.model.UploadSession;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+  // 청크 저장 후 위치를 앞으로 옮기고 파트 ETag 추가 (현재 위치가 offset일 때만, 변경된 행 수 반환)
+  @Modifying
+  @Query(
+      value =
+          "UPDATE upload_sessions"
+              + " SET uploaded_bytes = :uploadedBytes,"
+              + " part_etags = COALESCE(part_etags || ',', '') || :eTag,"
+              + " expires_at = :expiresAt"
+              + " WHERE id = :id AND uploaded_bytes = :offset",
+      nativeQuery = true)
+  int advance(
+      @Param("id") String id,
+      @Param("offset") long offset,
+      @Param("uploadedBytes") long uploadedBytes,
+      @Param("eTag") String eTag,
+      @Param("expiresAt") LocalDateTime expiresAt);
+
+  // 만료된 세션 조회 (오래된 순)
+  @Query(
+      value =
+          "SELECT * FROM upload_sessions WHERE expires_at < :now ORDER BY expires_at LIMIT :limit",
+      nativeQuery = true)
+  List<UploadSession> findExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -4,6 +4,7 @@ import com.soon_my_room.soon_my_room.model.User;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -22,4 +23,45 @@ public interface UserRepository extends JpaRepository<User, String> {
   // 사용자 검색 메서드 추가
   @Query("SELECT u FROM User u WHERE u.username LIKE %:keyword% OR u.accountname LIKE %:keyword%")
   List<User> findByUsernameContainingOrAccountnameContaining(@Param("keyword") String keyword);
+
+  // 팔로우/언팔로우 시 두 사용자의 팔로잉 수와 팔로워 수를 한 문장으로 증감
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      value =
+          "UPDATE users SET"
+              + " following_count = following_count"
+              + " + CASE WHEN id = :followerId THEN :delta ELSE 0 END,"
+              + " follower_count = follower_count"
+              + " + CASE WHEN id = :followingId THEN :delta ELSE 0 END"
+              + " WHERE id IN (:followerId, :followingId)",
+      nativeQuery = true)
+  int adjustFollowCounts(
+      @Param("followerId") String followerId,
+      @Param("followingId") String followingId,
+      @Param("delta") int delta);
+
+  // 게시글 작성/삭제 시 게시글 수 증감
+  @Modifying(flushAutomatically = true)
+  @Query(
+      value = "UPDATE users SET post_count = post_count + :delta WHERE id = :userId",
+      nativeQuery = true)
+  int adjustPostCount(@Param("userId") String userId, @Param("delta") int delta);
+
+  // 팔로워/팔로잉/게시글 수를 실제 행 수와 일치시킴 (불일치 사용자만 갱신)
+  @Modifying
+  @Query(
+      value =
+          "UPDATE users u SET follower_count = c.followers,"
+              + " following_count = c.followings, post_count = c.posts"
+              + " FROM (SELECT u2.id,"
+              + " (SELECT COUNT(*) FROM follows f WHERE f.following_id = u2.id) AS followers,"
+              + " (SELECT COUNT(*) FROM follows f WHERE f.follower_id = u2.id) AS followings,"
+              + " (SELECT COUNT(*) FROM posts p"
+              + " WHERE p.author_id = u2.id AND p.deleted_at IS NULL) AS posts"
+              + " FROM users u2) c"
+              + " WHERE u.id = c.id"
+              + " AND (u.follower_count <> c.followers OR u.following_count <> c.followings"
+              + " OR u.post_count <> c.posts)",
+      nativeQuery = true)
+  int reconcileCounters();
 }
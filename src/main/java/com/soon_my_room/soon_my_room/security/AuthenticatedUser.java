@@ -0,0 +1,59 @@
+package com.soon_my_room.soon_my_room.security;
+
+import com.soon_my_room.soon_my_room.model.User;
+import java.util.Collection;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * 인증된 요청의 사용자 정보입니다.
+ *
+ * <p>{@link PrincipalCache}에 보관되므로 비밀번호 해시나 Refresh Token 없이 요청 처리에 필요한 값만 담으며 생성 후 변경되지 않습니다.
+ */
+@Getter
+public final class AuthenticatedUser implements UserDetails {
+
+  private final String id;
+  private final String email;
+  private final String role;
+  private final boolean active;
+
+  private AuthenticatedUser(String id, String email, String role, boolean active) {
+    this.id = id;
+    this.email = email;
+    this.role = role;
+    this.active = active;
+  }
+
+  /** 사용자 엔티티로부터 생성 */
+  public static AuthenticatedUser from(User user) {
+    return new AuthenticatedUser(
+        user.getId(),
+        user.getEmail(),
+        user.getAuthorities().iterator().next().getAuthority(),
+        user.isActive());
+  }
+
+  @Override
+  public Collection<? extends GrantedAuthority> getAuthorities() {
+    return List.of(new SimpleGrantedAuthority(role));
+  }
+
+  @Override
+  public String getPassword() {
+    return null;
+  }
+
+  @Override
+  public String getUsername() {
+    return email;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return active;
+  }
+}
@@ -2,7 +2,7 @@ package com.soon_my_room.soon_my_room.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.soon_my_room.soon_my_room.exception.JwtAuthenticationException;
-import com.soon_my_room.soon_my_room.model.User;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,6 +17,7 @@ import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -28,7 +29,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtUtil jwtUtil;
-  private final CustomUserDetailsService userDetailsService;
+  private final PrincipalCache principalCache;
   private final ObjectMapper objectMapper;
 
   @Override
@@ -60,13 +61,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     jwt = authorizationHeader.substring(7);
 
-    // 토큰에서 이메일 추출
+    // 토큰 검증 후 이메일 추출 (서명/만료 검증은 한 번만 수행)
     try {
-      userEmail = jwtUtil.extractEmail(jwt);
+      Claims claims = jwtUtil.verify(jwt);
+      userEmail = claims.getSubject();
       if (StringUtils.hasText(userEmail)
           && SecurityContextHolder.getContext().getAuthentication() == null) {
-        User userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-        if (jwtUtil.validateToken(jwt, userDetails)) {
+        // 캐시된 인증 사용자 정보 사용 (비활성/삭제된 사용자는 인증하지 않음)
+        AuthenticatedUser userDetails = findPrincipal(userEmail);
+        if (userDetails != null && userDetails.isEnabled()) {
           SecurityContext context = SecurityContextHolder.createEmptyContext();
           UsernamePasswordAuthenticationToken authToken =
               new UsernamePasswordAuthenticationToken(
@@ -83,6 +86,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
   }
 
+  /** 토큰 주체의 인증 사용자 조회 (토큰 발급 후 삭제된 사용자는 null, 인증 없이 요청 처리) */
+  private AuthenticatedUser findPrincipal(String userEmail) {
+    try {
+      return principalCache.get(userEmail);
+    } catch (UsernameNotFoundException e) {
+      log.debug("토큰의 사용자를 찾을 수 없음: {}", userEmail);
+      SecurityContextHolder.clearContext();
+      return null;
+    }
+  }
+
   private void sendErrorResponse(HttpServletResponse response, JwtAuthenticationException exception)
       throws IOException {
     response.setStatus(HttpStatus.FORBIDDEN.value());
@@ -1,5 +1,8 @@
 package com.soon_my_room.soon_my_room.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.soon_my_room.soon_my_room.exception.JwtAuthenticationException;
 import com.soon_my_room.soon_my_room.model.User;
 import io.jsonwebtoken.*;
@@ -7,13 +10,18 @@ import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import javax.crypto.SecretKey;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -28,12 +36,23 @@ public class JwtUtil {
   @Value("${app.jwt.refresh-token.expiration}")
   private long refreshTokenExpiration; // 길게 설정 (예: 7일)
 
+  @Value("${app.jwt.verified-cache.maximum-size:50000}")
+  private long verifiedCacheMaximumSize; // 동시 활성 세션 수 기준
+
   @Getter private SecretKey signingKey;
 
+  // 검증된 토큰의 클레임 (토큰 해시 기준, 토큰 만료 시각에 제거)
+  private Cache<String, Claims> verifiedClaims;
+
   @PostConstruct
   public void init() {
     byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
     this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+    this.verifiedClaims =
+        Caffeine.newBuilder()
+            .maximumSize(verifiedCacheMaximumSize)
+            .expireAfter(new ClaimsExpiry())
+            .build();
   }
 
   public String generateAccessToken(User userDetails) {
@@ -55,23 +74,26 @@ public class JwtUtil {
         .compact();
   }
 
+  /**
+   * 토큰의 서명과 만료 시간을 검증하고 클레임을 반환합니다.
+   *
+   * <p>검증에 성공한 토큰은 해시 기준으로 만료 시각까지 캐시하므로 같은 토큰은 한 번만 파싱하고 서명을 검증합니다.
+   *
+   * @param token JWT 토큰
+   * @return 검증된 클레임
+   * @throws JwtAuthenticationException 토큰이 유효하지 않은 경우
+   */
+  public Claims verify(String token) {
+    if (token == null || token.isEmpty()) {
+      throw new JwtAuthenticationException(JwtAuthenticationException.ErrorType.TOKEN_MISSING);
+    }
+
+    return verifiedClaims.get(hash(token), key -> extractAllClaims(token));
+  }
+
   // 토큰에서 이메일 추출
   public String extractEmail(String token) {
-    try {
-      return extractClaim(token, Claims::getSubject);
-    } catch (ExpiredJwtException e) {
-      throw new JwtAuthenticationException(JwtAuthenticationException.ErrorType.TOKEN_EXPIRED, e);
-    } catch (SignatureException e) {
-      throw new JwtAuthenticationException(
-          JwtAuthenticationException.ErrorType.TOKEN_SIGNATURE_INVALID, e);
-    } catch (MalformedJwtException e) {
-      throw new JwtAuthenticationException(JwtAuthenticationException.ErrorType.TOKEN_MALFORMED, e);
-    } catch (UnsupportedJwtException e) {
-      throw new JwtAuthenticationException(
-          JwtAuthenticationException.ErrorType.TOKEN_INVALID_FORMAT, e);
-    } catch (JwtException e) {
-      throw new JwtAuthenticationException(JwtAuthenticationException.ErrorType.GENERAL_ERROR, e);
-    }
+    return verify(token).getSubject();
   }
 
   // 토큰에서 만료 시간 추출
@@ -80,7 +102,7 @@ public class JwtUtil {
   }
 
   public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-    final Claims claims = extractAllClaims(token);
+    final Claims claims = verify(token);
     return claimsResolver.apply(claims);
   }
 
@@ -118,10 +140,10 @@ public class JwtUtil {
   }
 
   // 토큰 유효성 검사
-  public Boolean validateToken(String token, User userDetails) {
+  public Boolean validateToken(String token, UserDetails userDetails) {
     try {
-      final String email = extractEmail(token);
-      return (email.equals(userDetails.getUsername()) && !isTokenExpired(token));
+      final Claims claims = verify(token);
+      return (claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims));
     } catch (JwtAuthenticationException e) {
       // 이미 특정 예외 유형으로 포장되어 있으므로 다시 던짐
       throw e;
@@ -133,8 +155,44 @@ public class JwtUtil {
   }
 
   // 토큰 만료 확인
-  private Boolean isTokenExpired(String token) {
+  private Boolean isTokenExpired(Claims claims) {
     // 토큰 만료 시간 추출 후 현재 시간과 비교
-    return extractExpiration(token).before(new Date());
+    return claims.getExpiration().before(new Date());
+  }
+
+  // 캐시 키로 사용할 토큰 해시 (원본 토큰은 보관하지 않음)
+  private String hash(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(hashed);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
+  }
+
+  // 캐시 항목을 토큰 만료 시각에 제거
+  private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+    @Override
+    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+      if (claims.getExpiration() == null) {
+        return 0;
+      }
+
+      long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String key, Claims claims, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+
+    @Override
+    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
   }
 }
@@ -0,0 +1,89 @@
+package com.soon_my_room.soon_my_room.security;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.soon_my_room.soon_my_room.repository.UserRepository;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 이메일별 인증 사용자 정보를 일정 시간 보관합니다.
+ *
+ * <p>인증된 요청마다 users 테이블을 조회하지 않도록 최대 크기와 만료 시간이 있는 캐시에 {@link AuthenticatedUser}를 보관하며, 사용자 정보 변경이나
+ * 로그아웃 시 무효화합니다.
+ */
+@Component
+public class PrincipalCache {
+
+  private final UserRepository userRepository;
+  private final AsyncCache<String, AuthenticatedUser> cache;
+
+  public PrincipalCache(
+      UserRepository userRepository,
+      @Value("${app.principal-cache.ttl-seconds:300}") long ttlSeconds,
+      @Value("${app.principal-cache.maximum-size:10000}") long maximumSize) {
+    this.userRepository = userRepository;
+    this.cache =
+        Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .maximumSize(maximumSize)
+            .buildAsync();
+  }
+
+  /**
+   * 이메일로 인증 사용자 조회 (캐시에 없으면 DB에서 조회)
+   *
+   * <p>같은 이메일을 동시에 조회하면 처음 요청한 스레드만 DB를 조회하고 나머지는 그 결과를 기다립니다. 조회는 캐시 내부 잠금 밖에서 하므로 가상 스레드가
+   * DB 응답을 기다리는 동안 캐리어 스레드를 고정하지 않습니다.
+   */
+  public AuthenticatedUser get(String email) throws UsernameNotFoundException {
+    CompletableFuture<AuthenticatedUser> loading = new CompletableFuture<>();
+    CompletableFuture<AuthenticatedUser> cached = cache.asMap().putIfAbsent(email, loading);
+    if (cached != null) {
+      try {
+        return cached.join();
+      } catch (CompletionException e) {
+        throw e.getCause() instanceof RuntimeException cause ? cause : e;
+      }
+    }
+
+    try {
+      AuthenticatedUser user = load(email);
+      loading.complete(user);
+      return user;
+    } catch (RuntimeException e) {
+      cache.asMap().remove(email, loading);
+      loading.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  /** 인증 사용자 정보 무효화 (트랜잭션 중이면 커밋 후 한 번 더 무효화) */
+  public void invalidate(String email) {
+    cache.synchronous().invalidate(email);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      // 커밋 전에 다른 요청이 이전 값을 다시 적재한 경우를 대비
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              cache.synchronous().invalidate(email);
+            }
+          });
+    }
+  }
+
+  private AuthenticatedUser load(String email) {
+    return userRepository
+        .findByEmail(email)
+        .map(AuthenticatedUser::from)
+        .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+  }
+}
@@ -8,6 +8,7 @@ import com.soon_my_room.soon_my_room.exception.ResourceNotFoundException;
 import com.soon_my_room.soon_my_room.model.User;
 import com.soon_my_room.soon_my_room.repository.UserRepository;
 import com.soon_my_room.soon_my_room.security.JwtUtil;
+import com.soon_my_room.soon_my_room.security.PrincipalCache;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +26,7 @@ public class AuthService {
   private final UserRepository userRepository;
   private final JwtUtil jwtUtil;
   private final AuthenticationManager authenticationManager;
+  private final PrincipalCache principalCache;
 
   @Value("${app.jwt.refresh-token.expiration}")
   private long refreshTokenExpirationMs;
@@ -119,6 +121,9 @@ public class AuthService {
     user.setRefreshToken(null);
     userRepository.save(user);
 
+    // 캐시된 인증 사용자 정보 무효화
+    principalCache.invalidate(user.getEmail());
+
     response.addHeader(
         "Set-Cookie",
         "refresh_token=; Max-Age=0; Path=/api/user/refresh; HttpOnly; Secure; SameSite=None");
@@ -0,0 +1,127 @@
+package com.soon_my_room.soon_my_room.service;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * 이미지를 블러해시(https://blurha.sh) 문자열로 인코딩합니다.
+ *
+ * <p>클라이언트는 이미지를 불러오기 전에 이 문자열로 흐린 자리표시자를 그릴 수 있습니다. 계산량이 픽셀 수에 비례하므로 작은 이미지(예: 32px 너비)로 줄인
+ * 뒤 호출합니다.
+ */
+final class BlurhashEncoder {
+
+  private static final String CHARACTERS =
+      "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+
+  private BlurhashEncoder() {}
+
+  /**
+   * 블러해시를 계산합니다.
+   *
+   * @param image 인코딩할 이미지
+   * @param componentsX 가로 성분 수 (1~9)
+   * @param componentsY 세로 성분 수 (1~9)
+   * @return 블러해시 문자열
+   */
+  static String encode(BufferedImage image, int componentsX, int componentsY) {
+    int width = image.getWidth();
+    int height = image.getHeight();
+    int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+    // 픽셀별 선형 RGB 값
+    double[][] linear = new double[pixels.length][3];
+    for (int i = 0; i < pixels.length; i++) {
+      linear[i][0] = toLinear((pixels[i] >> 16) & 0xFF);
+      linear[i][1] = toLinear((pixels[i] >> 8) & 0xFF);
+      linear[i][2] = toLinear(pixels[i] & 0xFF);
+    }
+
+    double[][] factors = new double[componentsX * componentsY][];
+    for (int j = 0; j < componentsY; j++) {
+      for (int i = 0; i < componentsX; i++) {
+        factors[j * componentsX + i] = basisFactor(linear, width, height, i, j);
+      }
+    }
+
+    StringBuilder hash = new StringBuilder();
+    encode83(hash, (componentsX - 1) + (componentsY - 1) * 9, 1);
+
+    // AC 성분의 최댓값으로 양자화 범위 결정
+    double maximumValue = 1;
+    if (factors.length > 1) {
+      double actualMaximum = 0;
+      for (int k = 1; k < factors.length; k++) {
+        for (double component : factors[k]) {
+          actualMaximum = Math.max(actualMaximum, Math.abs(component));
+        }
+      }
+
+      int quantisedMaximum = (int) Math.max(0, Math.min(82, Math.floor(actualMaximum * 166 - 0.5)));
+      maximumValue = (quantisedMaximum + 1) / 166.0;
+      encode83(hash, quantisedMaximum, 1);
+    } else {
+      encode83(hash, 0, 1);
+    }
+
+    double[] dc = factors[0];
+    encode83(hash, (toSrgb(dc[0]) << 16) + (toSrgb(dc[1]) << 8) + toSrgb(dc[2]), 4);
+
+    for (int k = 1; k < factors.length; k++) {
+      double[] ac = factors[k];
+      int value =
+          quantise(ac[0], maximumValue) * 19 * 19
+              + quantise(ac[1], maximumValue) * 19
+              + quantise(ac[2], maximumValue);
+      encode83(hash, value, 2);
+    }
+
+    return hash.toString();
+  }
+
+  /** (i, j) 코사인 기저에 대한 RGB 성분 */
+  private static double[] basisFactor(double[][] linear, int width, int height, int i, int j) {
+    double r = 0;
+    double g = 0;
+    double b = 0;
+
+    for (int y = 0; y < height; y++) {
+      double basisY = Math.cos(Math.PI * j * y / height);
+      for (int x = 0; x < width; x++) {
+        double basis = Math.cos(Math.PI * i * x / width) * basisY;
+        double[] pixel = linear[y * width + x];
+        r += basis * pixel[0];
+        g += basis * pixel[1];
+        b += basis * pixel[2];
+      }
+    }
+
+    double scale = (i == 0 && j == 0 ? 1.0 : 2.0) / (width * height);
+    return new double[] {r * scale, g * scale, b * scale};
+  }
+
+  private static int quantise(double value, double maximumValue) {
+    double normalised = value / maximumValue;
+    double signedRoot = Math.copySign(Math.sqrt(Math.abs(normalised)), normalised);
+    return (int) Math.max(0, Math.min(18, Math.floor(signedRoot * 9 + 9.5)));
+  }
+
+  private static double toLinear(int value) {
+    double v = value / 255.0;
+    return v <= 0.04045 ? v / 12.92 : Math.pow((v + 0.055) / 1.055, 2.4);
+  }
+
+  private static int toSrgb(double value) {
+    double v = Math.max(0, Math.min(1, value));
+    if (v <= 0.0031308) {
+      return (int) (v * 12.92 * 255 + 0.5);
+    }
+    return (int) ((1.055 * Math.pow(v, 1 / 2.4) - 0.055) * 255 + 0.5);
+  }
+
+  private static void encode83(StringBuilder hash, int value, int length) {
+    for (int i = 1; i <= length; i++) {
+      int digit = (int) (value / Math.pow(83, length - i)) % 83;
+      hash.append(CHARACTERS.charAt(digit));
+    }
+  }
+}
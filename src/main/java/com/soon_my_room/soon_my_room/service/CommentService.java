@@ -1,20 +1,21 @@
 package com.soon_my_room.soon_my_room.service;
 
 import com.soon_my_room.soon_my_room.dto.CommentDTO;
+import com.soon_my_room.soon_my_room.dto.PageCursor;
 import com.soon_my_room.soon_my_room.dto.ProfileDTO;
 import com.soon_my_room.soon_my_room.exception.ResourceNotFoundException;
 import com.soon_my_room.soon_my_room.model.Comment;
-import com.soon_my_room.soon_my_room.model.Follow;
 import com.soon_my_room.soon_my_room.model.Post;
 import com.soon_my_room.soon_my_room.model.User;
 import com.soon_my_room.soon_my_room.repository.CommentRepository;
-import com.soon_my_room.soon_my_room.repository.FollowRepository;
 import com.soon_my_room.soon_my_room.repository.PostRepository;
 import com.soon_my_room.soon_my_room.repository.UserRepository;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -27,7 +28,8 @@ public class CommentService {
   private final CommentRepository commentRepository;
   private final PostRepository postRepository;
   private final UserRepository userRepository;
-  private final FollowRepository followRepository;
+  private final ProfileAssembler profileAssembler;
+  private final PostCounterBuffer postCounterBuffer;
 
   /** 댓글 작성 */
   @Transactional
@@ -54,26 +56,11 @@ public class CommentService {
     Comment comment = Comment.builder().post(post).author(currentUser).content(content).build();
 
     Comment savedComment = commentRepository.save(comment);
+    postCounterBuffer.addComments(post.getId(), 1);
 
     // 작성자 프로필 정보
-    List<String> followerIds =
-        followRepository.findByFollowingId(currentUser.getId()).stream()
-            .map(Follow::getFollowerId)
-            .collect(Collectors.toList());
-
-    List<String> followingIds =
-        followRepository.findByFollowerId(currentUser.getId()).stream()
-            .map(Follow::getFollowingId)
-            .collect(Collectors.toList());
-
     ProfileDTO.Profile authorProfile =
-        ProfileDTO.Profile.fromEntity(
-            currentUser,
-            false, // 자신이 작성한 댓글이므로 팔로우 상태는 false
-            followingIds,
-            followerIds,
-            followingIds.size(),
-            followerIds.size());
+        profileAssembler.buildProfile(currentUser, currentUser, ProfileDTO.View.COMPACT);
 
     return CommentDTO.CommentResponse.fromEntity(savedComment, authorProfile);
   }
@@ -81,67 +68,57 @@ public class CommentService {
   /** 댓글 목록 조회 */
   @Transactional(readOnly = true)
   public CommentDTO.CommentListResponse getComments(
-      String postId, String currentUserEmail, Integer limit, Integer skip) {
+      String postId, String currentUserId, Integer limit, Integer skip, String cursor) {
     // 게시글 조회
     Post post =
         postRepository
             .findById(postId)
             .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 게시글입니다."));
 
-    // 현재 사용자 조회
-    User currentUser =
-        userRepository
-            .findByEmail(currentUserEmail)
-            .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
-
     // 페이징 설정
-    int pageSize = limit != null ? limit : 10;
-    int pageNumber = skip != null ? skip / pageSize : 0;
-    Pageable pageable = PageRequest.of(pageNumber, pageSize);
+    int pageSize = Paging.pageSize(limit, 10);
 
     // 댓글 목록 조회
-    List<Comment> comments = commentRepository.findByPostOrderByCreatedAtDesc(post, pageable);
+    List<Comment> comments;
+    if (Paging.isKeysetRequest(skip, cursor)) {
+      // 커서 이후 댓글을 (created_at, id) 인덱스 탐색으로 조회
+      PageCursor pageCursor = PageCursor.decode(cursor);
+      comments =
+          pageCursor == null
+              ? commentRepository.findFirstPageByPostId(post.getId(), pageSize)
+              : commentRepository.findPageByPostIdAfter(
+                  post.getId(), pageCursor.getCreatedAt(), pageCursor.getId(), pageSize);
+    } else {
+      Pageable pageable = Paging.offset(skip, pageSize);
+      comments = commentRepository.findByPostOrderByCreatedAtDesc(post, pageable);
+    }
+
+    // 댓글 작성자 조회 및 프로필 구성 (작성자별 한 번)
+    Set<String> authorIds =
+        comments.stream()
+            .map(comment -> comment.getAuthor().getId())
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    Map<String, ProfileDTO.Profile> authorProfiles =
+        profileAssembler.buildProfiles(
+            userRepository.findAllById(authorIds), currentUserId, ProfileDTO.View.COMPACT);
 
     // 댓글 상세 정보 구성
     List<CommentDTO.CommentDetail> commentDetails =
         comments.stream()
             .map(
-                comment -> {
-                  // 댓글 작성자 프로필 정보
-                  User author = comment.getAuthor();
-                  List<String> followerIds =
-                      followRepository.findByFollowingId(author.getId()).stream()
-                          .map(Follow::getFollowerId)
-                          .collect(Collectors.toList());
-
-                  List<String> followingIds =
-                      followRepository.findByFollowerId(author.getId()).stream()
-                          .map(Follow::getFollowingId)
-                          .collect(Collectors.toList());
-
-                  boolean isFollowing =
-                      followRepository.existsByFollowerIdAndFollowingId(
-                          currentUser.getId(), author.getId());
-
-                  ProfileDTO.Profile authorProfile =
-                      ProfileDTO.Profile.fromEntity(
-                          author,
-                          isFollowing,
-                          followingIds,
-                          followerIds,
-                          followingIds.size(),
-                          followerIds.size());
-
-                  return CommentDTO.CommentDetail.builder()
-                      .id(comment.getId())
-                      .content(comment.getContent())
-                      .createdAt(comment.getCreatedAt())
-                      .author(authorProfile)
-                      .build();
-                })
+                comment ->
+                    CommentDTO.CommentDetail.builder()
+                        .id(comment.getId())
+                        .content(comment.getContent())
+                        .createdAt(comment.getCreatedAt())
+                        .author(authorProfiles.get(comment.getAuthor().getId()))
+                        .build())
             .collect(Collectors.toList());
 
-    return CommentDTO.CommentListResponse.builder().comment(commentDetails).build();
+    return CommentDTO.CommentListResponse.builder()
+        .comment(commentDetails)
+        .next(PageCursor.next(comments, pageSize, Comment::getCreatedAt, Comment::getId))
+        .build();
   }
 
   /** 댓글 삭제 */
@@ -172,6 +149,7 @@ public class CommentService {
 
     // 댓글 삭제
     commentRepository.delete(comment);
+    postCounterBuffer.addComments(post.getId(), -1);
   }
 
   /** 댓글 신고 */
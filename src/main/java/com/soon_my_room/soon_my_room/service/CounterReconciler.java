@@ -0,0 +1,38 @@
+package com.soon_my_room.soon_my_room.service;
+
+import com.soon_my_room.soon_my_room.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 비정규화된 카운터 컬럼을 실제 행 수와 맞춥니다.
+ *
+ * <p>주기적으로 실행되어 장애 등으로 생긴 차이를 바로잡습니다. 컬럼을 추가할 때의 기존 데이터 채우기는 마이그레이션에서 한 번만 수행합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CounterReconciler {
+
+  private final UserRepository userRepository;
+  private final PostCounterBuffer postCounterBuffer;
+  private final TransactionTemplate transactionTemplate;
+
+  /** 주기적 카운터 보정 */
+  @Scheduled(cron = "${app.counter.reconcile-cron:0 0 4 * * *}")
+  public void reconcile() {
+    // 게시글 카운터는 메모리 변경분 반영과 겹치지 않도록 버퍼에서 보정 (반영은 별도 트랜잭션으로 먼저 커밋)
+    int posts = postCounterBuffer.reconcile();
+    if (posts > 0) {
+      log.info("게시글 카운터 보정 완료: {} 건", posts);
+    }
+
+    Integer users = transactionTemplate.execute(status -> userRepository.reconcileCounters());
+    if (users != null && users > 0) {
+      log.info("사용자 카운터 보정 완료: {} 건", users);
+    }
+  }
+}
@@ -0,0 +1,529 @@
+package com.soon_my_room.soon_my_room.service;
+
+import com.soon_my_room.soon_my_room.model.Follow;
+import com.soon_my_room.soon_my_room.repository.FollowRepository;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 팔로우 관계를 메모리에 보관하는 그래프 인덱스입니다.
+ *
+ * <p>사용자 UUID를 0부터 시작하는 정수 ID로 매핑하고, 사용자별 팔로잉/팔로워 목록을 정렬된 {@code int[]}로 보관하여 팔로우 여부를 이진
+ * 탐색으로 확인합니다. 목록은 변경 시 새 배열로 교체(copy-on-write)하므로 조회는 잠금 없이 수행됩니다. 시작 직후 적재가 끝나기 전에는 {@link
+ * FollowRepository}로 조회합니다.
+ *
+ * <p>팔로우/언팔로우는 같은 트랜잭션에서 follow_events 테이블에 기록하고, 이 인스턴스에는 커밋 직후 반영합니다. 다른 인스턴스의 변경은
+ * {@link #pollEvents}가 주기적으로(기본 2초) 읽어 반영하며, 커밋이 {@value #EVENT_OVERLAP_SECONDS}초 넘게 늦어 놓친 변경은 전체
+ * 재적재 주기 안에 맞춰집니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FollowGraph {
+
+  private static final int[] EMPTY = new int[0];
+  private static final int INITIAL_CAPACITY = 1024;
+
+  // 변경 이벤트를 다시 읽는 구간 (이벤트 기록 시각보다 늦게 커밋된 트랜잭션을 놓치지 않도록 겹쳐 읽음)
+  private static final long EVENT_OVERLAP_SECONDS = 30;
+
+  // 변경 이벤트 보관 기간 (모든 인스턴스가 읽은 뒤 삭제)
+  private static final Duration EVENT_RETENTION = Duration.ofHours(1);
+
+  // 기록 시각은 커밋 시각에 가깝도록 트랜잭션 시작 시각 대신 실행 시각 사용
+  private static final String INSERT_EVENT_SQL =
+      "INSERT INTO follow_events (follower_id, following_id, followed, created_at)"
+          + " VALUES (?, ?, ?, clock_timestamp()::timestamp)";
+
+  private static final String SELECT_EVENTS_SQL =
+      "SELECT id, follower_id, following_id, followed, created_at FROM follow_events"
+          + " WHERE created_at > ? ORDER BY id";
+
+  private static final String DELETE_EVENTS_SQL = "DELETE FROM follow_events WHERE created_at < ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final FollowRepository followRepository;
+
+  // 적재 완료 전에는 null
+  private volatile Index index;
+
+  // 적재 중 발생한 변경 (적재 완료 후 다시 반영), 쓰기 잠금(this)으로 보호
+  private List<Edge> pendingEdges;
+
+  // 마지막으로 읽은 변경 이벤트의 기록 시각 (DB 시각, 첫 적재 전에는 null)
+  private volatile LocalDateTime eventCursor;
+
+  // 겹쳐 읽는 구간에서 이미 반영한 이벤트 ID와 기록 시각 (이벤트 조회 스레드에서만 사용)
+  private final Map<Long, LocalDateTime> appliedEvents = new HashMap<>();
+
+  /** 적재 완료 여부 */
+  public boolean isReady() {
+    return index != null;
+  }
+
+  /** 팔로우 여부 확인 */
+  public boolean isFollowing(String followerId, String followingId) {
+    Index current = index;
+    if (current == null) {
+      return followRepository.existsByFollowerIdAndFollowingId(followerId, followingId);
+    }
+
+    Integer follower = current.ids.get(followerId);
+    Integer following = current.ids.get(followingId);
+    if (follower == null || following == null) {
+      return false;
+    }
+
+    return Arrays.binarySearch(current.followings.get(follower), following) >= 0;
+  }
+
+  /** 대상 사용자 중 팔로우 중인 사용자 ID 조회 */
+  public Set<String> findFollowingIdsIn(String followerId, Collection<String> userIds) {
+    Index current = index;
+    if (current == null) {
+      return new HashSet<>(followRepository.findFollowingIdsIn(followerId, userIds));
+    }
+
+    return followingIdsIn(current, followerId, userIds);
+  }
+
+  /** 사용자별 팔로잉 ID 목록 조회 */
+  public Map<String, List<String>> findFollowingIds(Collection<String> userIds) {
+    Index current = index;
+    if (current == null) {
+      return followRepository.findByFollowerIdIn(userIds).stream()
+          .collect(
+              Collectors.groupingBy(
+                  Follow::getFollowerId,
+                  Collectors.mapping(Follow::getFollowingId, Collectors.toList())));
+    }
+
+    return collect(current, current.followings, userIds);
+  }
+
+  /** 사용자별 팔로워 ID 목록 조회 */
+  public Map<String, List<String>> findFollowerIds(Collection<String> userIds) {
+    Index current = index;
+    if (current == null) {
+      return followRepository.findByFollowingIdIn(userIds).stream()
+          .collect(
+              Collectors.groupingBy(
+                  Follow::getFollowingId,
+                  Collectors.mapping(Follow::getFollowerId, Collectors.toList())));
+    }
+
+    return collect(current, current.followers, userIds);
+  }
+
+  /**
+   * 현재 사용자의 팔로우 여부와 대상 사용자별 팔로워/팔로잉 목록을 조회합니다.
+   *
+   * @param withLists 팔로워/팔로잉 목록도 조회할지 여부 (false면 빈 맵)
+   */
+  public Relations findRelations(
+      String currentUserId, Collection<String> userIds, boolean withLists) {
+    return findRelationsInMemory(currentUserId, userIds, withLists)
+        .orElseGet(
+            () ->
+                new Relations(
+                    findFollowingIdsIn(currentUserId, userIds),
+                    withLists ? findFollowerIds(userIds) : Map.of(),
+                    withLists ? findFollowingIds(userIds) : Map.of()));
+  }
+
+  /**
+   * {@link #findRelations}와 같지만 메모리 인덱스에서만 조회합니다. DB를 조회하지 않으므로 이벤트 루프 스레드에서 호출할 수 있습니다.
+   *
+   * @return 조회 결과, 적재 완료 전이면 empty
+   */
+  public Optional<Relations> findRelationsInMemory(
+      String currentUserId, Collection<String> userIds, boolean withLists) {
+    Index current = index;
+    if (current == null) {
+      return Optional.empty();
+    }
+
+    return Optional.of(
+        new Relations(
+            followingIdsIn(current, currentUserId, userIds),
+            withLists ? collect(current, current.followers, userIds) : Map.of(),
+            withLists ? collect(current, current.followings, userIds) : Map.of()));
+  }
+
+  /** 팔로우 반영 (현재 트랜잭션에서 변경 이벤트를 기록하고 커밋 후 이 인스턴스에 반영) */
+  public void onFollow(String followerId, String followingId) {
+    recordEvent(new Edge(followerId, followingId, true));
+  }
+
+  /** 언팔로우 반영 (현재 트랜잭션에서 변경 이벤트를 기록하고 커밋 후 이 인스턴스에 반영) */
+  public void onUnfollow(String followerId, String followingId) {
+    recordEvent(new Edge(followerId, followingId, false));
+  }
+
+  /** 다른 인스턴스에서 커밋된 변경 반영 */
+  @Scheduled(fixedDelayString = "${app.follow-graph.poll-interval-ms:2000}")
+  public void pollEvents() {
+    LocalDateTime cursor = eventCursor;
+    if (index == null || cursor == null) {
+      return;
+    }
+
+    List<Edge> edges = new ArrayList<>();
+    LocalDateTime[] latest = {cursor};
+    try {
+      jdbcTemplate.query(
+          SELECT_EVENTS_SQL,
+          rs -> {
+            long id = rs.getLong(1);
+            LocalDateTime createdAt = rs.getTimestamp(5).toLocalDateTime();
+            if (appliedEvents.putIfAbsent(id, createdAt) == null) {
+              edges.add(new Edge(rs.getString(2), rs.getString(3), rs.getBoolean(4)));
+            }
+            if (createdAt.isAfter(latest[0])) {
+              latest[0] = createdAt;
+            }
+          },
+          Timestamp.valueOf(cursor.minusSeconds(EVENT_OVERLAP_SECONDS)));
+    } catch (RuntimeException e) {
+      log.warn("팔로우 변경 이벤트 조회 실패, 다음 주기에 재시도합니다: {}", e.getMessage());
+      return;
+    }
+
+    // 기록 순서대로 반영 (같은 관계의 변경은 행 잠금으로 직렬화되므로 ID 순서가 커밋 순서)
+    edges.forEach(this::update);
+    eventCursor = latest[0];
+    LocalDateTime expired = latest[0].minusSeconds(EVENT_OVERLAP_SECONDS);
+    appliedEvents.values().removeIf(createdAt -> createdAt.isBefore(expired));
+  }
+
+  /** 시작 시 백그라운드에서 적재 */
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadOnStartup() {
+    Thread.ofVirtual().name("follow-graph-loader").start(this::reload);
+  }
+
+  /** 주기적으로 전체 재적재 (놓친 변경 이벤트 보정, 오래된 이벤트 삭제) */
+  @Scheduled(
+      initialDelayString = "${app.follow-graph.refresh-interval-ms:600000}",
+      fixedDelayString = "${app.follow-graph.refresh-interval-ms:600000}")
+  public void reload() {
+    synchronized (this) {
+      if (pendingEdges != null) {
+        return; // 이미 적재 중
+      }
+      pendingEdges = new ArrayList<>();
+    }
+
+    Index loaded;
+    try {
+      // 첫 적재는 적재 쿼리보다 먼저 시각을 읽어 그 이후의 변경 이벤트부터 반영
+      if (eventCursor == null) {
+        eventCursor = jdbcTemplate.queryForObject("SELECT localtimestamp", LocalDateTime.class);
+      }
+      loaded = load();
+    } catch (RuntimeException e) {
+      log.warn("팔로우 그래프 적재 실패: {}", e.getMessage());
+      synchronized (this) {
+        pendingEdges = null;
+      }
+      return;
+    }
+
+    synchronized (this) {
+      // 적재 중 발생한 변경을 다시 반영 (추가/삭제 모두 멱등)
+      for (Edge edge : pendingEdges) {
+        loaded = apply(loaded, edge);
+      }
+      pendingEdges = null;
+      index = loaded;
+    }
+
+    log.info("팔로우 그래프 적재 완료: 사용자 {} 명", loaded.size);
+    deleteExpiredEvents();
+  }
+
+  private void deleteExpiredEvents() {
+    LocalDateTime cursor = eventCursor;
+    if (cursor == null) {
+      return;
+    }
+
+    try {
+      jdbcTemplate.update(DELETE_EVENTS_SQL, Timestamp.valueOf(cursor.minus(EVENT_RETENTION)));
+    } catch (RuntimeException e) {
+      log.warn("오래된 팔로우 변경 이벤트 삭제 실패: {}", e.getMessage());
+    }
+  }
+
+  /** 변경 이벤트를 현재 트랜잭션에서 기록하고 커밋 후 반영 */
+  private void recordEvent(Edge edge) {
+    jdbcTemplate.update(INSERT_EVENT_SQL, edge.followerId, edge.followingId, edge.added);
+    afterCommit(edge);
+  }
+
+  private void afterCommit(Edge edge) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      update(edge);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            update(edge);
+          }
+        });
+  }
+
+  private synchronized void update(Edge edge) {
+    if (pendingEdges != null) {
+      pendingEdges.add(edge);
+    }
+
+    if (index != null) {
+      index = apply(index, edge);
+    }
+  }
+
+  /** 간선 추가/삭제 (쓰기 잠금 안에서 호출, 용량이 부족하면 확장된 인덱스 반환) */
+  private Index apply(Index target, Edge edge) {
+    if (!edge.added) {
+      Integer follower = target.ids.get(edge.followerId);
+      Integer following = target.ids.get(edge.followingId);
+      if (follower != null && following != null) {
+        target.followings.set(follower, remove(target.followings.get(follower), following));
+        target.followers.set(following, remove(target.followers.get(following), follower));
+      }
+      return target;
+    }
+
+    Index grown = target.ensureCapacity(target.size + 2);
+    int follower = grown.idFor(edge.followerId);
+    int following = grown.idFor(edge.followingId);
+    grown.followings.set(follower, insert(grown.followings.get(follower), following));
+    grown.followers.set(following, insert(grown.followers.get(following), follower));
+    return grown;
+  }
+
+  /** follows 테이블 전체를 읽어 인덱스 구성 */
+  private Index load() {
+    Map<String, Integer> ids = new HashMap<>();
+    List<String> names = new ArrayList<>();
+    int[][] edges = {new int[INITIAL_CAPACITY], new int[INITIAL_CAPACITY]};
+    int[] edgeCount = {0};
+
+    jdbcTemplate.query(
+        "SELECT follower_id, following_id FROM follows",
+        rs -> {
+          int count = edgeCount[0];
+          if (count == edges[0].length) {
+            edges[0] = Arrays.copyOf(edges[0], count * 2);
+            edges[1] = Arrays.copyOf(edges[1], count * 2);
+          }
+          edges[0][count] = denseId(ids, names, rs.getString(1));
+          edges[1][count] = denseId(ids, names, rs.getString(2));
+          edgeCount[0] = count + 1;
+        });
+
+    // 사용자별 차수를 센 뒤 한 번에 배열 할당
+    int size = names.size();
+    int[] followingDegree = new int[size];
+    int[] followerDegree = new int[size];
+    for (int i = 0; i < edgeCount[0]; i++) {
+      followingDegree[edges[0][i]]++;
+      followerDegree[edges[1][i]]++;
+    }
+
+    int[][] followings = new int[size][];
+    int[][] followers = new int[size][];
+    for (int user = 0; user < size; user++) {
+      followings[user] = followingDegree[user] == 0 ? EMPTY : new int[followingDegree[user]];
+      followers[user] = followerDegree[user] == 0 ? EMPTY : new int[followerDegree[user]];
+      followingDegree[user] = 0;
+      followerDegree[user] = 0;
+    }
+
+    for (int i = 0; i < edgeCount[0]; i++) {
+      int follower = edges[0][i];
+      int following = edges[1][i];
+      followings[follower][followingDegree[follower]++] = following;
+      followers[following][followerDegree[following]++] = follower;
+    }
+
+    Index loaded = new Index(new ConcurrentHashMap<>(ids), Math.max(size, INITIAL_CAPACITY));
+    for (int user = 0; user < size; user++) {
+      Arrays.sort(followings[user]);
+      Arrays.sort(followers[user]);
+      loaded.names.set(user, names.get(user));
+      loaded.followings.set(user, followings[user]);
+      loaded.followers.set(user, followers[user]);
+    }
+    loaded.size = size;
+    return loaded;
+  }
+
+  /** 적재 중 정수 ID 조회 또는 할당 */
+  private static int denseId(Map<String, Integer> ids, List<String> names, String userId) {
+    return ids.computeIfAbsent(
+        userId,
+        id -> {
+          names.add(id);
+          return names.size() - 1;
+        });
+  }
+
+  private static Set<String> followingIdsIn(
+      Index current, String followerId, Collection<String> userIds) {
+    Integer follower = current.ids.get(followerId);
+    if (follower == null) {
+      return new HashSet<>();
+    }
+
+    int[] followings = current.followings.get(follower);
+    Set<String> result = new HashSet<>();
+    for (String userId : userIds) {
+      Integer user = current.ids.get(userId);
+      if (user != null && Arrays.binarySearch(followings, user) >= 0) {
+        result.add(userId);
+      }
+    }
+    return result;
+  }
+
+  private static Map<String, List<String>> collect(
+      Index current, AtomicReferenceArray<int[]> adjacency, Collection<String> userIds) {
+    Map<String, List<String>> result = new HashMap<>();
+    for (String userId : userIds) {
+      Integer user = current.ids.get(userId);
+      if (user == null) {
+        continue;
+      }
+
+      int[] neighbors = adjacency.get(user);
+      List<String> ids = new ArrayList<>(neighbors.length);
+      for (int neighbor : neighbors) {
+        ids.add(current.names.get(neighbor));
+      }
+      result.put(userId, ids);
+    }
+    return result;
+  }
+
+  /** 정렬된 배열에 값 추가 (이미 있으면 그대로 반환) */
+  private static int[] insert(int[] sorted, int value) {
+    int position = Arrays.binarySearch(sorted, value);
+    if (position >= 0) {
+      return sorted;
+    }
+
+    int insertAt = -position - 1;
+    int[] result = new int[sorted.length + 1];
+    System.arraycopy(sorted, 0, result, 0, insertAt);
+    result[insertAt] = value;
+    System.arraycopy(sorted, insertAt, result, insertAt + 1, sorted.length - insertAt);
+    return result;
+  }
+
+  /** 정렬된 배열에서 값 제거 (없으면 그대로 반환) */
+  private static int[] remove(int[] sorted, int value) {
+    int position = Arrays.binarySearch(sorted, value);
+    if (position < 0) {
+      return sorted;
+    }
+
+    if (sorted.length == 1) {
+      return EMPTY;
+    }
+
+    int[] result = new int[sorted.length - 1];
+    System.arraycopy(sorted, 0, result, 0, position);
+    System.arraycopy(sorted, position + 1, result, position, sorted.length - position - 1);
+    return result;
+  }
+
+  /**
+   * 프로필 구성에 필요한 팔로우 관계
+   *
+   * @param followedIds 대상 사용자 중 현재 사용자가 팔로우 중인 사용자 ID
+   * @param followersByUser 사용자별 팔로워 ID 목록
+   * @param followingsByUser 사용자별 팔로잉 ID 목록
+   */
+  public record Relations(
+      Set<String> followedIds,
+      Map<String, List<String>> followersByUser,
+      Map<String, List<String>> followingsByUser) {}
+
+  private record Edge(String followerId, String followingId, boolean added) {}
+
+  /** 정수 ID 매핑과 인접 목록 (쓰기는 FollowGraph 잠금 안에서만 수행) */
+  private static final class Index {
+    private final Map<String, Integer> ids;
+    private final AtomicReferenceArray<String> names;
+    private final AtomicReferenceArray<int[]> followings;
+    private final AtomicReferenceArray<int[]> followers;
+    private int size;
+
+    private Index(Map<String, Integer> ids, int capacity) {
+      this.ids = ids;
+      this.names = new AtomicReferenceArray<>(capacity);
+      this.followings = new AtomicReferenceArray<>(capacity);
+      this.followers = new AtomicReferenceArray<>(capacity);
+    }
+
+    /** 용량이 부족하면 배열을 복사한 새 인덱스 반환 */
+    private Index ensureCapacity(int required) {
+      if (required <= followings.length()) {
+        return this;
+      }
+
+      // 이전 인덱스를 읽는 조회가 범위를 벗어난 ID를 보지 않도록 매핑도 복사
+      int capacity = Math.max(required, followings.length() * 2);
+      Index grown = new Index(new ConcurrentHashMap<>(ids), capacity);
+      for (int i = 0; i < size; i++) {
+        grown.names.set(i, names.get(i));
+        grown.followings.set(i, followings.get(i));
+        grown.followers.set(i, followers.get(i));
+      }
+      grown.size = size;
+      return grown;
+    }
+
+    /** 정수 ID 조회 또는 할당 (용량 확보 후 호출) */
+    private int idFor(String userId) {
+      Integer existing = ids.get(userId);
+      if (existing != null) {
+        return existing;
+      }
+
+      int id = size++;
+      names.set(id, userId);
+      followings.set(id, EMPTY);
+      followers.set(id, EMPTY);
+      ids.put(userId, id);
+      return id;
+    }
+  }
+}
@@ -1,12 +1,13 @@
 package com.soon_my_room.soon_my_room.service;
 
+import com.soon_my_room.soon_my_room.dto.PageCursor;
 import com.soon_my_room.soon_my_room.dto.ProfileDTO;
 import com.soon_my_room.soon_my_room.exception.ResourceNotFoundException;
 import com.soon_my_room.soon_my_room.model.Follow;
-import com.soon_my_room.soon_my_room.model.FollowId;
 import com.soon_my_room.soon_my_room.model.User;
 import com.soon_my_room.soon_my_room.repository.FollowRepository;
 import com.soon_my_room.soon_my_room.repository.UserRepository;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -18,9 +19,15 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class FollowService {
 
+  /** ID 목록의 기본 페이지 크기 */
+  private static final int ID_PAGE_SIZE = 100;
+
   private final UserRepository userRepository;
   private final FollowRepository followRepository;
   private final ProfileService profileService;
+  private final ProfileAssembler profileAssembler;
+  private final TimelineService timelineService;
+  private final FollowGraph followGraph;
 
   @Transactional
   public ProfileDTO.ProfileResponse followUser(String followerId, String targetAccountname) {
@@ -41,15 +48,24 @@ public class FollowService {
       throw new IllegalArgumentException("자기 자신을 팔로우 할 수 없습니다.");
     }
 
-    // 이미 팔로우 중인지 확인 후 팔로우 관계 생성
-    if (!followRepository.existsByFollowerIdAndFollowingId(follower.getId(), following.getId())) {
-      Follow follow =
-          Follow.builder().followerId(follower.getId()).followingId(following.getId()).build();
-      followRepository.save(follow);
+    // 팔로우 관계 생성 (이미 팔로우 중이면 무시)
+    int inserted =
+        followRepository.insertIfAbsent(follower.getId(), following.getId(), LocalDateTime.now());
+
+    // 실제로 추가된 경우에만 카운터 증가 및 타임라인 반영
+    // (증감 쿼리는 이미 조회한 엔티티를 갱신하지 않으므로 응답에 쓰일 값도 함께 변경)
+    if (inserted > 0) {
+      userRepository.adjustFollowCounts(follower.getId(), following.getId(), 1);
+      follower.setFollowingCount(follower.getFollowingCount() + 1);
+      following.setFollowerCount(following.getFollowerCount() + 1);
+      followGraph.onFollow(follower.getId(), following.getId());
+
+      // 대상 사용자의 게시글을 타임라인에 추가
+      timelineService.onFollow(follower.getId(), following.getId());
     }
 
     // 프로필 조회
-    return profileService.getProfile(targetAccountname, followerId);
+    return profileService.getProfile(targetAccountname, followerId, ProfileDTO.View.FULL);
   }
 
   @Transactional
@@ -67,120 +83,136 @@ public class FollowService {
             .orElseThrow(() -> new ResourceNotFoundException("해당 계정이 존재하지 않습니다."));
 
     // 팔로우 관계 삭제
-    FollowId followId = new FollowId(follower.getId(), following.getId());
-    followRepository.findById(followId).ifPresent(followRepository::delete);
+    int deleted = followRepository.deleteByIds(follower.getId(), following.getId());
+
+    // 실제로 삭제된 경우에만 카운터 감소 및 타임라인 반영
+    if (deleted > 0) {
+      userRepository.adjustFollowCounts(follower.getId(), following.getId(), -1);
+      follower.setFollowingCount(follower.getFollowingCount() - 1);
+      following.setFollowerCount(following.getFollowerCount() - 1);
+      followGraph.onUnfollow(follower.getId(), following.getId());
+
+      // 대상 사용자의 게시글을 타임라인에서 제거
+      timelineService.onUnfollow(follower.getId(), following.getId());
+    }
 
     // 프로필 조회
-    return profileService.getProfile(targetAccountname, followerId);
+    return profileService.getProfile(targetAccountname, followerId, ProfileDTO.View.FULL);
   }
 
+  /** 팔로워 프로필 목록 조회 (최근 팔로우 순) */
   @Transactional(readOnly = true)
-  public List<ProfileDTO.Profile> getFollowerProfiles(
-      String accountname, String currentUserId, Integer limit, Integer skip) {
+  public ProfileDTO.ProfilePage getFollowerProfiles(
+      String accountname,
+      String currentUserId,
+      Integer limit,
+      Integer skip,
+      String cursor,
+      ProfileDTO.View view) {
     User user =
         userRepository
             .findByAccountname(accountname)
             .orElseThrow(() -> new ResourceNotFoundException("해당 계정이 존재하지 않습니다."));
 
-    List<String> followerIds =
-        followRepository.findByFollowingId(user.getId()).stream()
-            .map(Follow::getFollowerId)
-            .collect(Collectors.toList());
-
-    if (followerIds.isEmpty()) {
-      return new ArrayList<>();
+    // 팔로워 페이지 조회 (팔로워 사용자 함께 조회)
+    // limit이 없으면 전체 조회
+    int pageSize = Paging.pageSize(limit, Paging.UNLIMITED);
+    List<Follow> follows;
+    if (Paging.isKeysetRequest(skip, cursor)) {
+      PageCursor pageCursor = PageCursor.decode(cursor);
+      follows =
+          pageCursor == null
+              ? followRepository.findFollowerPage(user.getId(), Paging.offset(null, pageSize))
+              : followRepository.findFollowerPageAfter(
+                  user.getId(),
+                  pageCursor.getCreatedAt(),
+                  pageCursor.getId(),
+                  Paging.offset(null, pageSize));
+    } else {
+      follows = followRepository.findFollowerPage(user.getId(), Paging.offset(skip, pageSize));
     }
 
-    // 페이징 처리
-    if (skip != null && limit != null) {
-      int fromIndex = Math.min(skip, followerIds.size());
-      int toIndex = Math.min(fromIndex + limit, followerIds.size());
-      followerIds = followerIds.subList(fromIndex, toIndex);
+    List<User> followers = follows.stream().map(Follow::getFollower).collect(Collectors.toList());
+
+    return ProfileDTO.ProfilePage.builder()
+        .profiles(buildProfiles(followers, currentUserId, view))
+        .next(PageCursor.next(follows, pageSize, Follow::getCreatedAt, Follow::getFollowerId))
+        .build();
+  }
+
+  /** 팔로잉 프로필 목록 조회 (최근 팔로우 순) */
+  @Transactional(readOnly = true)
+  public ProfileDTO.ProfilePage getFollowingProfiles(
+      String accountname,
+      String currentUserId,
+      Integer limit,
+      Integer skip,
+      String cursor,
+      ProfileDTO.View view) {
+    User user =
+        userRepository
+            .findByAccountname(accountname)
+            .orElseThrow(() -> new ResourceNotFoundException("해당 계정이 존재하지 않습니다."));
+
+    // 팔로잉 페이지 조회 (팔로잉 사용자 함께 조회)
+    // limit이 없으면 전체 조회
+    int pageSize = Paging.pageSize(limit, Paging.UNLIMITED);
+    List<Follow> follows;
+    if (Paging.isKeysetRequest(skip, cursor)) {
+      PageCursor pageCursor = PageCursor.decode(cursor);
+      follows =
+          pageCursor == null
+              ? followRepository.findFollowingPage(user.getId(), Paging.offset(null, pageSize))
+              : followRepository.findFollowingPageAfter(
+                  user.getId(),
+                  pageCursor.getCreatedAt(),
+                  pageCursor.getId(),
+                  Paging.offset(null, pageSize));
+    } else {
+      follows = followRepository.findFollowingPage(user.getId(), Paging.offset(skip, pageSize));
     }
 
-    List<User> followers = userRepository.findAllById(followerIds);
-
-    return followers.stream()
-        .map(
-            follower -> {
-              // 각 팔로워에 대한 프로필 정보 구성
-              boolean isFollowing =
-                  followRepository.existsByFollowerIdAndFollowingId(
-                      currentUserId, follower.getId());
-
-              List<String> followerFollowers =
-                  followRepository.findByFollowingId(follower.getId()).stream()
-                      .map(Follow::getFollowerId)
-                      .collect(Collectors.toList());
-
-              List<String> followerFollowing =
-                  followRepository.findByFollowerId(follower.getId()).stream()
-                      .map(Follow::getFollowingId)
-                      .collect(Collectors.toList());
-
-              return ProfileDTO.Profile.fromEntity(
-                  follower,
-                  isFollowing,
-                  followerFollowing,
-                  followerFollowers,
-                  followerFollowing.size(),
-                  followerFollowers.size());
-            })
-        .collect(Collectors.toList());
+    List<User> followings =
+        follows.stream().map(Follow::getFollowing).collect(Collectors.toList());
+
+    return ProfileDTO.ProfilePage.builder()
+        .profiles(buildProfiles(followings, currentUserId, view))
+        .next(PageCursor.next(follows, pageSize, Follow::getCreatedAt, Follow::getFollowingId))
+        .build();
   }
 
+  /** 팔로워 ID 목록 조회 (최근 팔로우 순) */
   @Transactional(readOnly = true)
-  public List<ProfileDTO.Profile> getFollowingProfiles(
-      String accountname, String currentUserId, Integer limit, Integer skip) {
+  public ProfileDTO.IdListResponse getFollowerIds(String accountname, Integer limit, Integer skip) {
     User user =
         userRepository
             .findByAccountname(accountname)
             .orElseThrow(() -> new ResourceNotFoundException("해당 계정이 존재하지 않습니다."));
 
-    List<String> followingIds =
-        followRepository.findByFollowerId(user.getId()).stream()
-            .map(Follow::getFollowingId)
-            .collect(Collectors.toList());
+    List<String> followerIds =
+        followRepository.findFollowerIds(
+            user.getId(), Paging.offset(skip, Paging.pageSize(limit, ID_PAGE_SIZE)));
+    return ProfileDTO.IdListResponse.builder().ids(followerIds).build();
+  }
 
-    if (followingIds.isEmpty()) {
-      return new ArrayList<>();
-    }
+  /** 팔로잉 ID 목록 조회 (최근 팔로우 순) */
+  @Transactional(readOnly = true)
+  public ProfileDTO.IdListResponse getFollowingIds(
+      String accountname, Integer limit, Integer skip) {
+    User user =
+        userRepository
+            .findByAccountname(accountname)
+            .orElseThrow(() -> new ResourceNotFoundException("해당 계정이 존재하지 않습니다."));
 
-    // 페이징 처리
-    if (skip != null && limit != null) {
-      int fromIndex = Math.min(skip, followingIds.size());
-      int toIndex = Math.min(fromIndex + limit, followingIds.size());
-      followingIds = followingIds.subList(fromIndex, toIndex);
-    }
+    List<String> followingIds =
+        followRepository.findFollowingIds(
+            user.getId(), Paging.offset(skip, Paging.pageSize(limit, ID_PAGE_SIZE)));
+    return ProfileDTO.IdListResponse.builder().ids(followingIds).build();
+  }
 
-    List<User> followings = userRepository.findAllById(followingIds);
-
-    return followings.stream()
-        .map(
-            following -> {
-              // 각 팔로잉에 대한 프로필 정보 구성
-              boolean isFollowing =
-                  followRepository.existsByFollowerIdAndFollowingId(
-                      currentUserId, following.getId());
-
-              List<String> followingFollowers =
-                  followRepository.findByFollowingId(following.getId()).stream()
-                      .map(Follow::getFollowerId)
-                      .collect(Collectors.toList());
-
-              List<String> followingFollowing =
-                  followRepository.findByFollowerId(following.getId()).stream()
-                      .map(Follow::getFollowingId)
-                      .collect(Collectors.toList());
-
-              return ProfileDTO.Profile.fromEntity(
-                  following,
-                  isFollowing,
-                  followingFollowing,
-                  followingFollowers,
-                  followingFollowing.size(),
-                  followingFollowers.size());
-            })
-        .collect(Collectors.toList());
+  /** 프로필 정보 구성 (페이지 크기만큼의 사용자에 대해 고정된 수의 쿼리, 팔로우 순서 유지) */
+  private List<ProfileDTO.Profile> buildProfiles(
+      List<User> users, String currentUserId, ProfileDTO.View view) {
+    return new ArrayList<>(profileAssembler.buildProfiles(users, currentUserId, view).values());
   }
 }
@@ -0,0 +1,536 @@
+package com.soon_my_room.soon_my_room.service;
+
+import com.soon_my_room.soon_my_room.model.ImageAsset;
+import com.soon_my_room.soon_my_room.repository.ImageAssetRepository;
+import com.soon_my_room.soon_my_room.storage.StorageBackend;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 업로드된 이미지의 너비별 변형(예: 150/640/1080px)과 블러해시를 백그라운드에서 생성합니다.
+ *
+ * <p>업로드 요청은 {@link #enqueue}로 대기 항목만 등록하고 바로 응답하며, 고정 크기 작업자 풀이 원본을 내려받아 방향을 보정하고 메타데이터(EXIF)
+ * 없이 다시 인코딩한 변형을 원본과 같은 버킷에 저장합니다. 큐가 가득 찼거나 재시작으로 처리되지 않은 항목은 주기적으로 다시 큐에 넣습니다.
+ *
+ * <p>클라이언트가 저장소에 직접 올린 JPEG, PNG는 임시 키({@link #uploadKey})에 있으며, 작업자가 메타데이터를 제거해 최종 키로 옮긴 뒤에
+ * 변형을 생성합니다. 따라서 최종 키의 원본은 처리가 끝난 뒤에만 읽을 수 있습니다.
+ */
+@Component
+@Slf4j
+public class ImageDerivativeWorker {
+
+  // 메타데이터 제거 전 클라이언트 업로드의 키 접두사 (저장소 수명 주기 규칙으로 방치된 객체 정리 가능)
+  private static final String UPLOAD_KEY_PREFIX = "incoming-";
+
+  // 블러해시 계산용 축소 이미지 너비와 성분 수
+  private static final int BLURHASH_SOURCE_WIDTH = 32;
+  private static final int BLURHASH_COMPONENTS_X = 4;
+  private static final int BLURHASH_COMPONENTS_Y = 3;
+
+  // 줄여 읽을 때 남겨 둘 가장 큰 변형 너비 대비 배율 (축소 품질 유지)
+  private static final int SUBSAMPLING_MARGIN = 2;
+
+  // 줄여 읽은 이미지의 최대 픽셀 수 (ARGB 기준 약 64MB, 가로로 긴 파노라마 등에도 적용)
+  private static final long MAX_DECODED_PIXELS = 16_000_000L;
+
+  private final StorageBackend storageBackend;
+  private final ImageAssetRepository imageAssetRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  private final int[] widths;
+  private final float jpegQuality;
+  private final long maxPixels;
+  private final int maxAttempts;
+  private final long sweepDelayMs;
+  private final int sweepBatchSize;
+
+  private final ThreadPoolExecutor executor;
+
+  // 큐에 들어갔거나 처리 중인 이미지 (주기적 재등록 시 중복 방지)
+  private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+  private final Timer processTimer;
+  private final Map<ImageAsset.Status, Counter> processedCounters = new LinkedHashMap<>();
+  private final Counter retryCounter;
+
+  public ImageDerivativeWorker(
+      StorageBackend storageBackend,
+      ImageAssetRepository imageAssetRepository,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${app.image.derivative.widths:150,640,1080}") int[] widths,
+      @Value("${app.image.derivative.jpeg-quality:0.82}") float jpegQuality,
+      @Value("${app.image.derivative.max-pixels:40000000}") long maxPixels,
+      @Value("${app.image.derivative.max-attempts:3}") int maxAttempts,
+      @Value("${app.image.derivative.workers:2}") int workers,
+      @Value("${app.image.derivative.queue-capacity:200}") int queueCapacity,
+      @Value("${app.image.derivative.sweep-delay-ms:60000}") long sweepDelayMs,
+      @Value("${app.image.derivative.sweep-batch-size:100}") int sweepBatchSize) {
+    this.storageBackend = storageBackend;
+    this.imageAssetRepository = imageAssetRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.widths = Arrays.stream(widths).sorted().distinct().toArray();
+    this.jpegQuality = jpegQuality;
+    this.maxPixels = maxPixels;
+    this.maxAttempts = maxAttempts;
+    this.sweepDelayMs = sweepDelayMs;
+    this.sweepBatchSize = sweepBatchSize;
+
+    // 이미지 디코딩/리사이즈는 CPU 작업이므로 플랫폼 스레드 고정 풀 사용
+    this.executor =
+        new ThreadPoolExecutor(
+            workers,
+            workers,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            Thread.ofPlatform().name("image-derivative-", 1).daemon().factory());
+
+    Gauge.builder("images.derivative.queue", executor, e -> e.getQueue().size())
+        .description("파생 이미지 생성 대기 중인 이미지 수")
+        .register(meterRegistry);
+    this.processTimer =
+        Timer.builder("images.derivative.duration")
+            .description("이미지 하나의 파생 이미지 생성 시간")
+            .register(meterRegistry);
+    for (ImageAsset.Status status : ImageAsset.Status.values()) {
+      if (status != ImageAsset.Status.PENDING) {
+        processedCounters.put(status, processedCounter(meterRegistry, status.name().toLowerCase()));
+      }
+    }
+    this.retryCounter = processedCounter(meterRegistry, "retry");
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  /**
+   * 업로드된 이미지의 파생 이미지 생성을 예약합니다.
+   *
+   * @param bucketName 버킷 이름
+   * @param key 원본 객체 키
+   * @return 생성될 너비별 변형 이미지 경로 (버킷/키), 디코딩할 수 없는 형식이면 빈 맵
+   */
+  public Map<String, String> enqueue(String bucketName, String key) {
+    if (!isDecodable(key)) {
+      return Map.of();
+    }
+
+    String reference = bucketName + "/" + key;
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> imageAssetRepository.insertIfAbsent(reference, LocalDateTime.now()));
+    } catch (RuntimeException e) {
+      // 업로드 자체는 성공했으므로 원본만 사용하도록 함
+      log.error("파생 이미지 생성 예약 실패: {}", reference, e);
+      return Map.of();
+    }
+    submit(reference);
+
+    return variantReferences(reference, widths);
+  }
+
+  /**
+   * 클라이언트가 직접 올린 이미지의 메타데이터 제거와 파생 이미지 생성을 예약합니다.
+   *
+   * <p>임시 키에 올린 원본은 처리되어야 최종 키로 옮겨지므로, {@link #enqueue}와 달리 예약에 실패하면 예외를 던져 확인을 다시 요청할 수
+   * 있게 합니다.
+   *
+   * @param bucketName 버킷 이름
+   * @param key 원본 객체의 최종 키
+   * @return 생성될 너비별 변형 이미지 경로 (버킷/키)
+   */
+  public Map<String, String> enqueueUpload(String bucketName, String key) {
+    if (uploadKey(key).equals(key)) {
+      return enqueue(bucketName, key);
+    }
+
+    String reference = bucketName + "/" + key;
+    transactionTemplate.executeWithoutResult(
+        status -> imageAssetRepository.insertIfAbsent(reference, LocalDateTime.now()));
+    submit(reference);
+
+    return variantReferences(reference, widths);
+  }
+
+  /**
+   * 클라이언트가 저장소에 직접 올릴 객체 키를 구합니다. (직접 업로드, 이어 올리기 업로드 공통)
+   *
+   * <p>메타데이터를 제거할 수 있는 JPEG, PNG는 임시 키(예: incoming-1700000000000-1a2b3c4d.jpeg)에 올리고, 그 외 형식은
+   * 최종 키에 바로 올립니다.
+   *
+   * @param key 원본 객체의 최종 키
+   * @return 업로드할 객체 키
+   */
+  public static String uploadKey(String key) {
+    return ImageMetadata.isStrippable(key) ? UPLOAD_KEY_PREFIX + key : key;
+  }
+
+  /** 메타데이터 제거 전 클라이언트 업로드의 임시 키인지 확인 */
+  public static boolean isUploadKey(String key) {
+    return key.startsWith(UPLOAD_KEY_PREFIX);
+  }
+
+  /** 처리되지 않고 남은 대기 항목을 다시 큐에 넣음 */
+  @Scheduled(fixedDelayString = "${app.image.derivative.sweep-interval-ms:30000}")
+  public void resumePending() {
+    // 큐 여유가 없으면 다음 주기에 재시도
+    int capacity = executor.getQueue().remainingCapacity();
+    if (capacity == 0) {
+      return;
+    }
+
+    LocalDateTime before = LocalDateTime.now().minus(Duration.ofMillis(sweepDelayMs));
+    List<String> references =
+        imageAssetRepository.findPendingReferences(before, Math.min(capacity, sweepBatchSize));
+    references.forEach(this::submit);
+  }
+
+  /**
+   * 변형 이미지 경로를 구성합니다.
+   *
+   * @param reference 원본 이미지 참조 (버킷/키)
+   * @param variantWidths 변형 너비 목록
+   * @return 너비별 변형 이미지 경로 (버킷/키)
+   */
+  public static Map<String, String> variantReferences(String reference, int[] variantWidths) {
+    Map<String, String> variants = new LinkedHashMap<>();
+    for (int width : variantWidths) {
+      variants.put(String.valueOf(width), variantKey(reference, width));
+    }
+    return variants;
+  }
+
+  /** 변형 이미지 키 (예: 1700000000000-1a2b3c4d.jpeg → 1700000000000-1a2b3c4d_w640.jpg) */
+  private static String variantKey(String key, int width) {
+    int dotIndex = key.lastIndexOf('.');
+    String stem = dotIndex > key.lastIndexOf('/') ? key.substring(0, dotIndex) : key;
+    return stem + "_w" + width + "." + variantExtension(key);
+  }
+
+  /** 변형 이미지 형식 (투명도를 지원하는 PNG/GIF는 PNG, 그 외에는 JPEG) */
+  private static String variantExtension(String key) {
+    String lower = key.toLowerCase();
+    return lower.endsWith(".png") || lower.endsWith(".gif") ? "png" : "jpg";
+  }
+
+  /** ImageIO로 디코딩할 수 있는 형식인지 확인 (SVG, HEIC 등은 제외) */
+  private static boolean isDecodable(String key) {
+    int dotIndex = key.lastIndexOf('.');
+    return dotIndex >= 0 && ImageIO.getImageReadersBySuffix(key.substring(dotIndex + 1)).hasNext();
+  }
+
+  private void submit(String reference) {
+    if (!inFlight.add(reference)) {
+      return;
+    }
+
+    try {
+      executor.execute(
+          () -> {
+            try {
+              processTimer.record(() -> process(reference));
+            } finally {
+              inFlight.remove(reference);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      // 대기 항목으로 남겨 두고 주기적 재등록 시 처리
+      inFlight.remove(reference);
+      log.warn("파생 이미지 생성 큐가 가득 찼습니다. 나중에 다시 시도합니다: {}", reference);
+    }
+  }
+
+  /** 원본을 내려받아 변형 이미지와 블러해시를 생성하고 결과를 기록 */
+  private void process(String reference) {
+    ImageAsset asset = imageAssetRepository.findById(reference).orElse(null);
+    if (asset == null || asset.getStatus() != ImageAsset.Status.PENDING) {
+      return;
+    }
+
+    int slash = reference.indexOf('/');
+    String bucketName = reference.substring(0, slash);
+    String key = reference.substring(slash + 1);
+
+    asset.setAttempts(asset.getAttempts() + 1);
+    try {
+      byte[] original = promoteUpload(bucketName, key);
+      if (original == null) {
+        try (InputStream inputStream = storageBackend.get(bucketName, key)) {
+          original = inputStream.readAllBytes();
+        }
+      }
+
+      int orientation = ImageMetadata.readExifOrientation(original);
+      boolean swap = orientation >= 5 && orientation <= 8;
+      Decoded decoded = decode(original, swap);
+      if (decoded == null) {
+        complete(asset, ImageAsset.Status.UNSUPPORTED);
+        return;
+      }
+
+      boolean alpha = variantExtension(key).equals("png");
+      BufferedImage image = orient(decoded.image(), orientation, alpha);
+
+      // 원본보다 큰 너비는 확대하지 않고 원본 크기로 다시 인코딩 (메타데이터 제거)
+      for (int width : widths) {
+        BufferedImage variant = resize(image, Math.min(width, image.getWidth()), alpha);
+        upload(bucketName, variantKey(key, width), variant, alpha);
+      }
+
+      // 줄여 읽은 크기가 아닌 원본 크기 (방향 보정 후)
+      asset.setWidth(swap ? decoded.height() : decoded.width());
+      asset.setHeight(swap ? decoded.width() : decoded.height());
+      asset.setBlurhash(
+          BlurhashEncoder.encode(
+              resize(image, Math.min(BLURHASH_SOURCE_WIDTH, image.getWidth()), false),
+              BLURHASH_COMPONENTS_X,
+              BLURHASH_COMPONENTS_Y));
+      asset.setVariantWidths(
+          Arrays.stream(widths).mapToObj(String::valueOf).collect(Collectors.joining(",")));
+      complete(asset, ImageAsset.Status.READY);
+
+    } catch (IllegalArgumentException e) {
+      log.warn("파생 이미지를 생성할 수 없는 이미지입니다: {} ({})", reference, e.getMessage());
+      complete(asset, ImageAsset.Status.UNSUPPORTED);
+    } catch (Exception e) {
+      if (asset.getAttempts() >= maxAttempts) {
+        log.error("파생 이미지 생성 실패: {}", reference, e);
+        complete(asset, ImageAsset.Status.FAILED);
+      } else {
+        // 대기 상태로 남겨 두고 주기적 재등록 시 재시도
+        log.warn("파생 이미지 생성 실패, 나중에 다시 시도합니다: {} ({})", reference, e.getMessage());
+        imageAssetRepository.save(asset);
+        retryCounter.increment();
+      }
+    }
+  }
+
+  /**
+   * 임시 키에 올라온 클라이언트 업로드의 메타데이터를 제거해 최종 키에 저장하고 임시 객체를 삭제합니다.
+   *
+   * @return 메타데이터를 제거한 원본, 임시 객체가 없으면(이미 옮겼거나 서버가 저장한 이미지) null
+   */
+  private byte[] promoteUpload(String bucketName, String key) throws IOException {
+    String uploadKey = uploadKey(key);
+    if (uploadKey.equals(key)) {
+      return null;
+    }
+
+    StorageBackend.ObjectMetadata head = storageBackend.head(bucketName, uploadKey).orElse(null);
+    if (head == null) {
+      return null;
+    }
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (InputStream inputStream = storageBackend.get(bucketName, uploadKey)) {
+      ImageMetadata.strip(inputStream, output);
+    }
+
+    // 최종 키에 저장한 뒤 삭제하므로 중간에 실패해도 재시도 시 다시 옮김
+    byte[] stripped = output.toByteArray();
+    storageBackend.put(
+        bucketName,
+        key,
+        new ByteArrayInputStream(stripped),
+        stripped.length,
+        head.contentType(),
+        null);
+    storageBackend.delete(bucketName, uploadKey);
+    log.info("업로드된 이미지의 메타데이터 제거 버킷: {}, 파일명: {}", bucketName, key);
+    return stripped;
+  }
+
+  private void complete(ImageAsset asset, ImageAsset.Status status) {
+    asset.setStatus(status);
+    asset.setProcessedAt(LocalDateTime.now());
+    imageAssetRepository.save(asset);
+    processedCounters.get(status).increment();
+  }
+
+  /**
+   * 이미지를 디코딩합니다. (압축 해제 시 메모리 폭증을 막기 위해 픽셀 수를 먼저 확인)
+   *
+   * <p>큰 이미지는 행/열을 건너뛰며 가장 큰 변형 너비의 {@value #SUBSAMPLING_MARGIN}배 정도로 줄여 읽고, 줄여 읽은 픽셀 수도
+   * {@value #MAX_DECODED_PIXELS}를 넘지 않게 하므로 디코딩 메모리가 원본 픽셀 수에 비례하지 않습니다.
+   *
+   * @param swap EXIF 방향 보정 시 가로/세로가 바뀌는지 여부
+   * @return 디코딩된 이미지와 원본 크기, 지원하지 않는 형식이면 null
+   * @throws IllegalArgumentException 픽셀 수가 제한을 넘는 경우
+   */
+  private Decoded decode(byte[] data, boolean swap) throws IOException {
+    try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+      Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+      if (!readers.hasNext()) {
+        return null;
+      }
+
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(input, true, true);
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        long pixels = (long) width * height;
+        if (pixels > maxPixels) {
+          throw new IllegalArgumentException("이미지 픽셀 수가 너무 큽니다: " + pixels);
+        }
+
+        // 방향 보정 후 너비 기준으로 필요한 만큼만 읽음
+        int displayedWidth = swap ? height : width;
+        int largestWidth = widths.length > 0 ? widths[widths.length - 1] : BLURHASH_SOURCE_WIDTH;
+        int subsampling = Math.max(1, displayedWidth / (largestWidth * SUBSAMPLING_MARGIN));
+        subsampling =
+            Math.max(subsampling, (int) Math.ceil(Math.sqrt((double) pixels / MAX_DECODED_PIXELS)));
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        return new Decoded(reader.read(0, param), width, height);
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  /**
+   * EXIF 방향 값에 맞게 회전/반전한 이미지를 RGB(또는 ARGB) 형식으로 그립니다.
+   *
+   * @param orientation EXIF 방향 값 (1~8)
+   */
+  private static BufferedImage orient(BufferedImage source, int orientation, boolean alpha) {
+    int w = source.getWidth();
+    int h = source.getHeight();
+
+    // 좌표 변환 (인자 순서: m00, m10, m01, m11, m02, m12 / x' = m00·x + m01·y + m02)
+    AffineTransform transform =
+        switch (orientation) {
+          case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);
+          case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);
+          case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);
+          case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+          case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);
+          case 7 -> new AffineTransform(0, -1, -1, 0, h, w);
+          case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);
+          default -> new AffineTransform();
+        };
+
+    boolean swap = orientation >= 5 && orientation <= 8;
+    BufferedImage target = newImage(swap ? h : w, swap ? w : h, alpha);
+    Graphics2D graphics = target.createGraphics();
+    try {
+      graphics.drawImage(source, transform, null);
+    } finally {
+      graphics.dispose();
+    }
+    return target;
+  }
+
+  /** 절반씩 줄여 가며 목표 너비로 축소 (한 번에 크게 줄일 때의 계단 현상 방지) */
+  private static BufferedImage resize(BufferedImage source, int targetWidth, boolean alpha) {
+    double scale = (double) targetWidth / source.getWidth();
+    int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+    BufferedImage current = source;
+    int w = source.getWidth();
+    int h = source.getHeight();
+    do {
+      w = Math.max(targetWidth, w / 2);
+      h = Math.max(targetHeight, h / 2);
+
+      BufferedImage next = newImage(w, h, alpha);
+      Graphics2D graphics = next.createGraphics();
+      try {
+        graphics.setRenderingHint(
+            RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(current, 0, 0, w, h, null);
+      } finally {
+        graphics.dispose();
+      }
+      current = next;
+    } while (w != targetWidth || h != targetHeight);
+
+    return current;
+  }
+
+  private static BufferedImage newImage(int width, int height, boolean alpha) {
+    return new BufferedImage(
+        width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+  }
+
+  /** 변형 이미지 업로드 (메타데이터 없이 인코딩) */
+  private void upload(String bucketName, String key, BufferedImage image, boolean alpha)
+      throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    if (alpha) {
+      ImageIO.write(image, "png", output);
+    } else {
+      ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+      try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+        writer.setOutput(stream);
+        writer.write(null, new IIOImage(image, null, null), param);
+      } finally {
+        writer.dispose();
+      }
+    }
+
+    byte[] encoded = output.toByteArray();
+    storageBackend.put(
+        bucketName,
+        key,
+        new ByteArrayInputStream(encoded),
+        encoded.length,
+        alpha ? "image/png" : "image/jpeg",
+        null);
+  }
+
+  /** 디코딩된 이미지와 원본 크기 */
+  private record Decoded(BufferedImage image, int width, int height) {}
+
+  private Counter processedCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("images.derivative.processed")
+        .description("파생 이미지 생성 결과별 이미지 수")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
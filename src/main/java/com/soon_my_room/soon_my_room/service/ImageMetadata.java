@@ -0,0 +1,326 @@
+package com.soon_my_room.soon_my_room.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * 이미지 파일의 메타데이터(EXIF 등)를 읽거나 제거합니다.
+ *
+ * <p>사진의 EXIF/XMP/IPTC에는 촬영 위치(GPS)나 기기 정보가 담길 수 있으므로 원본을 저장하기 전에 제거합니다. 화면 표시에 필요한 방향 값과 색
+ * 정보(ICC 프로필)는 남기며, 이미지 데이터는 다시 인코딩하지 않고 그대로 복사합니다.
+ */
+final class ImageMetadata {
+
+  private static final int JPEG_SOI = 0xD8;
+  private static final int JPEG_EOI = 0xD9;
+  private static final int JPEG_SOS = 0xDA;
+  private static final int JPEG_APP1 = 0xE1;
+  private static final int JPEG_APP2 = 0xE2;
+  private static final int JPEG_APP14 = 0xEE;
+  private static final int JPEG_APP15 = 0xEF;
+  private static final int JPEG_COM = 0xFE;
+
+  private static final byte[] EXIF_HEADER = {'E', 'x', 'i', 'f', 0, 0};
+  private static final byte[] ICC_PROFILE_HEADER =
+      "ICC_PROFILE\0".getBytes(StandardCharsets.US_ASCII);
+  private static final int ORIENTATION_TAG = 0x0112;
+
+  private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+  // PNG에서 제거할 청크 (EXIF, 텍스트(XMP 포함), 수정 시각)
+  private static final Set<String> PNG_METADATA_CHUNKS =
+      Set.of("eXIf", "tEXt", "zTXt", "iTXt", "tIME");
+
+  private ImageMetadata() {}
+
+  /**
+   * 메타데이터를 제거하며 복사합니다. (JPEG, PNG만 처리하고 그 외 형식은 그대로 복사)
+   *
+   * <p>JPEG는 APP1~APP15(ICC 프로필과 Adobe 색 변환 제외)와 주석 세그먼트를 제거하고, EXIF 방향 값이 있으면
+   * 방향만 담은 EXIF로 바꿉니다. 이미지 끝(EOI) 뒤에 붙은 데이터(다른 사진 등)도 제거합니다.
+   *
+   * @param input 원본 이미지
+   * @param output 메타데이터를 제거한 이미지를 쓸 스트림
+   * @return 원본과 내용이 달라졌으면 true
+   */
+  static boolean strip(InputStream input, OutputStream output) throws IOException {
+    BufferedInputStream in = new BufferedInputStream(input);
+    BufferedOutputStream out = new BufferedOutputStream(output);
+
+    in.mark(PNG_SIGNATURE.length);
+    byte[] head = in.readNBytes(PNG_SIGNATURE.length);
+    in.reset();
+
+    boolean stripped;
+    if (head.length >= 2 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == JPEG_SOI) {
+      stripped = stripJpeg(in, out);
+    } else if (Arrays.equals(head, PNG_SIGNATURE)) {
+      stripped = stripPng(in, out);
+    } else {
+      in.transferTo(out);
+      stripped = false;
+    }
+    out.flush();
+    return stripped;
+  }
+
+  /** 메타데이터를 제거할 수 있는 형식의 파일명인지 확인 (JPEG, PNG) */
+  static boolean isStrippable(String filename) {
+    String lower = filename.toLowerCase();
+    return lower.endsWith(".jpg") || lower.endsWith(".jpeg") || lower.endsWith(".png");
+  }
+
+  /**
+   * JPEG의 EXIF(APP1) 세그먼트에서 방향 값을 읽습니다.
+   *
+   * @return 방향 값 (1~8), JPEG가 아니거나 값이 없으면 1
+   */
+  static int readExifOrientation(byte[] data) {
+    if (data.length < 4 || (data[0] & 0xFF) != 0xFF || (data[1] & 0xFF) != JPEG_SOI) {
+      return 1;
+    }
+
+    int pos = 2;
+    while (pos + 4 <= data.length && (data[pos] & 0xFF) == 0xFF) {
+      int marker = data[pos + 1] & 0xFF;
+
+      // 이미지 데이터 시작 전까지만 탐색
+      if (marker == JPEG_SOS || marker == JPEG_EOI) {
+        return 1;
+      }
+
+      int length = readUnsignedShort(data, pos + 2, false);
+      if (marker == JPEG_APP1 && length >= 8 && startsWith(data, pos + 4, EXIF_HEADER)) {
+        return readTiffOrientation(data, pos + 10, Math.min(data.length, pos + 2 + length));
+      }
+      pos += 2 + length;
+    }
+
+    return 1;
+  }
+
+  private static boolean stripJpeg(InputStream in, OutputStream out) throws IOException {
+    out.write(in.readNBytes(2));
+    boolean stripped = false;
+
+    int marker = readMarker(in);
+    while (marker != -1) {
+      if (marker == JPEG_EOI) {
+        writeMarker(out, marker);
+        // 이미지 끝 뒤에 붙은 데이터는 버림
+        return stripped || in.read() != -1;
+      }
+
+      // 길이가 없는 마커 (TEM, RSTn)
+      if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) {
+        writeMarker(out, marker);
+        marker = readMarker(in);
+        continue;
+      }
+
+      int high = in.read();
+      int low = in.read();
+      int length = (high << 8) | low;
+      if (high == -1 || low == -1 || length < 2) {
+        return true; // 손상된 세그먼트 이후는 버림
+      }
+      byte[] payload = in.readNBytes(length - 2);
+
+      if (isMetadataSegment(marker, payload)) {
+        stripped = true;
+        if (marker == JPEG_APP1 && startsWith(payload, 0, EXIF_HEADER)) {
+          int orientation = readTiffOrientation(payload, EXIF_HEADER.length, payload.length);
+          if (orientation != 1) {
+            writeSegment(out, JPEG_APP1, orientationExif(orientation));
+          }
+        }
+      } else {
+        writeSegment(out, marker, payload);
+      }
+
+      marker = marker == JPEG_SOS ? copyScan(in, out) : readMarker(in);
+    }
+
+    return true; // 이미지 끝 없이 끝난 파일
+  }
+
+  /** 제거할 세그먼트 (APP1~APP15 중 ICC 프로필과 Adobe 색 변환 정보를 제외한 것, 주석) */
+  private static boolean isMetadataSegment(int marker, byte[] payload) {
+    if (marker == JPEG_COM) {
+      return true;
+    }
+    if (marker < JPEG_APP1 || marker > JPEG_APP15 || marker == JPEG_APP14) {
+      return false;
+    }
+    return !(marker == JPEG_APP2 && startsWith(payload, 0, ICC_PROFILE_HEADER));
+  }
+
+  /** 다음 마커 읽기 (앞의 채움 바이트 0xFF는 건너뜀), 마커가 아니면 -1 */
+  private static int readMarker(InputStream in) throws IOException {
+    if (in.read() != 0xFF) {
+      return -1;
+    }
+    int marker = in.read();
+    while (marker == 0xFF) {
+      marker = in.read();
+    }
+    return marker;
+  }
+
+  /** 압축된 이미지 데이터를 복사하고 그 뒤의 마커를 반환 */
+  private static int copyScan(InputStream in, OutputStream out) throws IOException {
+    while (true) {
+      int b = in.read();
+      if (b == -1) {
+        return -1;
+      }
+      if (b != 0xFF) {
+        out.write(b);
+        continue;
+      }
+
+      int next = in.read();
+      while (next == 0xFF) {
+        next = in.read();
+      }
+      // 데이터 안의 0xFF(0xFF00)와 재시작 마커는 데이터의 일부
+      if (next == 0x00 || (next >= 0xD0 && next <= 0xD7)) {
+        out.write(0xFF);
+        out.write(next);
+        continue;
+      }
+      return next;
+    }
+  }
+
+  private static void writeMarker(OutputStream out, int marker) throws IOException {
+    out.write(0xFF);
+    out.write(marker);
+  }
+
+  private static void writeSegment(OutputStream out, int marker, byte[] payload)
+      throws IOException {
+    writeMarker(out, marker);
+    int length = payload.length + 2;
+    out.write(length >> 8);
+    out.write(length & 0xFF);
+    out.write(payload);
+  }
+
+  /** 방향 태그 하나만 담은 EXIF (빅 엔디언 TIFF, IFD 항목 1개) */
+  private static byte[] orientationExif(int orientation) {
+    ByteBuffer exif = ByteBuffer.allocate(EXIF_HEADER.length + 26);
+    exif.put(EXIF_HEADER);
+    exif.put((byte) 'M').put((byte) 'M').putShort((short) 0x2A).putInt(8); // 첫 IFD 위치
+    exif.putShort((short) 1); // 항목 수
+    exif.putShort((short) ORIENTATION_TAG).putShort((short) 3).putInt(1); // SHORT 1개
+    exif.putShort((short) orientation).putShort((short) 0);
+    exif.putInt(0); // 다음 IFD 없음
+    return exif.array();
+  }
+
+  private static boolean stripPng(InputStream in, OutputStream out) throws IOException {
+    out.write(in.readNBytes(PNG_SIGNATURE.length));
+    boolean stripped = false;
+
+    while (true) {
+      byte[] header = in.readNBytes(8);
+      if (header.length < 8) {
+        return true; // IEND 없이 끝난 파일
+      }
+
+      long length =
+          ((long) (header[0] & 0xFF) << 24)
+              | ((header[1] & 0xFF) << 16)
+              | ((header[2] & 0xFF) << 8)
+              | (header[3] & 0xFF);
+      String type = new String(header, 4, 4, StandardCharsets.US_ASCII);
+
+      // 데이터와 CRC(4바이트)를 복사하거나 건너뜀
+      if (PNG_METADATA_CHUNKS.contains(type)) {
+        stripped = true;
+        copy(in, OutputStream.nullOutputStream(), length + 4);
+      } else {
+        out.write(header);
+        copy(in, out, length + 4);
+      }
+
+      if (type.equals("IEND")) {
+        return stripped || in.read() != -1;
+      }
+    }
+  }
+
+  private static void copy(InputStream in, OutputStream out, long count) throws IOException {
+    byte[] buffer = new byte[8192];
+    long remaining = count;
+    while (remaining > 0) {
+      int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+      if (read == -1) {
+        return;
+      }
+      out.write(buffer, 0, read);
+      remaining -= read;
+    }
+  }
+
+  /** TIFF 헤더 이후 첫 번째 IFD에서 방향 태그(0x0112) 조회 */
+  private static int readTiffOrientation(byte[] data, int start, int end) {
+    if (start + 8 > end) {
+      return 1;
+    }
+
+    boolean littleEndian;
+    if (data[start] == 'I' && data[start + 1] == 'I') {
+      littleEndian = true;
+    } else if (data[start] == 'M' && data[start + 1] == 'M') {
+      littleEndian = false;
+    } else {
+      return 1;
+    }
+
+    long ifdOffset = readUnsignedInt(data, start + 4, littleEndian);
+    if (ifdOffset < 8 || start + ifdOffset + 2 > end) {
+      return 1;
+    }
+
+    int ifd = start + (int) ifdOffset;
+    int entries = readUnsignedShort(data, ifd, littleEndian);
+    for (int i = 0; i < entries; i++) {
+      int entry = ifd + 2 + i * 12;
+      if (entry + 12 > end) {
+        break;
+      }
+      if (readUnsignedShort(data, entry, littleEndian) == ORIENTATION_TAG) {
+        int orientation = readUnsignedShort(data, entry + 8, littleEndian);
+        return orientation >= 1 && orientation <= 8 ? orientation : 1;
+      }
+    }
+
+    return 1;
+  }
+
+  private static boolean startsWith(byte[] data, int pos, byte[] prefix) {
+    return pos + prefix.length <= data.length
+        && Arrays.equals(data, pos, pos + prefix.length, prefix, 0, prefix.length);
+  }
+
+  private static int readUnsignedShort(byte[] data, int pos, boolean littleEndian) {
+    int b0 = data[pos] & 0xFF;
+    int b1 = data[pos + 1] & 0xFF;
+    return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+  }
+
+  private static long readUnsignedInt(byte[] data, int pos, boolean littleEndian) {
+    long high = readUnsignedShort(data, littleEndian ? pos + 2 : pos, littleEndian);
+    long low = readUnsignedShort(data, littleEndian ? pos : pos + 2, littleEndian);
+    return (high << 16) | low;
+  }
+}
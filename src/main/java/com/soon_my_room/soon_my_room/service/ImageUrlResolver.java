@@ -0,0 +1,245 @@
+package com.soon_my_room.soon_my_room.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.soon_my_room.soon_my_room.storage.ImageProxyAccess;
+import com.soon_my_room.soon_my_room.storage.StorageBackend;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지 값을 저장용 참조와 응답용 URL 사이에서 변환합니다.
+ *
+ * <p>게시글/사용자/상품 이미지는 만료되는 서명 URL 대신 "버킷/키" 참조로 저장하고, 응답 직렬화 시점에 서명된 URL로 바꿉니다. 서명은 (버킷, 키)별로
+ * 캐시하여 만료가 가까워질 때까지 재사용하며, 예전에 저장된 서명 URL도 같은 방식으로 다시 서명합니다. 외부 URL은 그대로 둡니다.
+ */
+@Component
+public class ImageUrlResolver {
+
+  // 로컬 저장소 서명 URL 경로
+  private static final String LOCAL_PATH_PREFIX = "/api/image/";
+
+  // 이미지 프록시 URL 경로
+  private static final String PROXY_PATH_PREFIX = "/api/image/proxy/";
+
+  private final StorageBackend storageBackend;
+  private final ImageProxyAccess proxyAccess;
+  private final Set<String> buckets;
+  private final Duration signatureDuration;
+  private final Cache<String, String> signedUrls;
+  private final boolean proxyEnabled;
+  private final String proxyBaseUrl;
+
+  public ImageUrlResolver(
+      StorageBackend storageBackend,
+      ImageProxyAccess proxyAccess,
+      @Value("${aws.s3.bucket.profiles}") String profilesBucket,
+      @Value("${aws.s3.bucket.posts}") String postsBucket,
+      @Value("${aws.s3.bucket.products}") String productsBucket,
+      @Value("${aws.s3.bucket.default}") String defaultBucket,
+      @Value("${app.image.signed-url-ttl-minutes:720}") long ttlMinutes,
+      @Value("${app.image.signed-url-refresh-margin-minutes:60}") long refreshMarginMinutes,
+      @Value("${app.image.signed-url-cache-size:100000}") long cacheSize,
+      @Value("${app.image.proxy.enabled:false}") boolean proxyEnabled,
+      @Value("${app.image.proxy.base-url:}") String proxyBaseUrl) {
+    this.storageBackend = storageBackend;
+    this.proxyAccess = proxyAccess;
+    this.buckets = Set.of(profilesBucket, postsBucket, productsBucket, defaultBucket);
+    this.signatureDuration = Duration.ofMinutes(ttlMinutes);
+    this.signedUrls =
+        Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(Math.max(ttlMinutes - refreshMarginMinutes, 1)))
+            .maximumSize(cacheSize)
+            .build();
+    this.proxyEnabled = proxyEnabled;
+    this.proxyBaseUrl =
+        proxyBaseUrl.endsWith("/")
+            ? proxyBaseUrl.substring(0, proxyBaseUrl.length() - 1)
+            : proxyBaseUrl;
+  }
+
+  /**
+   * 저장용 이미지 참조로 변환합니다. (쉼표로 구분된 여러 이미지 지원)
+   *
+   * @param value 클라이언트가 보낸 이미지 값 (서명 URL, 참조 또는 외부 URL)
+   * @return 우리 버킷의 이미지는 "버킷/키", 그 외에는 원래 값
+   */
+  public String toReference(String value) {
+    return mapEach(
+        value,
+        image -> {
+          String reference = parseReference(image);
+          return reference != null ? reference : image;
+        });
+  }
+
+  /**
+   * 응답용 이미지 URL로 변환합니다. (쉼표로 구분된 여러 이미지 지원)
+   *
+   * @param value 저장된 이미지 값
+   * @return 우리 버킷의 이미지는 서명된 URL(프록시 사용 시 프록시로 조회할 수 있는 객체는 고정된 프록시 URL), 그 외에는 원래 값
+   */
+  public String toUrl(String value) {
+    return mapEach(
+        value,
+        image -> {
+          String reference = parseReference(image);
+          if (reference == null) {
+            return image;
+          }
+
+          int slash = reference.indexOf('/');
+          String bucketName = reference.substring(0, slash);
+          String key = reference.substring(slash + 1);
+          if (proxyEnabled && proxyAccess.allows(bucketName, key)) {
+            return proxyBaseUrl
+                + PROXY_PATH_PREFIX
+                + reference
+                + "?signature="
+                + proxyAccess.sign(bucketName, key);
+          }
+
+          return sign(bucketName, key);
+        });
+  }
+
+  /**
+   * 우리 버킷의 이미지 참조 목록을 추출합니다. (쉼표로 구분된 여러 이미지 지원)
+   *
+   * @param value 저장된 이미지 값
+   * @return 이미지 순서대로의 "버킷/키" 참조 (외부 URL은 제외)
+   */
+  public List<String> references(String value) {
+    if (value == null || value.isBlank()) {
+      return List.of();
+    }
+
+    return Arrays.stream(value.split(","))
+        .map(String::trim)
+        .map(this::parseReference)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
+  /** 객체의 서명된 GET URL (만료가 가까워질 때까지 캐시된 서명 재사용) */
+  public String sign(String bucketName, String key) {
+    return signedUrls.get(
+        bucketName + "/" + key,
+        reference -> storageBackend.signedGetUrl(bucketName, key, signatureDuration));
+  }
+
+  /**
+   * 이미지 값에서 "버킷/키" 참조를 추출합니다.
+   *
+   * <p>로컬 저장소/프록시 URL은 {@code base-url}을 설정하지 않으면 {@code /api/image/...} 상대 경로로 발급되므로 상대 경로도
+   * 인식합니다.
+   *
+   * @param image 이미지 값 ("버킷/키", virtual-hosted/path 형식의 S3 URL, 로컬 저장소 또는 프록시 URL)
+   * @return 우리 버킷의 객체이면 참조, 아니면 null
+   */
+  private String parseReference(String image) {
+    String bucketName;
+    String key;
+
+    if (image.startsWith("/")) {
+      // 상대 경로 형식: /api/image/[proxy/]{버킷}/{키}[?쿼리]
+      String path;
+      try {
+        path = URI.create(image).getPath();
+      } catch (IllegalArgumentException e) {
+        return null;
+      }
+      return path != null ? parseImagePath(path) : null;
+    } else if (!image.startsWith("http://") && !image.startsWith("https://")) {
+      int slash = image.indexOf('/');
+      if (slash <= 0) {
+        return null;
+      }
+      bucketName = image.substring(0, slash);
+      key = image.substring(slash + 1);
+    } else {
+      URI uri;
+      try {
+        uri = URI.create(image);
+      } catch (IllegalArgumentException e) {
+        return null;
+      }
+
+      String host = uri.getHost();
+      String path = uri.getPath();
+      if (host == null || path == null || path.length() <= 1) {
+        return null;
+      }
+
+      int s3Index = host.indexOf(".s3.");
+      if (path.startsWith(LOCAL_PATH_PREFIX)) {
+        // 로컬 저장소/프록시 형식: {서버}/api/image/[proxy/]{버킷}/{키}
+        return parseImagePath(path);
+      } else if (!host.endsWith(".amazonaws.com")) {
+        return null;
+      } else if (s3Index > 0) {
+        // virtual-hosted 형식: {버킷}.s3.{리전}.amazonaws.com/{키}
+        bucketName = host.substring(0, s3Index);
+        key = path.substring(1);
+      } else if (host.startsWith("s3.")) {
+        // path 형식: s3.{리전}.amazonaws.com/{버킷}/{키}
+        int slash = path.indexOf('/', 1);
+        if (slash < 0) {
+          return null;
+        }
+        bucketName = path.substring(1, slash);
+        key = path.substring(slash + 1);
+      } else {
+        return null;
+      }
+    }
+
+    return bucketReference(bucketName, key);
+  }
+
+  /** 로컬 저장소/프록시 URL 경로({@code /api/image/[proxy/]{버킷}/{키}})에서 참조 추출 */
+  private String parseImagePath(String path) {
+    String prefix = path.startsWith(PROXY_PATH_PREFIX) ? PROXY_PATH_PREFIX : LOCAL_PATH_PREFIX;
+    if (!path.startsWith(prefix)) {
+      return null;
+    }
+
+    int slash = path.indexOf('/', prefix.length());
+    if (slash < 0) {
+      return null;
+    }
+    return bucketReference(path.substring(prefix.length(), slash), path.substring(slash + 1));
+  }
+
+  private String bucketReference(String bucketName, String key) {
+    // 메타데이터 제거 전 업로드 원본은 참조로 저장하거나 URL을 발급하지 않음
+    if (!buckets.contains(bucketName) || key.isEmpty() || ImageDerivativeWorker.isUploadKey(key)) {
+      return null;
+    }
+
+    return bucketName + "/" + key;
+  }
+
+  private String mapEach(String value, UnaryOperator<String> mapper) {
+    if (value == null || value.isBlank()) {
+      return value;
+    }
+
+    if (value.indexOf(',') < 0) {
+      return mapper.apply(value.trim());
+    }
+
+    return Arrays.stream(value.split(","))
+        .map(String::trim)
+        .map(mapper)
+        .collect(Collectors.joining(","));
+  }
+}
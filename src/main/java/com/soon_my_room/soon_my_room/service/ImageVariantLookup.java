@@ -0,0 +1,89 @@
+package com.soon_my_room.soon_my_room.service;
+
+import com.soon_my_room.soon_my_room.dto.ImageVariantsDTO;
+import com.soon_my_room.soon_my_room.model.ImageAsset;
+import com.soon_my_room.soon_my_room.repository.ImageAssetRepository;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/** 저장된 이미지 값에 대해 생성이 끝난 변형 이미지 정보를 한 번에 조회합니다. */
+@Component
+@RequiredArgsConstructor
+public class ImageVariantLookup {
+
+  private final ImageAssetRepository imageAssetRepository;
+  private final ImageUrlResolver imageUrlResolver;
+
+  /**
+   * 여러 이미지 값의 변형 정보를 조회합니다.
+   *
+   * @param imageValues 저장된 이미지 값 목록 (쉼표로 구분된 여러 이미지 허용)
+   * @return 이미지 참조(버킷/키)별 변형 정보 (변형 생성이 끝난 이미지만)
+   */
+  public Map<String, ImageVariantsDTO> findReady(Collection<String> imageValues) {
+    Set<String> references = references(imageValues);
+    if (references.isEmpty()) {
+      return Map.of();
+    }
+
+    return toVariants(
+        imageAssetRepository.findByReferenceInAndStatus(references, ImageAsset.Status.READY));
+  }
+
+  /**
+   * 여러 이미지 값에 포함된 이미지 참조 목록을 구합니다.
+   *
+   * @param imageValues 저장된 이미지 값 목록 (쉼표로 구분된 여러 이미지 허용)
+   * @return 이미지 참조(버킷/키) 목록 (중복 제외)
+   */
+  public Set<String> references(Collection<String> imageValues) {
+    Set<String> references = new LinkedHashSet<>();
+    imageValues.forEach(value -> references.addAll(imageUrlResolver.references(value)));
+    return references;
+  }
+
+  /**
+   * 변형 생성이 끝난 이미지 정보를 변형 정보로 변환합니다.
+   *
+   * @param assets 생성이 끝난(READY) 이미지 정보 목록
+   * @return 이미지 참조(버킷/키)별 변형 정보
+   */
+  public Map<String, ImageVariantsDTO> toVariants(Collection<ImageAsset> assets) {
+    return assets.stream().collect(Collectors.toMap(ImageAsset::getReference, this::toDto));
+  }
+
+  /**
+   * 이미지 값에 해당하는 변형 정보를 조회 결과에서 찾습니다.
+   *
+   * @param imageValue 저장된 이미지 값 (쉼표로 구분된 여러 이미지 허용)
+   * @param variants {@link #findReady}의 조회 결과
+   * @return 이미지 순서대로의 변형 정보 (변형이 없는 이미지는 제외)
+   */
+  public List<ImageVariantsDTO> select(String imageValue, Map<String, ImageVariantsDTO> variants) {
+    return imageUrlResolver.references(imageValue).stream()
+        .map(variants::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
+  private ImageVariantsDTO toDto(ImageAsset asset) {
+    int[] widths =
+        Arrays.stream(asset.getVariantWidths().split(",")).mapToInt(Integer::parseInt).toArray();
+
+    return ImageVariantsDTO.builder()
+        .image(asset.getReference())
+        .width(asset.getWidth())
+        .height(asset.getHeight())
+        .blurhash(asset.getBlurhash())
+        .variants(ImageDerivativeWorker.variantReferences(asset.getReference(), widths))
+        .build();
+  }
+}
@@ -0,0 +1,101 @@
+package com.soon_my_room.soon_my_room.service;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 목록 조회의 limit/skip/cursor 파라미터 공통 처리입니다.
+ *
+ * <p>skip은 페이지 번호로 내림하지 않고 그대로 OFFSET으로 사용하므로, limit의 배수가 아니어도 요청한 위치부터 조회합니다.
+ */
+final class Paging {
+
+  /** limit이 없으면 전체를 조회하는 목록의 페이지 크기 */
+  static final int UNLIMITED = Integer.MAX_VALUE;
+
+  private Paging() {}
+
+  /**
+   * 페이지 크기를 결정합니다.
+   *
+   * @param limit 요청한 항목 수 (없으면 null)
+   * @param defaultSize limit이 없을 때의 크기
+   * @throws IllegalArgumentException limit이 1보다 작은 경우
+   */
+  static int pageSize(Integer limit, int defaultSize) {
+    if (limit == null) {
+      return defaultSize;
+    }
+    if (limit < 1) {
+      throw new IllegalArgumentException("limit은 1 이상이어야 합니다.");
+    }
+    return limit;
+  }
+
+  /** 커서 기반 조회 여부 (커서가 있거나 skip이 없는 경우) */
+  static boolean isKeysetRequest(Integer skip, String cursor) {
+    return cursor != null || skip == null || skip == 0;
+  }
+
+  /**
+   * skip 위치부터 pageSize개를 조회하는 페이징 요청을 생성합니다.
+   *
+   * @throws IllegalArgumentException skip이 음수인 경우
+   */
+  static Pageable offset(Integer skip, int pageSize) {
+    long offset = skip != null ? skip : 0;
+    if (offset < 0) {
+      throw new IllegalArgumentException("skip은 0 이상이어야 합니다.");
+    }
+    return new OffsetPageRequest(offset, pageSize);
+  }
+
+  /** OFFSET을 페이지 번호가 아닌 항목 수로 지정하는 페이징 요청 (정렬은 쿼리에서 지정) */
+  record OffsetPageRequest(long offset, int size) implements Pageable {
+
+    @Override
+    public int getPageNumber() {
+      return (int) (offset / size);
+    }
+
+    @Override
+    public int getPageSize() {
+      return size;
+    }
+
+    @Override
+    public long getOffset() {
+      return offset;
+    }
+
+    @Override
+    public Sort getSort() {
+      return Sort.unsorted();
+    }
+
+    @Override
+    public Pageable next() {
+      return new OffsetPageRequest(offset + size, size);
+    }
+
+    @Override
+    public Pageable previousOrFirst() {
+      return hasPrevious() ? new OffsetPageRequest(Math.max(offset - size, 0), size) : first();
+    }
+
+    @Override
+    public Pageable first() {
+      return new OffsetPageRequest(0, size);
+    }
+
+    @Override
+    public Pageable withPage(int pageNumber) {
+      return new OffsetPageRequest((long) pageNumber * size, size);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return offset > 0;
+    }
+  }
+}
@@ -0,0 +1,255 @@
+package com.soon_my_room.soon_my_room.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글 좋아요 수/댓글 수 변경분을 메모리에 모아 주기적으로 DB에 반영합니다.
+ *
+ * <p>게시글별 {@link LongAdder}에 증감을 기록하므로 인기 게시글에 좋아요가 몰려도 posts 행 잠금을 두고 경합하지 않습니다. 아직 반영되지 않은
+ * 변경분은 조회 시 컬럼 값에 더해집니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostCounterBuffer {
+
+  private static final String FLUSH_SQL =
+      "UPDATE posts SET heart_count = heart_count + ?, comment_count = comment_count + ?"
+          + " WHERE id = ?";
+
+  // 실제 행 수와 다른 게시글 카운터
+  private static final String DRIFT_SQL =
+      "SELECT c.id, c.heart_count, c.comment_count, c.hearts, c.comments FROM ("
+          + "SELECT p.id, p.heart_count, p.comment_count,"
+          + " (SELECT COUNT(*) FROM hearts h WHERE h.post_id = p.id) AS hearts,"
+          + " (SELECT COUNT(*) FROM comments m WHERE m.post_id = p.id) AS comments"
+          + " FROM posts p) c"
+          + " WHERE c.heart_count <> c.hearts OR c.comment_count <> c.comments";
+
+  // 행 수를 센 뒤 다른 반영이 없었던 경우에만 보정
+  private static final String CORRECT_SQL =
+      "UPDATE posts SET heart_count = ?, comment_count = ?"
+          + " WHERE id = ? AND heart_count = ? AND comment_count = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final Map<String, LongAdder> heartDeltas = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> commentDeltas = new ConcurrentHashMap<>();
+
+  // 변경분을 기록한 뒤 아직 끝나지 않은 트랜잭션 수 (게시글별)
+  private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+  // 보정 중 변경분이 기록되거나 트랜잭션이 끝난 게시글 (보정 중이 아니면 null)
+  private volatile Set<String> touchedDuringReconcile;
+
+  // 반영은 한 번에 하나씩 (JDBC 호출 중 가상 스레드가 캐리어 스레드를 고정하지 않도록 synchronized 대신 사용)
+  private final ReentrantLock flushLock = new ReentrantLock();
+
+  /** 좋아요 수 증감 기록 */
+  public void addHearts(String postId, long delta) {
+    record(heartDeltas, postId, delta);
+  }
+
+  /** 댓글 수 증감 기록 */
+  public void addComments(String postId, long delta) {
+    record(commentDeltas, postId, delta);
+  }
+
+  /** 아직 반영되지 않은 좋아요 수 변경분 */
+  public long pendingHearts(String postId) {
+    return pending(heartDeltas, postId);
+  }
+
+  /** 아직 반영되지 않은 댓글 수 변경분 */
+  public long pendingComments(String postId) {
+    return pending(commentDeltas, postId);
+  }
+
+  /** 쌓인 변경분을 한 번의 배치 UPDATE로 반영 */
+  @Scheduled(fixedDelayString = "${app.counter.flush-interval-ms:300}")
+  public void flush() {
+    flushLock.lock();
+    try {
+      // 게시글 ID 순으로 정렬하여 여러 인스턴스가 동시에 반영해도 교착 상태가 생기지 않도록 함
+      Map<String, long[]> deltas = new TreeMap<>();
+      drain(heartDeltas, deltas, 0);
+      drain(commentDeltas, deltas, 1);
+
+      if (deltas.isEmpty()) {
+        return;
+      }
+
+      List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+      deltas.forEach((postId, delta) -> batchArgs.add(new Object[] {delta[0], delta[1], postId}));
+
+      try {
+        jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+      } catch (RuntimeException e) {
+        // 반영 실패 시 변경분을 되돌려 다음 주기에 재시도
+        log.warn("게시글 카운터 반영 실패, 다음 주기에 재시도합니다: {}", e.getMessage());
+        deltas.forEach(
+            (postId, delta) -> {
+              add(heartDeltas, postId, delta[0]);
+              add(commentDeltas, postId, delta[1]);
+            });
+      }
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  /**
+   * 좋아요 수/댓글 수를 실제 행 수와 맞춥니다.
+   *
+   * <p>쌓인 변경분을 먼저 반영하고 보정이 끝날 때까지 반영을 멈춥니다. 행 수를 센 시점에 진행 중이었거나 그 이후 변경분이 기록된 게시글은 센 값에
+   * 변경분이 포함됐는지 알 수 없으므로 건너뛰고 다음 보정에서 맞춥니다.
+   *
+   * @return 보정한 게시글 수
+   */
+  public int reconcile() {
+    flushLock.lock();
+    try {
+      Set<String> touched = ConcurrentHashMap.newKeySet();
+      touchedDuringReconcile = touched;
+      flush();
+
+      List<CounterDrift> drifts =
+          jdbcTemplate.query(
+              DRIFT_SQL,
+              (rs, rowNum) ->
+                  new CounterDrift(
+                      rs.getString("id"),
+                      rs.getLong("heart_count"),
+                      rs.getLong("comment_count"),
+                      rs.getLong("hearts"),
+                      rs.getLong("comments")));
+
+      // 트랜잭션은 끝날 때 touched에 먼저 기록된 뒤 inFlight에서 빠지므로 inFlight를 먼저 확인
+      Set<String> skipped = new HashSet<>(inFlight.keySet());
+      skipped.addAll(touched);
+      skipped.addAll(heartDeltas.keySet());
+      skipped.addAll(commentDeltas.keySet());
+
+      List<Object[]> batchArgs = new ArrayList<>();
+      for (CounterDrift drift : drifts) {
+        if (!skipped.contains(drift.postId())) {
+          batchArgs.add(
+              new Object[] {
+                drift.hearts(),
+                drift.comments(),
+                drift.postId(),
+                drift.heartCount(),
+                drift.commentCount()
+              });
+        }
+      }
+
+      if (batchArgs.isEmpty()) {
+        return 0;
+      }
+      return (int)
+          Arrays.stream(jdbcTemplate.batchUpdate(CORRECT_SQL, batchArgs))
+              .filter(count -> count > 0)
+              .count();
+    } finally {
+      touchedDuringReconcile = null;
+      flushLock.unlock();
+    }
+  }
+
+  /** 종료 시 남은 변경분 반영 */
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  /** 변경분 기록 (트랜잭션이 롤백되면 되돌림) */
+  private void record(Map<String, LongAdder> buffer, String postId, long delta) {
+    add(buffer, postId, delta);
+    touch(postId);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      inFlight.computeIfAbsent(postId, id -> new AtomicInteger()).incrementAndGet();
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              if (status == STATUS_ROLLED_BACK) {
+                add(buffer, postId, -delta);
+              }
+              touch(postId);
+              inFlight.computeIfPresent(
+                  postId, (id, count) -> count.decrementAndGet() == 0 ? null : count);
+            }
+          });
+    }
+  }
+
+  private void touch(String postId) {
+    Set<String> touched = touchedDuringReconcile;
+    if (touched != null) {
+      touched.add(postId);
+    }
+  }
+
+  private void add(Map<String, LongAdder> buffer, String postId, long delta) {
+    if (delta == 0) {
+      return;
+    }
+
+    LongAdder adder = buffer.computeIfAbsent(postId, id -> new LongAdder());
+    adder.add(delta);
+
+    // 반영 중 버퍼에서 분리된 누산기에 기록한 경우 남은 값을 현재 누산기로 옮김
+    while (buffer.get(postId) != adder) {
+      long moved = adder.sumThenReset();
+      if (moved == 0) {
+        return;
+      }
+
+      adder = buffer.computeIfAbsent(postId, id -> new LongAdder());
+      adder.add(moved);
+    }
+  }
+
+  private long pending(Map<String, LongAdder> buffer, String postId) {
+    LongAdder adder = buffer.get(postId);
+    return adder != null ? adder.sum() : 0;
+  }
+
+  private void drain(Map<String, LongAdder> buffer, Map<String, long[]> deltas, int index) {
+    for (String postId : buffer.keySet()) {
+      LongAdder adder = buffer.remove(postId);
+      if (adder == null) {
+        continue;
+      }
+
+      long delta = adder.sumThenReset();
+      if (delta != 0) {
+        deltas.computeIfAbsent(postId, id -> new long[2])[index] += delta;
+      }
+    }
+  }
+
+  /** 컬럼 값과 실제 행 수 */
+  private record CounterDrift(
+      String postId, long heartCount, long commentCount, long hearts, long comments) {}
+}
@@ -0,0 +1,136 @@
+package com.soon_my_room.soon_my_room.service;
+
+import com.soon_my_room.soon_my_room.dto.ImageVariantsDTO;
+import com.soon_my_room.soon_my_room.dto.PostDTO;
+import com.soon_my_room.soon_my_room.dto.ProfileDTO;
+import com.soon_my_room.soon_my_room.model.Post;
+import com.soon_my_room.soon_my_room.model.User;
+import com.soon_my_room.soon_my_room.repository.HeartRepository;
+import com.soon_my_room.soon_my_room.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 목록의 상세 정보(좋아요 여부, 좋아요 수, 댓글 수, 작성자 프로필)를 구성합니다.
+ *
+ * <p>게시글 수와 관계없이 고정된 수의 IN 쿼리로 조회하며, 좋아요 수/댓글 수는 게시글의 카운터 컬럼을 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostEnricher {
+
+  private final HeartRepository heartRepository;
+  private final UserRepository userRepository;
+  private final ProfileAssembler profileAssembler;
+  private final PostCounterBuffer postCounterBuffer;
+  private final ImageVariantLookup imageVariantLookup;
+
+  /**
+   * 게시글 목록의 상세 정보를 구성합니다.
+   *
+   * @param posts 게시글 목록
+   * @param currentUserId 현재 사용자 ID
+   * @return 게시글 상세 정보 목록 (입력 순서 유지)
+   */
+  public List<PostDTO.PostDetail> enrich(List<Post> posts, String currentUserId) {
+    if (posts.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    Set<String> postIds = posts.stream().map(Post::getId).collect(Collectors.toSet());
+
+    // 작성자 조회 (작성자별 한 번)
+    Set<String> authorIds = new LinkedHashSet<>();
+    posts.forEach(post -> authorIds.add(post.getAuthor().getId()));
+    List<User> authors = userRepository.findAllById(authorIds);
+
+    // 작성자 프로필 구성 (작성자별 한 번)
+    Map<String, ProfileDTO.Profile> authorProfiles =
+        profileAssembler.buildProfiles(authors, currentUserId, ProfileDTO.View.COMPACT);
+
+    return enrich(posts, currentUserId, postIds, authorProfiles);
+  }
+
+  /**
+   * 작성자가 한 명인 게시글 목록의 상세 정보를 구성합니다.
+   *
+   * @param posts 게시글 목록
+   * @param currentUserId 현재 사용자 ID
+   * @param authorProfile 작성자 프로필
+   * @return 게시글 상세 정보 목록 (입력 순서 유지)
+   */
+  public List<PostDTO.PostDetail> enrich(
+      List<Post> posts, String currentUserId, ProfileDTO.Profile authorProfile) {
+    if (posts.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    Set<String> postIds = posts.stream().map(Post::getId).collect(Collectors.toSet());
+    return enrich(posts, currentUserId, postIds, Map.of(authorProfile.getId(), authorProfile));
+  }
+
+  private List<PostDTO.PostDetail> enrich(
+      List<Post> posts,
+      String currentUserId,
+      Set<String> postIds,
+      Map<String, ProfileDTO.Profile> authorProfiles) {
+    // 좋아요 여부
+    Set<String> heartedPostIds =
+        new HashSet<>(heartRepository.findHeartedPostIds(currentUserId, postIds));
+
+    // 게시글 이미지의 변형 정보
+    List<String> images = posts.stream().map(Post::getImage).collect(Collectors.toList());
+    Map<String, ImageVariantsDTO> imageVariants = imageVariantLookup.findReady(images);
+
+    return assemble(posts, heartedPostIds, imageVariants, authorProfiles);
+  }
+
+  /**
+   * 미리 조회한 정보로 게시글 목록의 상세 정보를 구성합니다.
+   *
+   * @param posts 게시글 목록
+   * @param heartedPostIds 현재 사용자가 좋아요한 게시글 ID
+   * @param imageVariants 게시글 이미지의 {@link ImageVariantLookup#findReady} 조회 결과
+   * @param authorProfiles 작성자 ID별 프로필
+   * @return 게시글 상세 정보 목록 (입력 순서 유지)
+   */
+  public List<PostDTO.PostDetail> assemble(
+      List<Post> posts,
+      Set<String> heartedPostIds,
+      Map<String, ImageVariantsDTO> imageVariants,
+      Map<String, ProfileDTO.Profile> authorProfiles) {
+    return posts.stream()
+        .map(
+            post ->
+                PostDTO.PostDetail.builder()
+                    .id(post.getId())
+                    .content(post.getContent())
+                    .image(post.getImage())
+                    .imageVariants(imageVariantLookup.select(post.getImage(), imageVariants))
+                    .createdAt(post.getCreatedAt())
+                    .updatedAt(post.getUpdatedAt())
+                    .hearted(heartedPostIds.contains(post.getId()))
+                    .heartCount(heartCount(post))
+                    .commentCount(commentCount(post))
+                    .author(authorProfiles.get(post.getAuthor().getId()))
+                    .build())
+        .collect(Collectors.toList());
+  }
+
+  /** 좋아요 수 (아직 반영되지 않은 변경분 포함) */
+  private int heartCount(Post post) {
+    return (int) (post.getHeartCount() + postCounterBuffer.pendingHearts(post.getId()));
+  }
+
+  /** 댓글 수 (아직 반영되지 않은 변경분 포함) */
+  private int commentCount(Post post) {
+    return (int) (post.getCommentCount() + postCounterBuffer.pendingComments(post.getId()));
+  }
+}
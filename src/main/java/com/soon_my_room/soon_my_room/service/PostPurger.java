@@ -0,0 +1,135 @@
+package com.soon_my_room.soon_my_room.service;
+
+import com.soon_my_room.soon_my_room.repository.CommentRepository;
+import com.soon_my_room.soon_my_room.repository.HeartRepository;
+import com.soon_my_room.soon_my_room.repository.PostRepository;
+import com.soon_my_room.soon_my_room.repository.TimelineEntryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntUnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 삭제 표시된 게시글의 좋아요/댓글/타임라인 항목을 나누어 정리한 뒤 게시글 행을 삭제합니다.
+ *
+ * <p>한 번에 최대 chunk-size 건씩 별도 트랜잭션으로 삭제하므로 좋아요가 많은 게시글도 잠금을 오래 잡지 않습니다. 진행 상황은 {@code
+ * posts.purge.pending} 게이지와 {@code posts.purge.rows} 카운터로 확인할 수 있습니다.
+ */
+@Component
+@Slf4j
+public class PostPurger {
+
+  private final PostRepository postRepository;
+  private final HeartRepository heartRepository;
+  private final CommentRepository commentRepository;
+  private final TimelineEntryRepository timelineEntryRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  private final int chunkSize;
+  private final int batchSize;
+
+  private final AtomicLong pendingPosts = new AtomicLong();
+  private final Counter purgedPosts;
+  private final Counter purgedHearts;
+  private final Counter purgedComments;
+  private final Counter purgedTimelineEntries;
+
+  public PostPurger(
+      PostRepository postRepository,
+      HeartRepository heartRepository,
+      CommentRepository commentRepository,
+      TimelineEntryRepository timelineEntryRepository,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${app.post-purge.chunk-size:1000}") int chunkSize,
+      @Value("${app.post-purge.batch-size:50}") int batchSize) {
+    this.postRepository = postRepository;
+    this.heartRepository = heartRepository;
+    this.commentRepository = commentRepository;
+    this.timelineEntryRepository = timelineEntryRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.chunkSize = chunkSize;
+    this.batchSize = batchSize;
+
+    Gauge.builder("posts.purge.pending", pendingPosts, AtomicLong::get)
+        .description("정리 대기 중인 삭제된 게시글 수")
+        .register(meterRegistry);
+    this.purgedPosts =
+        Counter.builder("posts.purge.posts")
+            .description("정리가 끝나 삭제된 게시글 수")
+            .register(meterRegistry);
+    this.purgedHearts = rowCounter(meterRegistry, "hearts");
+    this.purgedComments = rowCounter(meterRegistry, "comments");
+    this.purgedTimelineEntries = rowCounter(meterRegistry, "timeline_entries");
+  }
+
+  /** 삭제 표시된 게시글 정리 (삭제된 순서대로 최대 batch-size 건) */
+  @Scheduled(fixedDelayString = "${app.post-purge.interval-ms:5000}")
+  public void purge() {
+    pendingPosts.set(postRepository.countDeleted());
+
+    List<String> postIds = postRepository.findDeletedIds(batchSize);
+    for (String postId : postIds) {
+      try {
+        purgePost(postId);
+      } catch (RuntimeException e) {
+        // 정리 중 새 행이 추가되는 등으로 실패한 경우 다음 주기에 재시도
+        log.warn("게시글 정리 실패, 다음 주기에 재시도합니다: {} ({})", postId, e.getMessage());
+      }
+    }
+  }
+
+  /** 게시글 하나의 연관 데이터를 나누어 삭제한 뒤 게시글 행 삭제 */
+  private void purgePost(String postId) {
+    long hearts =
+        deleteInChunks(limit -> heartRepository.deleteChunkByPostId(postId, limit), purgedHearts);
+    long comments =
+        deleteInChunks(
+            limit -> commentRepository.deleteChunkByPostId(postId, limit), purgedComments);
+    long timelineEntries =
+        deleteInChunks(
+            limit -> timelineEntryRepository.deleteChunkByPostId(postId, limit),
+            purgedTimelineEntries);
+
+    Integer deleted = transactionTemplate.execute(status -> postRepository.purgeById(postId));
+    if (deleted != null && deleted > 0) {
+      purgedPosts.increment();
+      pendingPosts.decrementAndGet();
+    }
+
+    log.info(
+        "게시글 정리 완료: {} (좋아요 {} 건, 댓글 {} 건, 타임라인 {} 건)",
+        postId,
+        hearts,
+        comments,
+        timelineEntries);
+  }
+
+  /** 삭제된 행이 chunk-size보다 적을 때까지 반복 삭제 */
+  private long deleteInChunks(IntUnaryOperator deleteChunk, Counter counter) {
+    long total = 0;
+    int deleted;
+    do {
+      Integer result = transactionTemplate.execute(status -> deleteChunk.applyAsInt(chunkSize));
+      deleted = result != null ? result : 0;
+      counter.increment(deleted);
+      total += deleted;
+    } while (deleted >= chunkSize);
+
+    return total;
+  }
+
+  private Counter rowCounter(MeterRegistry meterRegistry, String table) {
+    return Counter.builder("posts.purge.rows")
+        .description("삭제된 게시글 정리로 삭제된 행 수")
+        .tag("table", table)
+        .register(meterRegistry);
+  }
+}
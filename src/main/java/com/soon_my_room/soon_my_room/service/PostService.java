@@ -1,22 +1,17 @@
 package com.soon_my_room.soon_my_room.service;
 
+import com.soon_my_room.soon_my_room.dto.PageCursor;
 import com.soon_my_room.soon_my_room.dto.PostDTO;
 import com.soon_my_room.soon_my_room.dto.ProfileDTO;
 import com.soon_my_room.soon_my_room.exception.ResourceNotFoundException;
-import com.soon_my_room.soon_my_room.model.Follow;
-import com.soon_my_room.soon_my_room.model.Heart;
 import com.soon_my_room.soon_my_room.model.Post;
 import com.soon_my_room.soon_my_room.model.User;
-import com.soon_my_room.soon_my_room.repository.CommentRepository;
-import com.soon_my_room.soon_my_room.repository.FollowRepository;
-import com.soon_my_room.soon_my_room.repository.HeartRepository;
 import com.soon_my_room.soon_my_room.repository.PostRepository;
 import com.soon_my_room.soon_my_room.repository.UserRepository;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -28,9 +23,10 @@ public class PostService {
 
   private final PostRepository postRepository;
   private final UserRepository userRepository;
-  private final HeartRepository heartRepository;
-  private final CommentRepository commentRepository;
-  private final FollowRepository followRepository;
+  private final TimelineService timelineService;
+  private final ProfileAssembler profileAssembler;
+  private final PostEnricher postEnricher;
+  private final ImageUrlResolver imageUrlResolver;
 
   /** 게시글 작성 */
   @Transactional
@@ -49,14 +45,22 @@ public class PostService {
     Post post =
         Post.builder()
             .content(postContent.getContent())
-            .image(postContent.getImage())
+            .image(imageUrlResolver.toReference(postContent.getImage()))
             .author(currentUser)
             .build();
 
     Post savedPost = postRepository.save(post);
 
+    // 게시글 수 증가 (영속성 컨텍스트의 사용자는 갱신되지 않으므로 응답용 값도 함께 증가)
+    userRepository.adjustPostCount(currentUser.getId(), 1);
+    currentUser.setPostCount(currentUser.getPostCount() + 1);
+
+    // 팔로워 타임라인에 배포
+    timelineService.fanOutPost(savedPost);
+
     // 프로필 정보 구성
-    ProfileDTO.Profile authorProfile = buildProfileInfo(currentUser, currentUser);
+    ProfileDTO.Profile authorProfile =
+        profileAssembler.buildProfile(currentUser, currentUser, ProfileDTO.View.COMPACT);
 
     // 응답 생성
     return PostDTO.PostResponse.fromEntity(
@@ -69,43 +73,35 @@ public class PostService {
 
   /** 팔로잉 게시글 목록 (피드) */
   @Transactional(readOnly = true)
-  public PostDTO.PostListResponse getFeedPosts(String userEmail, Integer limit, Integer skip) {
-    // 현재 사용자 조회
-    User currentUser = findUserByEmail(userEmail);
-
-    // 팔로잉 목록 조회
-    List<String> followingIds = getFollowingIds(currentUser);
-
-    if (followingIds.isEmpty()) {
-      return PostDTO.PostListResponse.builder().posts(new ArrayList<>()).build();
+  public PostDTO.PostListResponse getFeedPosts(
+      String currentUserId, Integer limit, Integer skip, String cursor) {
+    // 타임라인에 배포된 팔로잉 사용자들의 게시글 조회
+    List<Post> feedPosts;
+    if (Paging.isKeysetRequest(skip, cursor)) {
+      feedPosts =
+          timelineService.getTimelinePosts(
+              currentUserId, PageCursor.decode(cursor), resolvePageSize(limit));
+    } else {
+      feedPosts =
+          timelineService.getTimelinePosts(
+              currentUserId, Paging.offset(skip, resolvePageSize(limit)));
     }
 
-    // 팔로잉 사용자 목록 조회
-    List<User> followingUsers = userRepository.findAllById(followingIds);
-
-    // 페이징 설정
-    Pageable pageable = createPageRequest(limit, skip);
-
-    // 팔로잉 사용자들의 게시글 조회
-    List<Post> feedPosts =
-        postRepository.findByAuthorInOrderByCreatedAtDesc(followingUsers, pageable);
-
     // 게시글 상세 정보 구성
-    List<PostDTO.PostDetail> postDetails = buildFeedPostDetails(feedPosts, currentUser);
+    List<PostDTO.PostDetail> postDetails = postEnricher.enrich(feedPosts, currentUserId);
 
-    return PostDTO.PostListResponse.fromEntities(postDetails);
+    return PostDTO.PostListResponse.fromEntities(postDetails, nextCursor(feedPosts, limit));
   }
 
   /** 사용자 게시글 목록 */
   @Transactional(readOnly = true)
   public PostDTO.PostResponse getUserPosts(
-      String accountname, String currentUserEmail, Integer limit, Integer skip) {
+      String accountname, String currentUserId, Integer limit, Integer skip, String cursor) {
     // 사용자 조회
     User targetUser = findUserByAccountname(accountname);
-    User currentUser = findUserByEmail(currentUserEmail);
 
     // 페이징 처리된 사용자 게시글 조회
-    List<Post> userPosts = getPagedUserPosts(targetUser, limit, skip);
+    List<Post> userPosts = getPagedUserPosts(targetUser, limit, skip, cursor);
 
     // 게시글이 없는 경우 빈 목록 반환
     if (userPosts.isEmpty()) {
@@ -113,37 +109,29 @@ public class PostService {
     }
 
     // 작성자 프로필 정보 구성
-    ProfileDTO.Profile authorProfile = buildProfileInfo(targetUser, currentUser);
+    ProfileDTO.Profile authorProfile =
+        profileAssembler.buildProfile(targetUser, currentUserId, ProfileDTO.View.COMPACT);
 
     // 게시글 상세 정보 구성
-    List<PostDTO.PostDetail> postDetails = buildPostDetails(userPosts, currentUser, authorProfile);
+    List<PostDTO.PostDetail> postDetails =
+        postEnricher.enrich(userPosts, currentUserId, authorProfile);
 
-    return PostDTO.PostResponse.builder().post(postDetails).build();
+    return PostDTO.PostResponse.builder()
+        .post(postDetails)
+        .next(nextCursor(userPosts, limit))
+        .build();
   }
 
   /** 게시글 상세 조회 */
   @Transactional(readOnly = true)
-  public PostDTO.PostResponse getPostDetail(String postId, String currentUserEmail) {
+  public PostDTO.PostResponse getPostDetail(String postId, String currentUserId) {
     // 게시글 조회
     Post post = findPostById(postId);
 
-    // 현재 사용자 조회
-    User currentUser = findUserByEmail(currentUserEmail);
-
-    // 좋아요 여부
-    boolean hearted = hasLiked(currentUser.getId(), post.getId());
-
-    // 좋아요 수
-    int heartCount = countLikes(post.getId());
-
-    // 댓글 수
-    int commentCount = countComments(post);
-
-    // 작성자 프로필 정보
-    User author = post.getAuthor();
-    ProfileDTO.Profile authorProfile = buildProfileInfo(author, currentUser);
-
-    return PostDTO.PostResponse.fromEntity(post, hearted, heartCount, commentCount, authorProfile);
+    // 좋아요 여부, 좋아요 수, 댓글 수, 작성자 프로필 정보 구성
+    return PostDTO.PostResponse.builder()
+        .post(postEnricher.enrich(List.of(post), currentUserId))
+        .build();
   }
 
   /** 게시글 수정 */
@@ -169,25 +157,14 @@ public class PostService {
 
     // 게시글 수정
     post.setContent(postContent.getContent());
-    post.setImage(postContent.getImage());
+    post.setImage(imageUrlResolver.toReference(postContent.getImage()));
 
     Post updatedPost = postRepository.save(post);
 
-    // 좋아요 여부
-    boolean hearted = hasLiked(currentUser.getId(), updatedPost.getId());
-
-    // 좋아요 수
-    int heartCount = countLikes(updatedPost.getId());
-
-    // 댓글 수
-    int commentCount = countComments(updatedPost);
-
-    // 작성자 프로필 정보
-    User author = updatedPost.getAuthor();
-    ProfileDTO.Profile authorProfile = buildProfileInfo(author, currentUser);
-
-    return PostDTO.PostResponse.fromEntity(
-        updatedPost, hearted, heartCount, commentCount, authorProfile);
+    // 좋아요 여부, 좋아요 수, 댓글 수, 작성자 프로필 정보 구성
+    return PostDTO.PostResponse.builder()
+        .post(postEnricher.enrich(List.of(updatedPost), currentUser.getId()))
+        .build();
   }
 
   /** 게시글 삭제 */
@@ -204,12 +181,11 @@ public class PostService {
       throw new AccessDeniedException("잘못된 요청입니다. 로그인 정보를 확인하세요.");
     }
 
-    // 게시글 좋아요 삭제
-    List<Heart> hearts = heartRepository.findByPostId(post.getId());
-    heartRepository.deleteAll(hearts);
-
-    // 게시글 삭제
-    postRepository.delete(post);
+    // 삭제 표시 (좋아요/댓글/타임라인 정리는 PostPurger가 나중에 나누어 처리)
+    if (postRepository.markDeleted(post.getId(), LocalDateTime.now()) > 0) {
+      // 게시글 수 감소
+      userRepository.adjustPostCount(currentUser.getId(), -1);
+    }
   }
 
   /** 게시글 신고 */
@@ -248,115 +224,31 @@ public class PostService {
         .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
   }
 
-  /** 페이징 요청 객체 생성 */
-  private Pageable createPageRequest(Integer limit, Integer skip) {
-    int pageSize = limit != null ? limit : 10;
-    int pageNumber = skip != null ? skip / pageSize : 0;
-    return PageRequest.of(pageNumber, pageSize);
-  }
-
-  /** 페이징 처리된 사용자 게시글 조회 */
-  private List<Post> getPagedUserPosts(User user, Integer limit, Integer skip) {
-    Pageable pageable = createPageRequest(limit, skip);
-    return postRepository.findByAuthorOrderByCreatedAtDesc(user, pageable);
-  }
-
-  /** 프로필 정보 구성 */
-  private ProfileDTO.Profile buildProfileInfo(User targetUser, User currentUser) {
-    // 팔로워 목록 조회
-    List<String> followerIds = getFollowerIds(targetUser);
-
-    // 팔로잉 목록 조회
-    List<String> followingIds = getFollowingIds(targetUser);
-
-    // 팔로우 여부 확인
-    boolean isFollowing = isFollowing(currentUser.getId(), targetUser.getId());
-
-    return ProfileDTO.Profile.fromEntity(
-        targetUser,
-        isFollowing,
-        followingIds,
-        followerIds,
-        followingIds.size(),
-        followerIds.size());
-  }
-
-  /** 팔로워 ID 목록 조회 */
-  private List<String> getFollowerIds(User user) {
-    return followRepository.findByFollowingId(user.getId()).stream()
-        .map(Follow::getFollowerId)
-        .collect(Collectors.toList());
-  }
-
-  /** 팔로잉 ID 목록 조회 */
-  private List<String> getFollowingIds(User user) {
-    return followRepository.findByFollowerId(user.getId()).stream()
-        .map(Follow::getFollowingId)
-        .collect(Collectors.toList());
+  /** 페이지 크기 결정 */
+  private int resolvePageSize(Integer limit) {
+    return Paging.pageSize(limit, 10);
   }
 
-  /** 팔로우 여부 확인 */
-  private boolean isFollowing(String followerId, String followingId) {
-    return followRepository.existsByFollowerIdAndFollowingId(followerId, followingId);
+  /** 다음 페이지 커서 생성 */
+  private String nextCursor(List<Post> posts, Integer limit) {
+    return PageCursor.next(posts, resolvePageSize(limit), Post::getCreatedAt, Post::getId);
   }
 
-  /** 게시글 상세 정보 구성 */
-  private List<PostDTO.PostDetail> buildPostDetails(
-      List<Post> posts, User currentUser, ProfileDTO.Profile authorProfile) {
-    return posts.stream()
-        .map(post -> buildPostDetail(post, currentUser, authorProfile))
-        .collect(Collectors.toList());
-  }
-
-  /** 피드 게시글 상세 정보 구성 */
-  private List<PostDTO.PostDetail> buildFeedPostDetails(List<Post> posts, User currentUser) {
-    return posts.stream()
-        .map(
-            post -> {
-              // 각 게시글의 작성자 프로필 정보 구성
-              ProfileDTO.Profile authorProfile = buildProfileInfo(post.getAuthor(), currentUser);
-              return buildPostDetail(post, currentUser, authorProfile);
-            })
-        .collect(Collectors.toList());
-  }
-
-  /** 단일 게시글 상세 정보 구성 */
-  private PostDTO.PostDetail buildPostDetail(
-      Post post, User currentUser, ProfileDTO.Profile authorProfile) {
-    // 좋아요 여부
-    boolean hearted = hasLiked(currentUser.getId(), post.getId());
-
-    // 좋아요 수
-    int heartCount = countLikes(post.getId());
-
-    // 댓글 수
-    int commentCount = countComments(post);
-
-    return PostDTO.PostDetail.builder()
-        .id(post.getId())
-        .content(post.getContent())
-        .image(post.getImage())
-        .createdAt(post.getCreatedAt())
-        .updatedAt(post.getUpdatedAt())
-        .hearted(hearted)
-        .heartCount(heartCount)
-        .commentCount(commentCount)
-        .author(authorProfile)
-        .build();
-  }
-
-  /** 좋아요 여부 확인 */
-  private boolean hasLiked(String userId, String postId) {
-    return heartRepository.existsByUserIdAndPostId(userId, postId);
-  }
+  /** 페이징 처리된 사용자 게시글 조회 */
+  private List<Post> getPagedUserPosts(User user, Integer limit, Integer skip, String cursor) {
+    if (!Paging.isKeysetRequest(skip, cursor)) {
+      Pageable pageable = Paging.offset(skip, resolvePageSize(limit));
+      return postRepository.findByAuthorOrderByCreatedAtDesc(user, pageable);
+    }
 
-  /** 좋아요 수 조회 */
-  private int countLikes(String postId) {
-    return heartRepository.countByPostId(postId);
-  }
+    // 커서 이후 게시글을 (created_at, id) 인덱스 탐색으로 조회
+    PageCursor pageCursor = PageCursor.decode(cursor);
+    int pageSize = resolvePageSize(limit);
+    if (pageCursor == null) {
+      return postRepository.findFirstPageByAuthorId(user.getId(), pageSize);
+    }
 
-  /** 댓글 수 조회 */
-  private int countComments(Post post) {
-    return commentRepository.countByPost(post);
+    return postRepository.findPageByAuthorIdAfter(
+        user.getId(), pageCursor.getCreatedAt(), pageCursor.getId(), pageSize);
   }
 }
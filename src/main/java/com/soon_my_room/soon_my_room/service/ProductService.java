@@ -1,19 +1,17 @@
 package com.soon_my_room.soon_my_room.service;
 
+import com.soon_my_room.soon_my_room.dto.PageCursor;
 import com.soon_my_room.soon_my_room.dto.ProductDTO;
 import com.soon_my_room.soon_my_room.dto.ProfileDTO;
 import com.soon_my_room.soon_my_room.exception.ResourceNotFoundException;
-import com.soon_my_room.soon_my_room.model.Follow;
 import com.soon_my_room.soon_my_room.model.Product;
 import com.soon_my_room.soon_my_room.model.User;
-import com.soon_my_room.soon_my_room.repository.FollowRepository;
 import com.soon_my_room.soon_my_room.repository.ProductRepository;
 import com.soon_my_room.soon_my_room.repository.UserRepository;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -25,7 +23,8 @@ public class ProductService {
 
   private final ProductRepository productRepository;
   private final UserRepository userRepository;
-  private final FollowRepository followRepository;
+  private final ProfileAssembler profileAssembler;
+  private final ImageUrlResolver imageUrlResolver;
 
   /** 상품 등록 */
   @Transactional
@@ -43,31 +42,15 @@ public class ProductService {
             .itemName(productContent.getItemName())
             .price(productContent.getPrice())
             .link(productContent.getLink())
-            .itemImage(productContent.getItemImage())
+            .itemImage(imageUrlResolver.toReference(productContent.getItemImage()))
             .author(currentUser)
             .build();
 
     Product savedProduct = productRepository.save(product);
 
     // 프로필 정보 구성
-    List<String> followerIds =
-        followRepository.findByFollowingId(currentUser.getId()).stream()
-            .map(Follow::getFollowerId)
-            .collect(Collectors.toList());
-
-    List<String> followingIds =
-        followRepository.findByFollowerId(currentUser.getId()).stream()
-            .map(Follow::getFollowingId)
-            .collect(Collectors.toList());
-
     ProfileDTO.Profile authorProfile =
-        ProfileDTO.Profile.fromEntity(
-            currentUser,
-            false, // 자신의 상품이므로 팔로우 상태는 false
-            followingIds,
-            followerIds,
-            followingIds.size(),
-            followerIds.size());
+        profileAssembler.buildProfile(currentUser, currentUser, ProfileDTO.View.COMPACT);
 
     // 응답 생성
     return ProductDTO.ProductResponse.fromEntity(savedProduct, authorProfile);
@@ -76,27 +59,30 @@ public class ProductService {
   /** 사용자별 상품 목록 조회 */
   @Transactional(readOnly = true)
   public ProductDTO.ProductListResponse getUserProducts(
-      String accountname, String currentUserEmail, Integer limit, Integer skip) {
+      String accountname, String currentUserId, Integer limit, Integer skip, String cursor) {
     // 계정 소유자 조회
     User targetUser =
         userRepository
             .findByAccountname(accountname)
             .orElseThrow(() -> new ResourceNotFoundException("해당 계정이 존재하지 않습니다."));
 
-    // 현재 사용자 조회
-    User currentUser =
-        userRepository
-            .findByEmail(currentUserEmail)
-            .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
-
     // 페이징 설정
-    int pageSize = limit != null ? limit : 10;
-    int pageNumber = skip != null ? skip / pageSize : 0;
-    Pageable pageable = PageRequest.of(pageNumber, pageSize);
+    int pageSize = Paging.pageSize(limit, 10);
 
     // 사용자 상품 조회
-    List<Product> userProducts =
-        productRepository.findByAuthorOrderByCreatedAtDesc(targetUser, pageable);
+    List<Product> userProducts;
+    if (Paging.isKeysetRequest(skip, cursor)) {
+      // 커서 이후 상품을 (created_at, id) 인덱스 탐색으로 조회
+      PageCursor pageCursor = PageCursor.decode(cursor);
+      userProducts =
+          pageCursor == null
+              ? productRepository.findFirstPageByAuthorId(targetUser.getId(), pageSize)
+              : productRepository.findPageByAuthorIdAfter(
+                  targetUser.getId(), pageCursor.getCreatedAt(), pageCursor.getId(), pageSize);
+    } else {
+      Pageable pageable = Paging.offset(skip, pageSize);
+      userProducts = productRepository.findByAuthorOrderByCreatedAtDesc(targetUser, pageable);
+    }
 
     // 상품이 없는 경우 빈 목록 반환
     if (userProducts.isEmpty()) {
@@ -104,27 +90,8 @@ public class ProductService {
     }
 
     // 프로필 정보 구성
-    List<String> followerIds =
-        followRepository.findByFollowingId(targetUser.getId()).stream()
-            .map(Follow::getFollowerId)
-            .collect(Collectors.toList());
-
-    List<String> followingIds =
-        followRepository.findByFollowerId(targetUser.getId()).stream()
-            .map(Follow::getFollowingId)
-            .collect(Collectors.toList());
-
-    boolean isFollowing =
-        followRepository.existsByFollowerIdAndFollowingId(currentUser.getId(), targetUser.getId());
-
     ProfileDTO.Profile authorProfile =
-        ProfileDTO.Profile.fromEntity(
-            targetUser,
-            isFollowing,
-            followingIds,
-            followerIds,
-            followingIds.size(),
-            followerIds.size());
+        profileAssembler.buildProfile(targetUser, currentUserId, ProfileDTO.View.COMPACT);
 
     // 상품 상세 정보 구성
     List<ProductDTO.ProductDetail> productDetails =
@@ -141,47 +108,24 @@ public class ProductService {
                         .build())
             .collect(Collectors.toList());
 
-    return ProductDTO.ProductListResponse.fromEntities(productDetails);
+    return ProductDTO.ProductListResponse.fromEntities(
+        productDetails,
+        PageCursor.next(userProducts, pageSize, Product::getCreatedAt, Product::getId));
   }
 
   /** 상품 상세 조회 */
   @Transactional(readOnly = true)
-  public ProductDTO.ProductResponse getProductDetail(String productId, String currentUserEmail) {
+  public ProductDTO.ProductResponse getProductDetail(String productId, String currentUserId) {
     // 상품 조회
     Product product =
         productRepository
             .findById(productId)
             .orElseThrow(() -> new ResourceNotFoundException("등록된 상품이 없습니다."));
 
-    // 현재 사용자 조회
-    User currentUser =
-        userRepository
-            .findByEmail(currentUserEmail)
-            .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
-
     // 작성자 프로필 정보
     User author = product.getAuthor();
-    List<String> followerIds =
-        followRepository.findByFollowingId(author.getId()).stream()
-            .map(Follow::getFollowerId)
-            .collect(Collectors.toList());
-
-    List<String> followingIds =
-        followRepository.findByFollowerId(author.getId()).stream()
-            .map(Follow::getFollowingId)
-            .collect(Collectors.toList());
-
-    boolean isFollowing =
-        followRepository.existsByFollowerIdAndFollowingId(currentUser.getId(), author.getId());
-
     ProfileDTO.Profile authorProfile =
-        ProfileDTO.Profile.fromEntity(
-            author,
-            isFollowing,
-            followingIds,
-            followerIds,
-            followingIds.size(),
-            followerIds.size());
+        profileAssembler.buildProfile(author, currentUserId, ProfileDTO.View.COMPACT);
 
     return ProductDTO.ProductResponse.fromEntity(product, authorProfile);
   }
@@ -213,30 +157,14 @@ public class ProductService {
     product.setItemName(productContent.getItemName());
     product.setPrice(productContent.getPrice());
     product.setLink(productContent.getLink());
-    product.setItemImage(productContent.getItemImage());
+    product.setItemImage(imageUrlResolver.toReference(productContent.getItemImage()));
 
     Product updatedProduct = productRepository.save(product);
 
     // 작성자 프로필 정보
     User author = updatedProduct.getAuthor();
-    List<String> followerIds =
-        followRepository.findByFollowingId(author.getId()).stream()
-            .map(Follow::getFollowerId)
-            .collect(Collectors.toList());
-
-    List<String> followingIds =
-        followRepository.findByFollowerId(author.getId()).stream()
-            .map(Follow::getFollowingId)
-            .collect(Collectors.toList());
-
     ProfileDTO.Profile authorProfile =
-        ProfileDTO.Profile.fromEntity(
-            author,
-            false, // 본인 상품
-            followingIds,
-            followerIds,
-            followingIds.size(),
-            followerIds.size());
+        profileAssembler.buildProfile(author, currentUser, ProfileDTO.View.COMPACT);
 
     return ProductDTO.ProductResponse.fromEntity(updatedProduct, authorProfile);
   }
@@ -0,0 +1,158 @@
+package com.soon_my_room.soon_my_room.service;
+
+import com.soon_my_room.soon_my_room.dto.ImageVariantsDTO;
+import com.soon_my_room.soon_my_room.dto.ProfileDTO;
+import com.soon_my_room.soon_my_room.model.User;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 사용자의 프로필 정보를 한 번에 구성합니다.
+ *
+ * <p>팔로워/팔로잉/팔로우 여부는 {@link FollowGraph}에서 사용자 수와 관계없이 한 번에 조회하며, 같은 사용자는 한 번만 구성합니다. 간단
+ * 프로필은 팔로우 여부만 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProfileAssembler {
+
+  private final FollowGraph followGraph;
+  private final ImageVariantLookup imageVariantLookup;
+
+  /** 단일 사용자 프로필 구성 */
+  public ProfileDTO.Profile buildProfile(User targetUser, User currentUser, ProfileDTO.View view) {
+    return buildProfile(targetUser, currentUser.getId(), view);
+  }
+
+  /** 단일 사용자 프로필 구성 (현재 사용자 ID 기준) */
+  public ProfileDTO.Profile buildProfile(
+      User targetUser, String currentUserId, ProfileDTO.View view) {
+    return buildProfiles(List.of(targetUser), currentUserId, view).get(targetUser.getId());
+  }
+
+  /**
+   * 여러 사용자의 프로필을 구성합니다.
+   *
+   * @param targetUsers 프로필을 구성할 사용자 목록 (중복 허용)
+   * @param currentUser 현재 사용자
+   * @param view 프로필 응답 형식
+   * @return 사용자 ID별 프로필 (사용자별 한 번만 구성)
+   */
+  public Map<String, ProfileDTO.Profile> buildProfiles(
+      Collection<User> targetUsers, User currentUser, ProfileDTO.View view) {
+    return buildProfiles(targetUsers, currentUser.getId(), view);
+  }
+
+  /**
+   * 여러 사용자의 프로필을 구성합니다.
+   *
+   * @param targetUsers 프로필을 구성할 사용자 목록 (중복 허용)
+   * @param currentUserId 현재 사용자 ID
+   * @param view 프로필 응답 형식
+   * @return 사용자 ID별 프로필 (사용자별 한 번만 구성)
+   */
+  public Map<String, ProfileDTO.Profile> buildProfiles(
+      Collection<User> targetUsers, String currentUserId, ProfileDTO.View view) {
+    // 프로필 이미지의 변형 정보 (사용자 수와 관계없이 한 번에 조회)
+    List<String> images = targetUsers.stream().map(User::getImage).collect(Collectors.toList());
+    Map<String, ImageVariantsDTO> imageVariants = imageVariantLookup.findReady(images);
+
+    if (targetUsers.isEmpty()) {
+      return new LinkedHashMap<>();
+    }
+
+    // 현재 사용자의 팔로우 여부, 간단 프로필이 아니면 팔로워/팔로잉 목록
+    Set<String> userIds =
+        targetUsers.stream().map(User::getId).collect(Collectors.toCollection(LinkedHashSet::new));
+    FollowGraph.Relations relations =
+        followGraph.findRelations(currentUserId, userIds, view != ProfileDTO.View.COMPACT);
+
+    return assemble(targetUsers, view, relations, imageVariants);
+  }
+
+  /**
+   * 팔로우 관계와 프로필 이미지의 변형 정보를 미리 조회한 경우 여러 사용자의 프로필을 구성합니다.
+   *
+   * <p>{@link FollowGraph}나 DB를 조회하지 않으므로 리액티브 조회 경로에서도 사용할 수 있습니다.
+   *
+   * @param targetUsers 프로필을 구성할 사용자 목록 (중복 허용)
+   * @param view 프로필 응답 형식
+   * @param relations 대상 사용자의 팔로우 관계 (간단 프로필은 팔로우 여부만 사용)
+   * @param imageVariants 프로필 이미지의 {@link ImageVariantLookup#findReady} 조회 결과
+   * @return 사용자 ID별 프로필 (사용자별 한 번만 구성)
+   */
+  public Map<String, ProfileDTO.Profile> assemble(
+      Collection<User> targetUsers,
+      ProfileDTO.View view,
+      FollowGraph.Relations relations,
+      Map<String, ImageVariantsDTO> imageVariants) {
+    // 사용자 ID 기준 중복 제거
+    Map<String, User> usersById = new LinkedHashMap<>();
+    for (User user : targetUsers) {
+      usersById.putIfAbsent(user.getId(), user);
+    }
+
+    if (usersById.isEmpty()) {
+      return new LinkedHashMap<>();
+    }
+
+    Set<String> followedIds = relations.followedIds();
+
+    Map<String, ProfileDTO.Profile> profiles = new LinkedHashMap<>();
+
+    // 간단 프로필은 팔로워/팔로잉 ID 목록을 사용하지 않음
+    if (view == ProfileDTO.View.COMPACT) {
+      usersById.forEach(
+          (userId, user) ->
+              profiles.put(
+                  userId,
+                  ProfileDTO.Profile.compactFromEntity(user, followedIds.contains(userId))));
+      attachImageVariants(usersById, profiles, imageVariants);
+      return profiles;
+    }
+
+    Map<String, List<String>> followersByUser = relations.followersByUser();
+    Map<String, List<String>> followingsByUser = relations.followingsByUser();
+
+    usersById.forEach(
+        (userId, user) -> {
+          profiles.put(
+              userId,
+              ProfileDTO.Profile.fromEntity(
+                  user,
+                  followedIds.contains(userId),
+                  followingsByUser.getOrDefault(userId, new ArrayList<>()),
+                  followersByUser.getOrDefault(userId, new ArrayList<>()),
+                  user.getFollowingCount(),
+                  user.getFollowerCount()));
+        });
+
+    attachImageVariants(usersById, profiles, imageVariants);
+    return profiles;
+  }
+
+  /** 프로필 이미지의 변형 정보 설정 */
+  private void attachImageVariants(
+      Map<String, User> usersById,
+      Map<String, ProfileDTO.Profile> profiles,
+      Map<String, ImageVariantsDTO> variants) {
+    if (variants.isEmpty()) {
+      return;
+    }
+
+    profiles.forEach(
+        (userId, profile) -> {
+          List<ImageVariantsDTO> selected =
+              imageVariantLookup.select(usersById.get(userId).getImage(), variants);
+          profile.setImageVariants(selected.isEmpty() ? null : selected.get(0));
+        });
+  }
+}
@@ -0,0 +1,201 @@
+package com.soon_my_room.soon_my_room.service;
+
+import com.soon_my_room.soon_my_room.dto.ImageVariantsDTO;
+import com.soon_my_room.soon_my_room.dto.PageCursor;
+import com.soon_my_room.soon_my_room.dto.PostDTO;
+import com.soon_my_room.soon_my_room.dto.ProfileDTO;
+import com.soon_my_room.soon_my_room.exception.ResourceNotFoundException;
+import com.soon_my_room.soon_my_room.model.Follow;
+import com.soon_my_room.soon_my_room.model.Post;
+import com.soon_my_room.soon_my_room.model.User;
+import com.soon_my_room.soon_my_room.repository.ReactiveFollowRepository;
+import com.soon_my_room.soon_my_room.repository.ReactiveImageAssetRepository;
+import com.soon_my_room.soon_my_room.repository.ReactivePostRepository;
+import com.soon_my_room.soon_my_room.repository.ReactiveUserRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 피드, 게시글 상세, 프로필을 R2DBC로 조회하는 논블로킹 조회 서비스입니다.
+ *
+ * <p>응답 형식은 기존 API와 같습니다. 게시글을 조회한 뒤 좋아요 여부, 게시글 이미지 변형, 작성자 프로필 조회를 동시에 실행하므로 요청 스레드를 점유하지 않고
+ * 지연 시간은 가장 느린 조회 하나에 가깝습니다. 팔로우 관계는 팔로우 그래프(메모리)에서 조회하고, 시작 직후 그래프 적재가 끝나기 전에는 R2DBC로
+ * 조회합니다. 블로킹 JPA 조회는 사용하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveReadService {
+
+  private final ReactivePostRepository postRepository;
+  private final ReactiveUserRepository userRepository;
+  private final ReactiveImageAssetRepository imageAssetRepository;
+  private final ReactiveFollowRepository followRepository;
+  private final FollowGraph followGraph;
+  private final PostEnricher postEnricher;
+  private final ProfileAssembler profileAssembler;
+  private final ImageVariantLookup imageVariantLookup;
+
+  /** 팔로잉 게시글 목록 (피드) */
+  public Mono<PostDTO.PostListResponse> getFeedPosts(
+      String currentUserId, Integer limit, Integer skip, String cursor) {
+    int pageSize = Paging.pageSize(limit, 10);
+
+    return Mono.defer(() -> findTimelinePosts(currentUserId, pageSize, skip, cursor).collectList())
+        .flatMap(
+            posts ->
+                enrich(posts, currentUserId)
+                    .map(
+                        postDetails ->
+                            PostDTO.PostListResponse.fromEntities(
+                                postDetails,
+                                PageCursor.next(
+                                    posts, pageSize, Post::getCreatedAt, Post::getId))));
+  }
+
+  /** 게시글 상세 */
+  public Mono<PostDTO.PostResponse> getPostDetail(String postId, String currentUserId) {
+    return postRepository
+        .findById(postId)
+        .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("존재하지 않는 게시글입니다.")))
+        .flatMap(post -> enrich(List.of(post), currentUserId))
+        .map(postDetails -> PostDTO.PostResponse.builder().post(postDetails).build());
+  }
+
+  /** 사용자 프로필 */
+  public Mono<ProfileDTO.ProfileResponse> getProfile(
+      String accountname, String currentUserId, ProfileDTO.View view) {
+    return userRepository
+        .findByAccountname(accountname)
+        .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("해당 계정이 존재하지 않습니다.")))
+        .flatMap(
+            user ->
+                buildProfiles(List.of(user), currentUserId, view)
+                    .map(
+                        profiles ->
+                            ProfileDTO.ProfileResponse.builder()
+                                .profile(profiles.get(user.getId()))
+                                .build()));
+  }
+
+  /** 타임라인 게시글 조회 (커서가 있거나 skip이 없으면 키셋 페이지네이션) */
+  private Flux<Post> findTimelinePosts(
+      String currentUserId, int pageSize, Integer skip, String cursor) {
+    if (!Paging.isKeysetRequest(skip, cursor)) {
+      long offset = Paging.offset(skip, pageSize).getOffset();
+      return postRepository.findTimelinePage(currentUserId, pageSize, offset);
+    }
+
+    PageCursor pageCursor = PageCursor.decode(cursor);
+    if (pageCursor == null) {
+      return postRepository.findFirstTimelinePage(currentUserId, pageSize);
+    }
+
+    return postRepository.findTimelinePageAfter(
+        currentUserId, pageCursor.getCreatedAt(), pageCursor.getId(), pageSize);
+  }
+
+  /** 게시글 목록의 상세 정보 구성 (좋아요 여부, 이미지 변형, 작성자 프로필을 동시에 조회) */
+  private Mono<List<PostDTO.PostDetail>> enrich(List<Post> posts, String currentUserId) {
+    if (posts.isEmpty()) {
+      return Mono.just(new ArrayList<>());
+    }
+
+    Set<String> postIds = posts.stream().map(Post::getId).collect(Collectors.toSet());
+    Set<String> authorIds = new LinkedHashSet<>();
+    posts.forEach(post -> authorIds.add(post.getAuthor().getId()));
+
+    Mono<Set<String>> heartedPostIds =
+        postRepository.findHeartedPostIds(currentUserId, postIds).collect(Collectors.toSet());
+
+    Mono<Map<String, ImageVariantsDTO>> imageVariants =
+        findImageVariants(posts.stream().map(Post::getImage).collect(Collectors.toList()));
+
+    Mono<Map<String, ProfileDTO.Profile>> authorProfiles =
+        userRepository
+            .findAllById(authorIds)
+            .collectList()
+            .flatMap(authors -> buildProfiles(authors, currentUserId, ProfileDTO.View.COMPACT));
+
+    return Mono.zip(heartedPostIds, imageVariants, authorProfiles)
+        .map(
+            results ->
+                postEnricher.assemble(posts, results.getT1(), results.getT2(), results.getT3()));
+  }
+
+  /** 사용자 프로필 구성 (프로필 이미지 변형과 팔로우 관계를 동시에 조회) */
+  private Mono<Map<String, ProfileDTO.Profile>> buildProfiles(
+      List<User> users, String currentUserId, ProfileDTO.View view) {
+    Set<String> userIds =
+        users.stream().map(User::getId).collect(Collectors.toCollection(LinkedHashSet::new));
+
+    return Mono.zip(
+            findImageVariants(users.stream().map(User::getImage).collect(Collectors.toList())),
+            findFollowRelations(currentUserId, userIds, view != ProfileDTO.View.COMPACT))
+        .map(results -> profileAssembler.assemble(users, view, results.getT2(), results.getT1()));
+  }
+
+  /** 팔로우 관계 조회 (팔로우 그래프 적재가 끝나기 전에는 R2DBC로 조회) */
+  private Mono<FollowGraph.Relations> findFollowRelations(
+      String currentUserId, Set<String> userIds, boolean withLists) {
+    return Mono.defer(
+        () ->
+            followGraph
+                .findRelationsInMemory(currentUserId, userIds, withLists)
+                .map(Mono::just)
+                .orElseGet(
+                    () -> findFollowRelationsFromDatabase(currentUserId, userIds, withLists)));
+  }
+
+  private Mono<FollowGraph.Relations> findFollowRelationsFromDatabase(
+      String currentUserId, Set<String> userIds, boolean withLists) {
+    Mono<Set<String>> followedIds =
+        followRepository
+            .findFollowingIdsIn(currentUserId, userIds)
+            .collect(Collectors.toSet());
+    if (!withLists) {
+      return followedIds.map(ids -> new FollowGraph.Relations(ids, Map.of(), Map.of()));
+    }
+
+    Mono<Map<String, List<String>>> followersByUser =
+        followRepository
+            .findByFollowingIdIn(userIds)
+            .collect(
+                Collectors.groupingBy(
+                    Follow::getFollowingId,
+                    Collectors.mapping(Follow::getFollowerId, Collectors.toList())));
+    Mono<Map<String, List<String>>> followingsByUser =
+        followRepository
+            .findByFollowerIdIn(userIds)
+            .collect(
+                Collectors.groupingBy(
+                    Follow::getFollowerId,
+                    Collectors.mapping(Follow::getFollowingId, Collectors.toList())));
+
+    return Mono.zip(followedIds, followersByUser, followingsByUser)
+        .map(
+            results ->
+                new FollowGraph.Relations(results.getT1(), results.getT2(), results.getT3()));
+  }
+
+  /** 이미지 값 목록의 변형 정보 조회 */
+  private Mono<Map<String, ImageVariantsDTO>> findImageVariants(Collection<String> imageValues) {
+    Set<String> references = imageVariantLookup.references(imageValues);
+    if (references.isEmpty()) {
+      return Mono.just(Map.of());
+    }
+
+    return imageAssetRepository
+        .findReadyByReferenceIn(references)
+        .collectList()
+        .map(imageVariantLookup::toVariants);
+  }
+}
@@ -0,0 +1,290 @@
+package com.soon_my_room.soon_my_room.service;
+
+import com.soon_my_room.soon_my_room.dto.ImageResponseDTO;
+import com.soon_my_room.soon_my_room.dto.ImageUploadDTO;
+import com.soon_my_room.soon_my_room.exception.DuplicateResourceException;
+import com.soon_my_room.soon_my_room.exception.ResourceNotFoundException;
+import com.soon_my_room.soon_my_room.model.UploadSession;
+import com.soon_my_room.soon_my_room.repository.UploadSessionRepository;
+import com.soon_my_room.soon_my_room.storage.StorageBackend;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 큰 이미지를 여러 요청으로 나누어 올리는 이어 올리기 업로드를 처리합니다.
+ *
+ * <p>세션을 만들면 저장소의 멀티파트 업로드를 시작하고, 청크 하나를 파트 하나로 요청 본문에서 바로 저장소에 전송하므로 세션당 힙 버퍼가 없습니다. 저장이 끝난
+ * 위치는 DB에 기록되어, 연결이 끊기면 클라이언트는 현재 위치를 조회해 그 청크부터 다시 올립니다. 만료 시각까지 이어서 올리지 않은 세션은 주기적으로 저장소
+ * 업로드를 중단하고 삭제합니다. 세션은 만든 사용자만 사용할 수 있습니다.
+ */
+@Service
+@Slf4j
+public class ResumableUploadService {
+
+  private final UploadSessionRepository uploadSessionRepository;
+  private final StorageBackend storageBackend;
+  private final StorageService storageService;
+  private final TransactionTemplate transactionTemplate;
+
+  // 청크(파트) 크기 (S3 최소 파트 크기는 5MB)
+  private final int chunkSize;
+
+  // 마지막 청크 이후 세션 유지 시간
+  private final long sessionTtlMinutes;
+
+  // 한 주기에 정리할 최대 만료 세션 수
+  private final int sweepBatchSize;
+
+  // 청크를 저장 중인 세션 (같은 세션의 청크를 동시에 받지 않음)
+  private final Set<String> activeSessions = ConcurrentHashMap.newKeySet();
+
+  public ResumableUploadService(
+      UploadSessionRepository uploadSessionRepository,
+      StorageBackend storageBackend,
+      StorageService storageService,
+      TransactionTemplate transactionTemplate,
+      @Value("${app.upload.part-size-bytes:5242880}") int chunkSize,
+      @Value("${app.upload.resumable.session-ttl-minutes:60}") long sessionTtlMinutes,
+      @Value("${app.upload.resumable.sweep-batch-size:100}") int sweepBatchSize) {
+    this.uploadSessionRepository = uploadSessionRepository;
+    this.storageBackend = storageBackend;
+    this.storageService = storageService;
+    this.transactionTemplate = transactionTemplate;
+    this.chunkSize = chunkSize;
+    this.sessionTtlMinutes = sessionTtlMinutes;
+    this.sweepBatchSize = sweepBatchSize;
+  }
+
+  /**
+   * 업로드 세션을 만듭니다.
+   *
+   * @param request 업로드할 파일 정보
+   * @param requestPath 요청 경로
+   * @param ownerId 세션을 만드는 사용자 ID
+   * @return 세션 상태 (offset 0)
+   */
+  public ImageUploadDTO.UploadSessionResponse createSession(
+      ImageUploadDTO.PresignRequest request, String requestPath, String ownerId) {
+    StorageService.UploadTarget target =
+        storageService.reserveUpload(
+            request.getFilename(), request.getContentType(), request.getSize(), requestPath);
+
+    String storageUploadId =
+        storageBackend.createMultipartUpload(
+            target.bucketName(),
+            ImageDerivativeWorker.uploadKey(target.key()),
+            request.getContentType());
+
+    LocalDateTime now = LocalDateTime.now();
+    UploadSession session =
+        UploadSession.builder()
+            .id(UUID.randomUUID().toString())
+            .ownerId(ownerId)
+            .bucketName(target.bucketName())
+            .objectKey(target.key())
+            .contentType(request.getContentType())
+            .originalName(request.getFilename())
+            .size(request.getSize())
+            .partSize(chunkSize)
+            .uploadedBytes(0)
+            .storageUploadId(storageUploadId)
+            .createdAt(now)
+            .expiresAt(now.plusMinutes(sessionTtlMinutes))
+            .build();
+    uploadSessionRepository.save(session);
+
+    log.info(
+        "이어 올리기 세션 생성: {} (버킷: {}, 파일명: {})",
+        session.getId(),
+        target.bucketName(),
+        target.key());
+    return toResponse(session);
+  }
+
+  /**
+   * 세션 상태를 조회합니다. (연결이 끊긴 뒤 이어 올릴 위치 확인)
+   *
+   * @throws ResourceNotFoundException 세션이 없거나 만료된 경우
+   * @throws AccessDeniedException 다른 사용자의 세션인 경우
+   */
+  public ImageUploadDTO.UploadSessionResponse getSession(String uploadId, String userId) {
+    return toResponse(findSession(uploadId, userId));
+  }
+
+  /**
+   * 청크 하나를 저장합니다.
+   *
+   * <p>청크는 현재 위치(offset)부터 chunkSize 바이트여야 하며(마지막 청크는 남은 크기), 저장소 파트 하나로 저장됩니다. 같은 청크를 다시 보내도
+   * 위치가 이미 앞으로 옮겨졌으면 거부되므로 클라이언트는 응답의 offset으로 이어서 올립니다.
+   *
+   * @param offset 청크의 시작 위치
+   * @param content 청크 내용 (요청 본문)
+   * @param length 청크 크기 (Content-Length)
+   * @return 저장 후 세션 상태
+   * @throws DuplicateResourceException 현재 위치와 다르거나 같은 세션의 다른 청크를 처리 중인 경우
+   * @throws IllegalArgumentException 청크 크기가 맞지 않는 경우
+   * @throws AccessDeniedException 다른 사용자의 세션인 경우
+   */
+  public ImageUploadDTO.UploadSessionResponse uploadChunk(
+      String uploadId, String userId, long offset, InputStream content, long length)
+      throws IOException {
+    UploadSession session = findSession(uploadId, userId);
+    if (offset != session.getUploadedBytes()) {
+      throw new DuplicateResourceException(
+          "업로드 위치가 일치하지 않습니다. (현재 위치: " + session.getUploadedBytes() + ")");
+    }
+
+    long expectedLength = Math.min(session.getPartSize(), session.getSize() - offset);
+    if (expectedLength <= 0) {
+      throw new IllegalArgumentException("모든 청크가 이미 업로드되었습니다.");
+    }
+    if (length != expectedLength) {
+      throw new IllegalArgumentException("청크 크기는 " + expectedLength + " bytes여야 합니다.");
+    }
+
+    if (!activeSessions.add(uploadId)) {
+      throw new DuplicateResourceException("같은 업로드의 다른 청크를 처리 중입니다.");
+    }
+
+    try {
+      int partNumber = (int) (offset / session.getPartSize()) + 1;
+      String eTag =
+          storageBackend.uploadPart(
+              session.getBucketName(),
+              uploadKey(session),
+              session.getStorageUploadId(),
+              partNumber,
+              content,
+              length);
+
+      // 다른 인스턴스가 같은 위치를 먼저 저장한 경우 위치를 옮기지 않음
+      LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(sessionTtlMinutes);
+      Integer updated =
+          transactionTemplate.execute(
+              status ->
+                  uploadSessionRepository.advance(
+                      uploadId, offset, offset + length, eTag, expiresAt));
+      if (updated == null || updated == 0) {
+        throw new DuplicateResourceException("업로드 위치가 일치하지 않습니다.");
+      }
+
+      session.setUploadedBytes(offset + length);
+      session.setExpiresAt(expiresAt);
+      return toResponse(session);
+    } finally {
+      activeSessions.remove(uploadId);
+    }
+  }
+
+  /**
+   * 모든 청크를 올린 세션의 객체를 완성하고 이미지로 확인합니다.
+   *
+   * @return 업로드 결과 정보 (직접 업로드 확인과 같은 형식)
+   * @throws IllegalArgumentException 아직 올리지 않은 청크가 있는 경우
+   * @throws DuplicateResourceException 같은 세션을 처리 중인 경우
+   * @throws AccessDeniedException 다른 사용자의 세션인 경우
+   */
+  public ImageResponseDTO completeSession(String uploadId, String userId) throws IOException {
+    UploadSession session = findSession(uploadId, userId);
+    if (session.getUploadedBytes() != session.getSize()) {
+      throw new IllegalArgumentException(
+          "모든 청크를 업로드하지 않았습니다. (현재 위치: " + session.getUploadedBytes() + ")");
+    }
+
+    if (!activeSessions.add(uploadId)) {
+      throw new DuplicateResourceException("같은 업로드를 처리 중입니다.");
+    }
+
+    List<String> partETags = Arrays.asList(session.getPartETags().split(","));
+    try {
+      storageBackend.completeMultipartUpload(
+          session.getBucketName(), uploadKey(session), session.getStorageUploadId(), partETags);
+      uploadSessionRepository.deleteById(uploadId);
+    } finally {
+      activeSessions.remove(uploadId);
+    }
+
+    log.info("이어 올리기 완료: {} ({} bytes, {} 청크)", uploadId, session.getSize(), partETags.size());
+
+    // 크기/형식 검사 후 파생 이미지 생성 예약 (조건에 맞지 않으면 객체 삭제)
+    return storageService.verifyUploadedObject(
+        session.getBucketName(), session.getObjectKey(), session.getOriginalName());
+  }
+
+  /**
+   * 세션을 취소하고 저장한 청크를 삭제합니다.
+   *
+   * @throws AccessDeniedException 다른 사용자의 세션인 경우
+   */
+  public void abortSession(String uploadId, String userId) {
+    UploadSession session = findSession(uploadId, userId);
+    abort(session);
+  }
+
+  /** 만료된 세션 정리 (저장소의 미완성 업로드 중단) */
+  @Scheduled(fixedDelayString = "${app.upload.resumable.sweep-interval-ms:300000}")
+  public void expireSessions() {
+    List<UploadSession> expired =
+        uploadSessionRepository.findExpired(LocalDateTime.now(), sweepBatchSize);
+    for (UploadSession session : expired) {
+      try {
+        abort(session);
+      } catch (RuntimeException e) {
+        log.warn("만료된 업로드 세션 정리 실패, 다음 주기에 재시도합니다: {} ({})", session.getId(), e.getMessage());
+      }
+    }
+
+    if (!expired.isEmpty()) {
+      log.info("만료된 업로드 세션 {}건 정리", expired.size());
+    }
+  }
+
+  private void abort(UploadSession session) {
+    storageBackend.abortMultipartUpload(
+        session.getBucketName(), uploadKey(session), session.getStorageUploadId());
+    uploadSessionRepository.deleteById(session.getId());
+  }
+
+  /** 저장소 멀티파트 업로드의 객체 키 (JPEG, PNG는 메타데이터 제거 전 임시 키) */
+  private static String uploadKey(UploadSession session) {
+    return ImageDerivativeWorker.uploadKey(session.getObjectKey());
+  }
+
+  private UploadSession findSession(String uploadId, String userId) {
+    UploadSession session =
+        uploadSessionRepository
+            .findById(uploadId)
+            .filter(found -> found.getExpiresAt().isAfter(LocalDateTime.now()))
+            .orElseThrow(() -> new ResourceNotFoundException("업로드 세션을 찾을 수 없습니다: " + uploadId));
+
+    // 소유자 컬럼 추가 전에 만들어진 세션(소유자 없음)은 누구도 사용할 수 없음
+    if (!userId.equals(session.getOwnerId())) {
+      throw new AccessDeniedException("다른 사용자의 업로드 세션입니다.");
+    }
+    return session;
+  }
+
+  private ImageUploadDTO.UploadSessionResponse toResponse(UploadSession session) {
+    return ImageUploadDTO.UploadSessionResponse.builder()
+        .uploadId(session.getId())
+        .bucketName(session.getBucketName())
+        .filename(session.getObjectKey())
+        .size(session.getSize())
+        .offset(session.getUploadedBytes())
+        .chunkSize(session.getPartSize())
+        .expiresAt(session.getExpiresAt())
+        .build();
+  }
+}
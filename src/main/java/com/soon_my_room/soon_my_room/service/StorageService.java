@@ -0,0 +1,653 @@
+package com.soon_my_room.soon_my_room.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.soon_my_room.soon_my_room.dto.ImageResponseDTO;
+import com.soon_my_room.soon_my_room.dto.ImageUploadDTO;
+import com.soon_my_room.soon_my_room.exception.ResourceNotFoundException;
+import com.soon_my_room.soon_my_room.storage.StorageBackend;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StorageService {
+
+  private final StorageBackend storageBackend;
+  private final MeterRegistry meterRegistry;
+  private final ImageUrlResolver imageUrlResolver;
+  private final ImageDerivativeWorker imageDerivativeWorker;
+
+  @Value("${aws.s3.bucket.profiles}")
+  private String profilesBucket;
+
+  @Value("${aws.s3.bucket.posts}")
+  private String postsBucket;
+
+  @Value("${aws.s3.bucket.products}")
+  private String productsBucket;
+
+  @Value("${aws.s3.bucket.default}")
+  private String defaultBucket;
+
+  // 직접 업로드 URL 유효 시간
+  @Value("${app.upload.presign-ttl-seconds:300}")
+  private long presignTtlSeconds;
+
+  // 직접 업로드 키에 발급 사용자를 서명하는 키 (비어 있으면 시작할 때마다 임시 키 생성)
+  @Value("${app.upload.signing-secret:}")
+  private String uploadSigningSecret;
+
+  // 동시에 진행할 수 있는 최대 업로드 수 (전체 요청 기준)
+  @Value("${app.upload.max-concurrency:16}")
+  private int maxConcurrency;
+
+  // 다중 파일 업로드 전체 제한 시간
+  @Value("${app.upload.batch-timeout-ms:30000}")
+  private long batchTimeoutMs;
+
+  // 이미 저장된 것으로 확인한 객체 수 (버킷/키, HEAD 요청 생략용)
+  @Value("${app.upload.dedup-cache-size:100000}")
+  private long dedupCacheSize;
+
+  // 다중 파일 업로드용 가상 스레드 실행기와 동시 업로드 제한
+  private ExecutorService uploadExecutor;
+  private Semaphore uploadPermits;
+
+  // 저장이 확인된 내용 주소 객체 (버킷/키)
+  private Cache<String, Boolean> storedObjects;
+
+  // 중복으로 생략된 업로드 수와 크기
+  private Counter deduplicatedUploads;
+  private Counter deduplicatedBytes;
+
+  private SecretKeySpec uploadSigningKey;
+
+  @PostConstruct
+  public void init() {
+    byte[] secret;
+    if (uploadSigningSecret.isBlank()) {
+      // 여러 인스턴스에서 발급/확인하려면 같은 키를 설정해야 함
+      log.warn("app.upload.signing-secret이 설정되지 않아 임시 서명 키를 사용합니다.");
+      secret = new byte[32];
+      new SecureRandom().nextBytes(secret);
+    } else {
+      secret = uploadSigningSecret.getBytes(StandardCharsets.UTF_8);
+    }
+    uploadSigningKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+
+    uploadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    uploadPermits = new Semaphore(maxConcurrency);
+
+    storedObjects = Caffeine.newBuilder().maximumSize(dedupCacheSize).build();
+    deduplicatedUploads =
+        Counter.builder("storage.upload.deduplicated")
+            .description("같은 내용의 객체가 있어 생략된 업로드 수")
+            .register(meterRegistry);
+    deduplicatedBytes =
+        Counter.builder("storage.upload.deduplicated.bytes")
+            .description("같은 내용의 객체가 있어 생략된 업로드 크기")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    uploadExecutor.shutdown();
+  }
+
+  // 허용된 이미지 확장자
+  private final List<String> ALLOWED_EXTENSIONS =
+      Arrays.asList("jpg", "jpeg", "png", "gif", "bmp", "tif", "tiff", "heic", "svg");
+
+  // 최대 파일 크기 (10MB)
+  private final long MAX_FILE_SIZE = 10 * 1024 * 1024;
+
+  // 직접 업로드 URL로 발급한 객체 키 형식 (타임스탬프-8자리 UUID-발급 사용자 서명.확장자)
+  private static final Pattern PRESIGNED_KEY_PATTERN =
+      Pattern.compile("(\\d+-[0-9a-f]{8})-([0-9a-f]{16})\\.([a-z]+)");
+
+  private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+  /** 이미지 요청 경로에 따라 적절한 버킷을 선택합니다. */
+  private String determineBucket(String requestPath) {
+    // 요청 URL에서 패턴을 확인하여 이미지 용도를 파악
+    if (requestPath != null) {
+      if (Pattern.compile("/user|/profile", Pattern.CASE_INSENSITIVE).matcher(requestPath).find()) {
+        return profilesBucket;
+      } else if (Pattern.compile("/post", Pattern.CASE_INSENSITIVE).matcher(requestPath).find()) {
+        return postsBucket;
+      } else if (Pattern.compile("/product", Pattern.CASE_INSENSITIVE)
+          .matcher(requestPath)
+          .find()) {
+        return productsBucket;
+      }
+    }
+
+    // 기본값은 디폴트 버킷
+    return defaultBucket;
+  }
+
+  /**
+   * 단일 이미지 파일을 저장소에 업로드합니다.
+   *
+   * @param file 업로드할 이미지 파일
+   * @param requestPath 요청 경로
+   * @return 업로드 결과 정보
+   */
+  public ImageResponseDTO uploadFile(MultipartFile file, String requestPath) {
+    try {
+      // 파일 유효성 검사
+      validateFile(file);
+
+      // 파일 정보 추출
+      String originalFilename = file.getOriginalFilename();
+      String extension = getFileExtension(originalFilename);
+      String contentType = file.getContentType();
+      String bucketName = determineBucket(requestPath);
+
+      // 촬영 위치 등이 담길 수 있는 메타데이터를 제거한 임시 파일 생성 (파일 전체를 힙에 올리지 않음)
+      Path stripped = Files.createTempFile("upload-", null);
+      try {
+        // 메타데이터를 제거한 내용의 SHA-256으로 객체 키 결정 (같은 이미지는 같은 키로 한 번만 저장)
+        byte[] digest = stripMetadata(file, stripped);
+        long size = Files.size(stripped);
+        String contentFilename = generateContentFilename(digest, extension);
+
+        if (objectExists(bucketName, contentFilename)) {
+          log.info("이미 저장된 파일, 업로드 생략 버킷: {}, 파일명: {}", bucketName, contentFilename);
+          deduplicatedUploads.increment();
+          deduplicatedBytes.increment(size);
+        } else {
+          log.info("파일 업로드 버킷: {}, 파일명: {}", bucketName, contentFilename);
+
+          try (InputStream inputStream = Files.newInputStream(stripped)) {
+            storageBackend.put(bucketName, contentFilename, inputStream, size, contentType, digest);
+          }
+          storedObjects.put(bucketName + "/" + contentFilename, Boolean.TRUE);
+        }
+
+        // 결과 DTO 생성
+        return createSuccessResponse(
+            originalFilename, size, contentFilename, contentType, bucketName);
+      } finally {
+        Files.deleteIfExists(stripped);
+      }
+
+    } catch (IllegalArgumentException e) {
+      log.error("파일 유효성 검사 실패: {}", e.getMessage());
+      return ImageResponseDTO.builder().error(e.getMessage()).build();
+    } catch (Exception e) {
+      log.error("파일 업로드 중 예외 발생: {}", e.getMessage(), e);
+      return ImageResponseDTO.builder().error("파일 업로드 중 오류가 발생했습니다: " + e.getMessage()).build();
+    }
+  }
+
+  /**
+   * 클라이언트가 스토리지에 직접 업로드할 수 있는 짧은 유효 기간의 PUT URL을 발급합니다.
+   *
+   * <p>파일 크기와 컨텐츠 타입을 서명에 포함하므로 클라이언트는 응답의 headers와 같은 값으로만 업로드할 수 있습니다. 객체 키에는 발급 사용자를
+   * 서명해 두며, 업로드 후에는 같은 사용자가 {@link #confirmUpload}로 확인해야 합니다. JPEG, PNG는 메타데이터를 제거하기 전까지 임시
+   * 키({@link ImageDerivativeWorker#uploadKey})에 올리므로 업로드 URL의 키가 응답의 filename과 다릅니다.
+   *
+   * @param request 업로드할 파일 정보
+   * @param requestPath 요청 경로
+   * @param uploaderId 발급받는 사용자 ID
+   * @return 업로드 URL 정보
+   */
+  public ImageUploadDTO.PresignResponse createPresignedUpload(
+      ImageUploadDTO.PresignRequest request, String requestPath, String uploaderId) {
+    UploadTarget reserved =
+        reserveUpload(
+            request.getFilename(), request.getContentType(), request.getSize(), requestPath);
+    UploadTarget target = bindUploader(reserved, uploaderId);
+
+    StorageBackend.SignedUpload signedUpload =
+        storageBackend.signedPutUrl(
+            target.bucketName(),
+            ImageDerivativeWorker.uploadKey(target.key()),
+            request.getContentType(),
+            request.getSize(),
+            Duration.ofSeconds(presignTtlSeconds));
+
+    log.info("직접 업로드 URL 발급 버킷: {}, 파일명: {}", target.bucketName(), target.key());
+
+    return ImageUploadDTO.PresignResponse.builder()
+        .uploadUrl(signedUpload.url())
+        .method("PUT")
+        .headers(signedUpload.headers())
+        .bucketName(target.bucketName())
+        .filename(target.key())
+        .expiresAt(signedUpload.expiresAt())
+        .build();
+  }
+
+  /**
+   * 클라이언트가 직접 올릴 파일을 검사하고 저장할 버킷과 키를 정합니다. (직접 업로드, 이어 올리기 업로드 공통)
+   *
+   * @param filename 원본 파일명
+   * @param contentType 컨텐츠 타입
+   * @param size 파일 크기
+   * @param requestPath 요청 경로
+   * @return 저장할 버킷과 서버가 생성한 키 (업로드 후 {@link #verifyUploadedObject}로 확인)
+   * @throws IllegalArgumentException 이미지 파일이 아니거나 크기가 너무 큰 경우
+   */
+  public UploadTarget reserveUpload(
+      String filename, String contentType, long size, String requestPath) {
+    // 파일 유효성 검사
+    validateImage(filename, size);
+    validateContentType(contentType);
+
+    return new UploadTarget(
+        determineBucket(requestPath), generateUniqueFilename(getFileExtension(filename)));
+  }
+
+  /**
+   * 직접 업로드된 객체를 확인합니다.
+   *
+   * <p>업로드 URL을 발급받은 사용자만 확인할 수 있습니다. 크기나 컨텐츠 타입이 조건에 맞지 않으면 객체를 삭제하고 예외를 던집니다.
+   *
+   * @param request 업로드된 객체 정보
+   * @param uploaderId 확인을 요청한 사용자 ID
+   * @return 업로드 결과 정보
+   * @throws AccessDeniedException 다른 사용자에게 발급한 키인 경우
+   */
+  public ImageResponseDTO confirmUpload(ImageUploadDTO.ConfirmRequest request, String uploaderId) {
+    String bucketName = request.getBucketName();
+    String key = request.getFilename();
+
+    // 서버가 발급한 버킷/키 형식인지 확인
+    Set<String> buckets = Set.of(profilesBucket, postsBucket, productsBucket, defaultBucket);
+    Matcher matcher = PRESIGNED_KEY_PATTERN.matcher(key);
+    if (!buckets.contains(bucketName) || !matcher.matches()) {
+      throw new IllegalArgumentException("유효하지 않은 업로드 정보입니다.");
+    }
+
+    // 다른 사용자가 올린 객체를 자신의 이미지로 등록하거나 삭제하지 못하도록 발급 사용자 확인
+    String expected = uploaderSignature(uploaderId, bucketName, matcher.group(1), matcher.group(3));
+    if (!MessageDigest.isEqual(
+        expected.getBytes(StandardCharsets.US_ASCII),
+        matcher.group(2).getBytes(StandardCharsets.US_ASCII))) {
+      throw new AccessDeniedException("업로드 URL을 발급받은 사용자만 확인할 수 있습니다.");
+    }
+
+    String originalName = request.getOriginalname() != null ? request.getOriginalname() : key;
+    return verifyUploadedObject(bucketName, key, originalName);
+  }
+
+  /**
+   * 클라이언트가 올린 객체의 크기와 형식을 검사하고 파생 이미지 생성을 예약합니다. (직접 업로드, 이어 올리기 업로드 공통)
+   *
+   * <p>저장소에는 HEAD 요청만 보내며, 크기나 컨텐츠 타입이 조건에 맞지 않으면 객체를 삭제하고 예외를 던집니다. 임시 키에 올린 JPEG, PNG는
+   * 파생 이미지 작업자가 메타데이터(EXIF 등)를 제거해 최종 키로 옮기므로, 그 전에는 원본 URL 없이 경로와 변형 이미지 경로만 반환합니다.
+   *
+   * @param bucketName 버킷 이름
+   * @param key 서버가 생성한 객체 키
+   * @param originalName 원본 파일명
+   * @return 업로드 결과 정보
+   */
+  public ImageResponseDTO verifyUploadedObject(
+      String bucketName, String key, String originalName) {
+    // 임시 키에 없으면 이미 최종 키로 옮겨진 경우 (확인 재요청)
+    String uploadKey = ImageDerivativeWorker.uploadKey(key);
+    StorageBackend.ObjectMetadata staged =
+        uploadKey.equals(key) ? null : storageBackend.head(bucketName, uploadKey).orElse(null);
+    String objectKey = staged != null ? uploadKey : key;
+    StorageBackend.ObjectMetadata head =
+        staged != null
+            ? staged
+            : storageBackend
+                .head(bucketName, key)
+                .orElseThrow(() -> new ResourceNotFoundException("업로드된 파일이 없습니다."));
+
+    // 업로드된 객체의 크기/형식 검사 (조건에 맞지 않으면 삭제)
+    try {
+      validateImage(key, head.size());
+      validateContentType(head.contentType());
+    } catch (IllegalArgumentException e) {
+      storageBackend.delete(bucketName, objectKey);
+      throw e;
+    }
+
+    if (staged == null) {
+      return createSuccessResponse(originalName, head.size(), key, head.contentType(), bucketName);
+    }
+
+    // 메타데이터 제거 전 원본은 URL을 발급하지 않음
+    Map<String, String> variants = imageDerivativeWorker.enqueueUpload(bucketName, key);
+    return buildResponse(
+        originalName, head.size(), key, head.contentType(), bucketName, null, variants);
+  }
+
+  /**
+   * 다중 이미지 파일을 저장소에 동시에 업로드합니다. (최대 3개)
+   *
+   * <p>파일별 결과는 요청 순서대로 반환하며, 일부 파일이 실패하거나 전체 제한 시간을 넘긴 경우 해당 파일에만 오류를 기록합니다.
+   *
+   * @param files 업로드할 이미지 파일 목록
+   * @param requestPath 요청 경로
+   * @return 업로드 결과 정보 목록
+   */
+  public List<ImageResponseDTO> uploadMultipleFiles(List<MultipartFile> files, String requestPath) {
+    if (files == null || files.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    if (files.size() > 3) {
+      List<ImageResponseDTO> errorList = new ArrayList<>();
+      errorList.add(ImageResponseDTO.builder().error("3개 이하의 파일을 업로드 하세요.").build());
+      return errorList;
+    }
+
+    // 파일별 업로드를 가상 스레드에서 동시에 실행
+    List<Future<ImageResponseDTO>> futures = new ArrayList<>();
+    for (MultipartFile file : files) {
+      futures.add(uploadExecutor.submit(() -> uploadWithPermit(file, requestPath)));
+    }
+
+    // 요청 순서대로 결과 수집 (전체 제한 시간 적용)
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchTimeoutMs);
+    List<ImageResponseDTO> results = new ArrayList<>();
+    for (Future<ImageResponseDTO> future : futures) {
+      results.add(awaitResult(future, deadline));
+    }
+
+    return results;
+  }
+
+  /** 동시 업로드 수 제한 내에서 업로드 */
+  private ImageResponseDTO uploadWithPermit(MultipartFile file, String requestPath)
+      throws InterruptedException {
+    uploadPermits.acquire();
+    try {
+      return uploadFile(file, requestPath);
+    } finally {
+      uploadPermits.release();
+    }
+  }
+
+  /** 제한 시간까지 업로드 결과 대기 (실패 또는 시간 초과 시 오류 결과) */
+  private ImageResponseDTO awaitResult(Future<ImageResponseDTO> future, long deadline) {
+    try {
+      return future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      log.error("파일 업로드 시간 초과");
+      return ImageResponseDTO.builder().error("파일 업로드 시간이 초과되었습니다.").build();
+    } catch (ExecutionException e) {
+      log.error("파일 업로드 중 예외 발생: {}", e.getCause().getMessage(), e.getCause());
+      return ImageResponseDTO.builder()
+          .error("파일 업로드 중 오류가 발생했습니다: " + e.getCause().getMessage())
+          .build();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      return ImageResponseDTO.builder().error("파일 업로드가 중단되었습니다.").build();
+    }
+  }
+
+  /**
+   * 파일의 유효성을 검사합니다.
+   *
+   * @param file 검사할 파일
+   * @throws IllegalArgumentException 유효하지 않은 파일인 경우
+   */
+  private void validateFile(MultipartFile file) {
+    // 빈 파일 검사
+    if (file == null || file.isEmpty()) {
+      throw new IllegalArgumentException("빈 파일은 업로드할 수 없습니다.");
+    }
+
+    validateImage(file.getOriginalFilename(), file.getSize());
+  }
+
+  /**
+   * 이미지 파일명과 크기의 유효성을 검사합니다.
+   *
+   * @param filename 파일명
+   * @param size 파일 크기
+   * @throws IllegalArgumentException 유효하지 않은 파일인 경우
+   */
+  private void validateImage(String filename, long size) {
+    // 파일 크기 검사
+    if (size > MAX_FILE_SIZE) {
+      throw new IllegalArgumentException("10MB 이상의 이미지는 업로드할 수 없습니다.");
+    }
+
+    // 파일 확장자 검사
+    String extension = getFileExtension(filename);
+    if (extension.isEmpty() || !ALLOWED_EXTENSIONS.contains(extension.toLowerCase())) {
+      throw new IllegalArgumentException(
+          "이미지 파일만 업로드가 가능합니다. (지원 형식: " + String.join(", ", ALLOWED_EXTENSIONS) + ")");
+    }
+  }
+
+  /** 이미지 컨텐츠 타입 검사 */
+  private void validateContentType(String contentType) {
+    if (contentType == null || !contentType.toLowerCase().startsWith("image/")) {
+      throw new IllegalArgumentException("이미지 파일만 업로드가 가능합니다.");
+    }
+  }
+
+  /**
+   * 파일 확장자를 추출합니다.
+   *
+   * @param filename 파일명
+   * @return 확장자
+   */
+  private String getFileExtension(String filename) {
+    if (filename == null || filename.isEmpty()) {
+      return "";
+    }
+
+    int dotIndex = filename.lastIndexOf('.');
+    if (dotIndex < 0 || dotIndex == filename.length() - 1) {
+      return "";
+    }
+
+    return filename.substring(dotIndex + 1).toLowerCase();
+  }
+
+  /**
+   * 업로드 파일의 메타데이터를 제거해 임시 파일에 쓰고 그 내용의 SHA-256을 계산합니다.
+   *
+   * @param file 업로드할 파일
+   * @param target 메타데이터를 제거한 내용을 쓸 임시 파일
+   * @return 메타데이터를 제거한 내용의 SHA-256 다이제스트
+   */
+  private byte[] stripMetadata(MultipartFile file, Path target) throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
+
+    try (InputStream inputStream = file.getInputStream();
+        OutputStream outputStream =
+            new DigestOutputStream(Files.newOutputStream(target), digest)) {
+      ImageMetadata.strip(inputStream, outputStream);
+    }
+    return digest.digest();
+  }
+
+  /**
+   * 같은 내용의 객체가 이미 저장되어 있는지 확인합니다. (확인된 객체는 캐시하여 HEAD 요청 생략)
+   *
+   * @param bucketName 버킷 이름
+   * @param key 내용 주소 객체 키
+   * @return 저장되어 있으면 true
+   */
+  private boolean objectExists(String bucketName, String key) {
+    String reference = bucketName + "/" + key;
+    if (storedObjects.getIfPresent(reference) != null) {
+      return true;
+    }
+
+    if (storageBackend.head(bucketName, key).isEmpty()) {
+      return false;
+    }
+
+    storedObjects.put(reference, Boolean.TRUE);
+    return true;
+  }
+
+  /**
+   * 내용 주소 파일명을 생성합니다.
+   *
+   * @param digest 파일 내용의 SHA-256 다이제스트
+   * @param extension 파일 확장자
+   * @return SHA-256(16진수).확장자
+   */
+  private String generateContentFilename(byte[] digest, String extension) {
+    return HexFormat.of().formatHex(digest) + "." + extension;
+  }
+
+  /**
+   * 고유한 파일명을 생성합니다.
+   *
+   * @param extension 파일 확장자
+   * @return 고유한 파일명
+   */
+  private String generateUniqueFilename(String extension) {
+    return System.currentTimeMillis()
+        + "-"
+        + UUID.randomUUID().toString().substring(0, 8)
+        + "."
+        + extension;
+  }
+
+  /**
+   * 객체 키에 발급 사용자 서명을 붙입니다.
+   *
+   * @param target 서버가 생성한 버킷과 키 (타임스탬프-8자리 UUID.확장자)
+   * @param uploaderId 발급받는 사용자 ID
+   * @return 같은 버킷과 서명을 붙인 키 (타임스탬프-8자리 UUID-서명.확장자)
+   */
+  private UploadTarget bindUploader(UploadTarget target, String uploaderId) {
+    String key = target.key();
+    int extensionIndex = key.lastIndexOf('.');
+    String id = key.substring(0, extensionIndex);
+    String extension = key.substring(extensionIndex + 1);
+    String signature = uploaderSignature(uploaderId, target.bucketName(), id, extension);
+    return new UploadTarget(target.bucketName(), id + "-" + signature + "." + extension);
+  }
+
+  /** 사용자 ID와 버킷/키에 대한 서명 (HMAC-SHA256 앞 8바이트, 16진수) */
+  private String uploaderSignature(
+      String uploaderId, String bucketName, String id, String extension) {
+    String payload = String.join("\n", uploaderId, bucketName, id, extension);
+    try {
+      Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+      mac.init(uploadSigningKey);
+      byte[] signature = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(signature, 0, 8);
+    } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+      throw new IllegalStateException("업로드 키 서명을 생성할 수 없습니다.", e);
+    }
+  }
+
+  /**
+   * 성공 응답을 생성합니다.
+   *
+   * @param originalName 원본 파일명
+   * @param size 파일 크기
+   * @param key 객체 키
+   * @param contentType 컨텐츠 타입
+   * @param bucketName 버킷 이름
+   * @return 응답 DTO
+   */
+  private ImageResponseDTO createSuccessResponse(
+      String originalName, long size, String key, String contentType, String bucketName) {
+    // 서명된 URL 생성 (저장 시에는 path의 버킷/키 참조로 변환됨)
+    String presignedUrl = generatePresignedUrl(key, bucketName);
+
+    // 썸네일 등 파생 이미지 생성 예약
+    Map<String, String> variants = imageDerivativeWorker.enqueue(bucketName, key);
+
+    return buildResponse(originalName, size, key, contentType, bucketName, presignedUrl, variants);
+  }
+
+  /**
+   * 업로드 결과 응답을 구성합니다.
+   *
+   * @param url 원본 이미지 URL (아직 읽을 수 없는 원본이면 null)
+   * @param variants 너비별 변형 이미지 경로
+   */
+  private ImageResponseDTO buildResponse(
+      String originalName,
+      long size,
+      String key,
+      String contentType,
+      String bucketName,
+      String url,
+      Map<String, String> variants) {
+    return ImageResponseDTO.builder()
+        .fieldname("image")
+        .originalname(originalName)
+        .encoding("7bit")
+        .mimetype(contentType)
+        .destination(bucketName + "/")
+        .bucketName(bucketName)
+        .filename(key)
+        .path(bucketName + "/" + key)
+        .publicUrl(url)
+        .imageSrc(url)
+        .variants(variants)
+        .size(size)
+        .build();
+  }
+
+  /**
+   * 객체에 대한 미리 서명된 URL을 생성합니다. (만료가 가까워질 때까지 캐시된 서명 재사용)
+   *
+   * @param key 객체 키
+   * @param bucketName 버킷 이름
+   * @return 미리 서명된 URL
+   */
+  public String generatePresignedUrl(String key, String bucketName) {
+    return imageUrlResolver.sign(bucketName, key);
+  }
+
+  /** 업로드할 객체의 버킷과 키 */
+  public record UploadTarget(String bucketName, String key) {}
+}
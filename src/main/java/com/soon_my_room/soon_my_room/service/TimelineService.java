@@ -0,0 +1,75 @@
+package com.soon_my_room.soon_my_room.service;
+
+import com.soon_my_room.soon_my_room.dto.PageCursor;
+import com.soon_my_room.soon_my_room.model.Post;
+import com.soon_my_room.soon_my_room.repository.TimelineEntryRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자별 홈 타임라인을 관리합니다.
+ *
+ * <p>게시글 작성 시 팔로워 타임라인에 미리 배포(fan-out-on-write)하여, 피드 조회가 팔로잉 목록 IN 조회 대신 단일 인덱스 범위 스캔으로 처리되도록
+ * 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TimelineService {
+
+  private final TimelineEntryRepository timelineEntryRepository;
+
+  /** 타임라인 게시글 조회 */
+  @Transactional(readOnly = true)
+  public List<Post> getTimelinePosts(String ownerId, Pageable pageable) {
+    return timelineEntryRepository.findPostsByOwnerId(ownerId, pageable);
+  }
+
+  /** 타임라인 게시글 조회 (키셋 페이지네이션) */
+  @Transactional(readOnly = true)
+  public List<Post> getTimelinePosts(String ownerId, PageCursor cursor, int limit) {
+    if (cursor == null) {
+      return timelineEntryRepository.findFirstPageByOwnerId(ownerId, limit);
+    }
+
+    return timelineEntryRepository.findPageByOwnerIdAfter(
+        ownerId, cursor.getCreatedAt(), cursor.getId(), limit);
+  }
+
+  /** 새 게시글을 팔로워 타임라인에 배포 */
+  @Transactional
+  public void fanOutPost(Post post) {
+    timelineEntryRepository.fanOutPost(
+        post.getAuthor().getId(), post.getId(), post.getCreatedAt());
+  }
+
+  /** 팔로우 시 대상 사용자의 게시글을 타임라인에 추가 */
+  @Transactional
+  public void onFollow(String followerId, String followingId) {
+    timelineEntryRepository.insertAuthorPosts(followerId, followingId);
+  }
+
+  /** 언팔로우 시 대상 사용자의 게시글을 타임라인에서 제거 */
+  @Transactional
+  public void onUnfollow(String followerId, String followingId) {
+    timelineEntryRepository.deleteAuthorPosts(followerId, followingId);
+  }
+
+  /** 타임라인이 비어있는 경우(최초 배포 등) 기존 팔로우 관계로부터 재구성 */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional
+  public void backfillIfEmpty() {
+    if (timelineEntryRepository.existsAny()) {
+      return;
+    }
+
+    int inserted = timelineEntryRepository.rebuildAll();
+    log.info("타임라인 재구성 완료: {} 건", inserted);
+  }
+}
@@ -6,9 +6,11 @@ import com.soon_my_room.soon_my_room.dto.UserResponseDTO;
 import com.soon_my_room.soon_my_room.exception.DuplicateResourceException;
 import com.soon_my_room.soon_my_room.exception.ResourceNotFoundException;
 import com.soon_my_room.soon_my_room.model.User;
-import com.soon_my_room.soon_my_room.repository.FollowRepository;
 import com.soon_my_room.soon_my_room.repository.UserRepository;
+import com.soon_my_room.soon_my_room.security.PrincipalCache;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -20,8 +22,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
   private final UserRepository userRepository;
-  private final FollowRepository followRepository;
+  private final FollowGraph followGraph;
+  private final ProfileAssembler profileAssembler;
   private final PasswordEncoder passwordEncoder;
+  private final PrincipalCache principalCache;
+  private final ImageUrlResolver imageUrlResolver;
 
   /** 회원가입 처리 */
   @Transactional
@@ -51,7 +56,7 @@ public class UserService {
             .password(passwordEncoder.encode(requestUser.getPassword())) // 비밀번호 인코딩
             .accountname(requestUser.getAccountname())
             .intro(requestUser.getIntro())
-            .image(imageUrl)
+            .image(imageUrlResolver.toReference(imageUrl))
             .build();
 
     // 데이터베이스에 저장
@@ -111,32 +116,17 @@ public class UserService {
 
     // 이미지가 제공되었을 경우에만 업데이트
     if (profileUser.getImage() != null && !profileUser.getImage().trim().isEmpty()) {
-      user.setImage(profileUser.getImage());
+      user.setImage(imageUrlResolver.toReference(profileUser.getImage()));
     }
 
     // 저장
     userRepository.save(user);
 
-    // 팔로워/팔로잉 목록 조회
-    List<String> followers =
-        followRepository.findByFollowingId(user.getId()).stream()
-            .map(follow -> follow.getFollowerId())
-            .collect(Collectors.toList());
-
-    List<String> following =
-        followRepository.findByFollowerId(user.getId()).stream()
-            .map(follow -> follow.getFollowingId())
-            .collect(Collectors.toList());
-
-    // 응답 생성
-    ProfileDTO.Profile profile =
-        ProfileDTO.Profile.fromEntity(
-            user,
-            false, // 자신의 프로필이므로 isfollow는 false
-            following,
-            followers,
-            following.size(),
-            followers.size());
+    // 캐시된 인증 사용자 정보 무효화
+    principalCache.invalidate(user.getEmail());
+
+    // 응답 생성 (자신의 프로필이므로 isfollow는 false)
+    ProfileDTO.Profile profile = profileAssembler.buildProfile(user, user, ProfileDTO.View.FULL);
 
     return ProfileDTO.ProfileResponse.builder().profile(profile).build();
   }
@@ -146,30 +136,23 @@ public class UserService {
   public List<UserResponseDTO.SearchUserResponse> searchUsers(String keyword) {
     List<User> users = userRepository.findByUsernameContainingOrAccountnameContaining(keyword);
 
+    // 팔로워/팔로잉 정보 조회 (검색 결과 전체를 한 번에)
+    List<String> userIds = users.stream().map(User::getId).collect(Collectors.toList());
+    Map<String, List<String>> followingsByUser = followGraph.findFollowingIds(userIds);
+    Map<String, List<String>> followersByUser = followGraph.findFollowerIds(userIds);
+
     return users.stream()
         .map(
-            user -> {
-              // 팔로워/팔로잉 정보 조회
-              List<String> following =
-                  followRepository.findByFollowerId(user.getId()).stream()
-                      .map(follow -> follow.getFollowingId())
-                      .collect(Collectors.toList());
-
-              List<String> followers =
-                  followRepository.findByFollowingId(user.getId()).stream()
-                      .map(follow -> follow.getFollowerId())
-                      .collect(Collectors.toList());
-
-              return UserResponseDTO.SearchUserResponse.builder()
-                  .id(user.getId())
-                  .username(user.getUsername())
-                  .accountname(user.getAccountname())
-                  .following(following)
-                  .follower(followers)
-                  .followerCount(followers.size())
-                  .followingCount(following.size())
-                  .build();
-            })
+            user ->
+                UserResponseDTO.SearchUserResponse.builder()
+                    .id(user.getId())
+                    .username(user.getUsername())
+                    .accountname(user.getAccountname())
+                    .following(followingsByUser.getOrDefault(user.getId(), new ArrayList<>()))
+                    .follower(followersByUser.getOrDefault(user.getId(), new ArrayList<>()))
+                    .followerCount(user.getFollowerCount())
+                    .followingCount(user.getFollowingCount())
+                    .build())
         .collect(Collectors.toList());
   }
 }
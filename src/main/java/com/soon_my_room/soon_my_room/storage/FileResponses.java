@@ -0,0 +1,183 @@
+package com.soon_my_room.soon_my_room.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * 디스크 파일을 HTTP 응답으로 보냅니다.
+ *
+ * <p>ETag(If-None-Match/If-Range), If-Modified-Since와 단일 Range 요청을 지원합니다. Tomcat이 sendfile을 지원하면 파일
+ * 경로만 넘겨 커널이 직접 전송하도록 하고, 그렇지 않으면 {@link FileChannel#transferTo}로 응답 스트림에 복사합니다.
+ */
+final class FileResponses {
+
+  // Tomcat sendfile 요청 속성 (org.apache.tomcat.util.net.Constants 참고)
+  private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+  private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+  private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+  private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+  private FileResponses() {}
+
+  /**
+   * 파일을 응답합니다. (HEAD 요청은 헤더만 응답)
+   *
+   * @param file 보낼 파일
+   * @param size 파일 크기
+   * @param lastModified 수정 시각 (epoch ms)
+   * @param eTag 따옴표를 포함한 강한 ETag
+   * @param contentType 컨텐츠 타입
+   * @param cacheControl Cache-Control 헤더 값
+   * @param sendfile Tomcat sendfile 사용 여부 (서블릿 처리가 끝난 뒤 전송하므로 그때까지 파일이 남아 있어야 함)
+   */
+  static void write(
+      Path file,
+      long size,
+      long lastModified,
+      String eTag,
+      String contentType,
+      String cacheControl,
+      boolean sendfile,
+      HttpServletRequest request,
+      HttpServletResponse response)
+      throws IOException {
+    response.setHeader(HttpHeaders.ETAG, eTag);
+    response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+    response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+    response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+    // 클라이언트가 가진 내용과 같으면 본문 없이 응답
+    if (notModified(request, eTag, lastModified)) {
+      response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+      return;
+    }
+
+    long start = 0;
+    long end = size - 1;
+
+    // If-Range가 현재 ETag와 다르면 Range를 무시하고 전체 응답
+    String range = request.getHeader(HttpHeaders.RANGE);
+    String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+    if (range != null && (ifRange == null || ifRange.equals(eTag))) {
+      long[] bounds = parseRange(range, size);
+      if (bounds == null) {
+        response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+        return;
+      }
+      if (bounds.length == 2) {
+        start = bounds[0];
+        end = bounds[1];
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+      }
+    }
+
+    long length = end - start + 1;
+    response.setContentType(contentType);
+    response.setContentLengthLong(length);
+
+    if (request.getMethod().equals("HEAD") || length == 0) {
+      return;
+    }
+
+    if (sendfile && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+      // 서블릿 처리가 끝난 뒤 Tomcat이 sendfile로 전송 (끝 위치는 포함하지 않음)
+      request.setAttribute(SENDFILE_FILENAME, file.toString());
+      request.setAttribute(SENDFILE_START, start);
+      request.setAttribute(SENDFILE_END, end + 1);
+      return;
+    }
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        WritableByteChannel output = Channels.newChannel(response.getOutputStream())) {
+      long position = start;
+      long remaining = length;
+      while (remaining > 0) {
+        long transferred = channel.transferTo(position, remaining, output);
+        if (transferred <= 0) {
+          break;
+        }
+        position += transferred;
+        remaining -= transferred;
+      }
+    }
+  }
+
+  /**
+   * 조건부 요청에 대해 304로 응답할 수 있는지 확인합니다.
+   *
+   * <p>If-None-Match가 있으면 ETag만 비교하고(약한 비교), 없을 때만 If-Modified-Since를 초 단위로 비교합니다.
+   */
+  private static boolean notModified(HttpServletRequest request, String eTag, long lastModified) {
+    String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+    if (ifNoneMatch != null) {
+      for (String candidate : ifNoneMatch.split(",")) {
+        String value = candidate.trim();
+        if (value.equals("*") || value.equals(eTag) || value.equals("W/" + eTag)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    long ifModifiedSince;
+    try {
+      ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+    return ifModifiedSince >= 0 && lastModified / 1000 <= ifModifiedSince / 1000;
+  }
+
+  /**
+   * 단일 바이트 Range를 해석합니다.
+   *
+   * @return {시작, 끝} (끝 포함), 여러 범위이거나 해석할 수 없으면 빈 배열(전체 응답), 만족할 수 없으면 null
+   */
+  static long[] parseRange(String range, long size) {
+    if (!range.startsWith("bytes=") || range.indexOf(',') >= 0) {
+      return new long[0];
+    }
+
+    String spec = range.substring("bytes=".length()).trim();
+    int dash = spec.indexOf('-');
+    if (dash < 0) {
+      return new long[0];
+    }
+
+    try {
+      String first = spec.substring(0, dash).trim();
+      String last = spec.substring(dash + 1).trim();
+
+      long start;
+      long end;
+      if (first.isEmpty()) {
+        // 마지막 N 바이트 (bytes=-N)
+        long suffix = Long.parseLong(last);
+        if (suffix <= 0) {
+          return null;
+        }
+        start = Math.max(0, size - suffix);
+        end = size - 1;
+      } else {
+        start = Long.parseLong(first);
+        end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+      }
+
+      if (start >= size || start > end) {
+        return null;
+      }
+      return new long[] {start, end};
+    } catch (NumberFormatException e) {
+      return new long[0];
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.soon_my_room.soon_my_room.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Set;
+import java.util.regex.Pattern;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지 프록시로 조회할 수 있는 객체를 정하고 프록시 URL을 서명/검증합니다.
+ *
+ * <p>프록시는 인증 없이 열려 있으므로 허용한 버킷에서 서버가 생성한 키(내용 해시, 업로드 키와 그 변형)만 응답하고, 서버가 응답으로 내보낸 URL인지 서명으로
+ * 확인합니다. 서명에 만료 시각을 넣지 않으므로 같은 객체의 프록시 URL은 항상 같아 브라우저/CDN 캐시가 유지됩니다.
+ */
+@Component
+@Slf4j
+public class ImageProxyAccess {
+
+  // 서버가 생성한 키 (내용 해시 또는 타임스탬프-8자리 UUID[-업로더 서명], 너비별 변형 포함)
+  private static final Pattern GENERATED_KEY =
+      Pattern.compile(
+          "([0-9a-f]{64}|[0-9]+-[0-9a-f]{8}(-[0-9a-f]{16})?)(_w[0-9]+)?\\.[A-Za-z0-9]+");
+
+  private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+  // URL에 붙일 서명 길이 (HMAC 앞 16바이트)
+  private static final int SIGNATURE_BYTES = 16;
+
+  private final Set<String> buckets;
+  private final SecretKeySpec signingKey;
+
+  public ImageProxyAccess(
+      @Value("${app.image.proxy.buckets}") String[] buckets,
+      @Value("${app.image.proxy.signing-secret:}") String signingSecret) {
+    this.buckets = Set.of(buckets);
+
+    byte[] secret;
+    if (signingSecret.isBlank()) {
+      // 재시작하면 이전에 응답한 프록시 URL은 무효가 되므로 여러 인스턴스/운영 환경에서는 설정 필요
+      log.warn("app.image.proxy.signing-secret이 설정되지 않아 임시 서명 키를 사용합니다.");
+      secret = new byte[32];
+      new SecureRandom().nextBytes(secret);
+    } else {
+      secret = signingSecret.getBytes(StandardCharsets.UTF_8);
+    }
+    this.signingKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+  }
+
+  /** 프록시로 응답할 수 있는 버킷 */
+  public Set<String> buckets() {
+    return buckets;
+  }
+
+  /** 프록시로 응답할 수 있는 객체인지 확인 (허용한 버킷의 서버 생성 키) */
+  public boolean allows(String bucketName, String key) {
+    return buckets.contains(bucketName) && key != null && GENERATED_KEY.matcher(key).matches();
+  }
+
+  /** 객체의 프록시 URL 서명 */
+  public String sign(String bucketName, String key) {
+    try {
+      Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+      mac.init(signingKey);
+      byte[] signature = mac.doFinal((bucketName + "/" + key).getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder()
+          .withoutPadding()
+          .encodeToString(Arrays.copyOf(signature, SIGNATURE_BYTES));
+    } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+      throw new IllegalStateException("프록시 URL 서명을 생성할 수 없습니다.", e);
+    }
+  }
+
+  /**
+   * 프록시 URL 서명을 검증합니다.
+   *
+   * @return 서명이 일치하면 true
+   */
+  public boolean verify(String bucketName, String key, String signature) {
+    if (signature == null) {
+      return false;
+    }
+
+    byte[] expected = sign(bucketName, key).getBytes(StandardCharsets.UTF_8);
+    return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,340 @@
+package com.soon_my_room.soon_my_room.storage;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.soon_my_room.soon_my_room.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장소 이미지를 고정 URL로 응답하는 프록시의 디스크 캐시입니다.
+ *
+ * <p>서명 URL은 발급할 때마다 바뀌어 브라우저/CDN 캐시가 잘 맞지 않으므로, {@code /api/image/proxy/{버킷}/{키}}로 응답하고 자주 읽는
+ * 객체는 로컬 디스크에 보관합니다. 전체 크기는 설정한 바이트 수로 제한되며, 넘으면 최근에 덜 읽힌 파일부터 삭제합니다. 같은 객체에 대한 동시 요청은 저장소에서
+ * 한 번만 내려받습니다.
+ *
+ * <p>캐시 파일은 내려받을 때마다 다른 이름({@code {UUID}_{키}})으로 저장하고, 캐시에서 제거되어도 응답 중인 요청이 모두 끝난 뒤에 삭제합니다. 조회할 수
+ * 있는 객체와 URL 서명은 {@link ImageProxyAccess}가 정합니다.
+ */
+@Component
+@Slf4j
+public class ImageProxyCache {
+
+  // 캐시 파일 이름의 UUID 길이
+  private static final int UUID_LENGTH = 36;
+
+  // 내용의 SHA-256으로 만든 키 (원본과 너비별 변형)
+  private static final Pattern CONTENT_ADDRESSED_KEY =
+      Pattern.compile("[0-9a-f]{64}(_w[0-9]+)?\\.[A-Za-z0-9]+");
+
+  // 내용 해시 키는 내용이 절대 바뀌지 않으므로 재검증 없이 캐시
+  private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+  private static final String DEFAULT_CACHE_CONTROL = "public, max-age=86400";
+
+  private final StorageBackend storageBackend;
+  private final ImageProxyAccess access;
+  private final Path directory;
+  private final AsyncCache<String, CachedFile> files;
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public ImageProxyCache(
+      StorageBackend storageBackend,
+      ImageProxyAccess access,
+      MeterRegistry meterRegistry,
+      @Value("${app.image.proxy.cache-dir:./data/image-cache}") String directory,
+      @Value("${app.image.proxy.cache-max-bytes:1073741824}") long maxBytes)
+      throws IOException {
+    this.storageBackend = storageBackend;
+    this.access = access;
+    this.directory = Path.of(directory).toAbsolutePath().normalize();
+    this.files =
+        Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((String reference, CachedFile file) -> weight(file.size()))
+            .removalListener(
+                (String reference, CachedFile file, RemovalCause cause) -> {
+                  if (file != null) {
+                    file.remove();
+                  }
+                })
+            .buildAsync();
+
+    this.hitCounter = requestCounter(meterRegistry, "hit");
+    this.missCounter = requestCounter(meterRegistry, "miss");
+    Gauge.builder("images.proxy.cache.size", this, ImageProxyCache::cacheSize)
+        .description("이미지 프록시 디스크 캐시 크기")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+
+    for (String bucket : access.buckets()) {
+      Files.createDirectories(this.directory.resolve(bucket));
+      loadExisting(bucket);
+    }
+    log.info("이미지 프록시 캐시 경로: {}, 최대 크기: {} bytes", this.directory, maxBytes);
+  }
+
+  /**
+   * 객체를 응답합니다. 캐시에 없으면 저장소에서 내려받아 보관한 뒤 응답합니다.
+   *
+   * @param signature 프록시 URL 서명
+   * @throws AccessDeniedException 서명이 유효하지 않은 경우
+   * @throws ResourceNotFoundException 프록시로 조회할 수 없는 객체이거나 객체가 없는 경우
+   */
+  public void serve(
+      String bucketName,
+      String key,
+      String signature,
+      HttpServletRequest request,
+      HttpServletResponse response)
+      throws IOException {
+    if (!access.verify(bucketName, key, signature)) {
+      throw new AccessDeniedException("유효하지 않은 이미지 URL입니다.");
+    }
+    if (!access.allows(bucketName, key)) {
+      throw new ResourceNotFoundException("파일을 찾을 수 없습니다: " + bucketName + "/" + key);
+    }
+
+    CachedFile file = acquire(bucketName, key);
+    try {
+      // 응답이 끝나기 전에 파일이 삭제되지 않도록 sendfile(서블릿 처리 후 전송)은 사용하지 않음
+      boolean immutable = CONTENT_ADDRESSED_KEY.matcher(key).matches();
+      FileResponses.write(
+          file.path(),
+          file.size(),
+          file.lastModified(),
+          "\"" + key + "\"",
+          file.contentType(),
+          immutable ? IMMUTABLE_CACHE_CONTROL : DEFAULT_CACHE_CONTROL,
+          false,
+          request,
+          response);
+    } finally {
+      file.release();
+    }
+  }
+
+  /**
+   * 캐시된 파일을 응답에 사용하도록 빌립니다. 캐시에 없으면 내려받습니다.
+   *
+   * <p>빌린 사이에 캐시에서 제거되어 이미 삭제된 파일이면 다시 조회합니다. 내려받은 요청은 빌린 상태로 파일을 받으므로 반복은 끝납니다.
+   */
+  private CachedFile acquire(String bucketName, String key) throws IOException {
+    String reference = bucketName + "/" + key;
+    while (true) {
+      // 내려받기는 캐시 내부 잠금 밖에서 요청 스레드가 직접 수행 (같은 객체의 동시 요청은 결과를 기다림)
+      CompletableFuture<CachedFile> downloading = new CompletableFuture<>();
+      CompletableFuture<CachedFile> cached = files.asMap().putIfAbsent(reference, downloading);
+
+      if (cached == null) {
+        missCounter.increment();
+        try {
+          CachedFile file = download(bucketName, key);
+          downloading.complete(file);
+          return file;
+        } catch (IOException | RuntimeException e) {
+          files.asMap().remove(reference, downloading);
+          downloading.completeExceptionally(e);
+          throw e;
+        }
+      }
+
+      CachedFile file = join(cached);
+      if (file.acquire()) {
+        hitCounter.increment();
+        return file;
+      }
+    }
+  }
+
+  /** 저장소에서 임시 파일로 내려받은 뒤 이번 내려받기만의 캐시 경로로 원자적으로 이동합니다. (빌린 상태로 반환) */
+  private CachedFile download(String bucketName, String key) throws IOException {
+    String id = UUID.randomUUID().toString();
+    Path target = directory.resolve(bucketName).resolve(id + "_" + key);
+    Path temp = target.resolveSibling("." + id + ".tmp");
+
+    try {
+      try (InputStream content = storageBackend.get(bucketName, key)) {
+        Files.copy(content, temp);
+      }
+
+      try {
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, target);
+      }
+      return cachedFile(key, target, Files.readAttributes(target, BasicFileAttributes.class), 1);
+    } finally {
+      deleteQuietly(temp);
+    }
+  }
+
+  /** 재시작 전에 받아 둔 파일을 캐시에 다시 등록합니다. (남은 임시 파일과 조회할 수 없는 키의 파일은 삭제) */
+  private void loadExisting(String bucket) throws IOException {
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory.resolve(bucket))) {
+      for (Path path : stream) {
+        String key = cachedKey(path.getFileName().toString());
+        if (key == null || !access.allows(bucket, key)) {
+          deleteQuietly(path);
+          continue;
+        }
+
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        if (attributes.isRegularFile()) {
+          CachedFile file = cachedFile(key, path, attributes, 0);
+          files.put(bucket + "/" + key, CompletableFuture.completedFuture(file));
+        }
+      }
+    }
+  }
+
+  /** 캐시 파일 이름({@code {UUID}_{키}})에서 키 추출, 형식이 다르면 null */
+  private static String cachedKey(String fileName) {
+    if (fileName.length() <= UUID_LENGTH + 1 || fileName.charAt(UUID_LENGTH) != '_') {
+      return null;
+    }
+
+    try {
+      UUID.fromString(fileName.substring(0, UUID_LENGTH));
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+    return fileName.substring(UUID_LENGTH + 1);
+  }
+
+  private static CachedFile cachedFile(
+      String key, Path path, BasicFileAttributes attributes, int leases) {
+    MediaType contentType =
+        MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM);
+    return new CachedFile(
+        path,
+        attributes.size(),
+        attributes.lastModifiedTime().toMillis(),
+        contentType.toString(),
+        leases);
+  }
+
+  /** 다른 요청이 내려받는 중이면 끝날 때까지 기다림 */
+  private static CachedFile join(CompletableFuture<CachedFile> future) throws IOException {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof IOException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /** 캐시된 파일 크기 합계 */
+  private double cacheSize() {
+    return files.synchronous().policy().eviction().map(e -> e.weightedSize().orElse(0)).orElse(0L);
+  }
+
+  private static int weight(long size) {
+    return (int) Math.min(Math.max(size, 1), Integer.MAX_VALUE);
+  }
+
+  private static void deleteQuietly(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      log.warn("캐시 파일을 삭제할 수 없습니다: {}", path, e);
+    }
+  }
+
+  private Counter requestCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("images.proxy.requests")
+        .description("이미지 프록시 요청 수 (디스크 캐시 적중 여부별)")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  /** 캐시된 파일 (응답 중인 요청 수를 세어, 캐시에서 제거된 뒤 마지막 응답이 끝나면 삭제) */
+  private static final class CachedFile {
+
+    private final Path path;
+    private final long size;
+    private final long lastModified;
+    private final String contentType;
+    private int leases;
+    private boolean removed;
+    private boolean deleted;
+
+    private CachedFile(Path path, long size, long lastModified, String contentType, int leases) {
+      this.path = path;
+      this.size = size;
+      this.lastModified = lastModified;
+      this.contentType = contentType;
+      this.leases = leases;
+    }
+
+    Path path() {
+      return path;
+    }
+
+    long size() {
+      return size;
+    }
+
+    long lastModified() {
+      return lastModified;
+    }
+
+    String contentType() {
+      return contentType;
+    }
+
+    /** 응답에 사용하기 위해 빌림, 이미 삭제된 파일이면 false */
+    synchronized boolean acquire() {
+      if (deleted) {
+        return false;
+      }
+      leases++;
+      return true;
+    }
+
+    synchronized void release() {
+      leases--;
+      deleteIfUnused();
+    }
+
+    /** 캐시에서 제거됨 (응답 중인 요청이 없으면 바로 삭제) */
+    synchronized void remove() {
+      removed = true;
+      deleteIfUnused();
+    }
+
+    private void deleteIfUnused() {
+      if (removed && leases == 0 && !deleted) {
+        deleted = true;
+        deleteQuietly(path);
+      }
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package com.soon_my_room.soon_my_room.storage;
+
+import com.soon_my_room.soon_my_room.exception.ResourceNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 저장소 객체를 서명된 URL로 읽고 쓰는 HTTP 처리를 담당합니다.
+ *
+ * <p>읽기 응답(조건부 요청, Range, sendfile)은 {@link FileResponses}가 처리합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.storage.backend", havingValue = "local")
+@RequiredArgsConstructor
+public class LocalFileServer {
+
+  // 저장된 키의 내용은 바뀌지 않으므로 URL이 유효한 동안 캐시
+  private static final String CACHE_CONTROL = "private, max-age=31536000, immutable";
+
+  private final LocalStorageBackend storageBackend;
+
+  /**
+   * 객체를 응답합니다. (HEAD 요청은 헤더만 응답)
+   *
+   * @throws AccessDeniedException 서명이 유효하지 않거나 만료된 경우
+   * @throws ResourceNotFoundException 객체가 없는 경우
+   */
+  public void serve(
+      String bucketName,
+      String key,
+      long expires,
+      String signature,
+      HttpServletRequest request,
+      HttpServletResponse response)
+      throws IOException {
+    if (!storageBackend.verify("GET", bucketName, key, expires, signature, "", -1)) {
+      throw new AccessDeniedException("유효하지 않거나 만료된 이미지 URL입니다.");
+    }
+
+    Path file = storageBackend.resolve(bucketName, key);
+    BasicFileAttributes attributes;
+    try {
+      attributes = storageBackend.attributes(bucketName, key);
+    } catch (NoSuchFileException e) {
+      throw new ResourceNotFoundException("파일을 찾을 수 없습니다: " + bucketName + "/" + key);
+    }
+
+    FileResponses.write(
+        file,
+        attributes.size(),
+        attributes.lastModifiedTime().toMillis(),
+        eTag(attributes),
+        storageBackend.contentType(key).toString(),
+        CACHE_CONTROL,
+        true,
+        request,
+        response);
+  }
+
+  /**
+   * 서명된 직접 업로드 요청의 본문을 저장합니다.
+   *
+   * @throws AccessDeniedException 서명이 유효하지 않거나, 서명한 컨텐츠 타입/크기와 다른 경우
+   */
+  public void receive(
+      String bucketName, String key, long expires, String signature, HttpServletRequest request)
+      throws IOException {
+    String contentType = request.getContentType() != null ? request.getContentType() : "";
+    long size = request.getContentLengthLong();
+    if (!storageBackend.verify("PUT", bucketName, key, expires, signature, contentType, size)) {
+      throw new AccessDeniedException("유효하지 않거나 만료된 업로드 URL입니다.");
+    }
+
+    try (InputStream body = request.getInputStream()) {
+      storageBackend.put(bucketName, key, body, size, contentType, null);
+    }
+  }
+
+  /** 파일 크기와 수정 시각으로 만든 ETag */
+  private String eTag(BasicFileAttributes attributes) {
+    return "\""
+        + Long.toHexString(attributes.size())
+        + "-"
+        + Long.toHexString(attributes.lastModifiedTime().toMillis())
+        + "\"";
+  }
+}
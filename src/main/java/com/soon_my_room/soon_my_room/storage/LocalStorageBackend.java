@@ -0,0 +1,405 @@
+package com.soon_my_room.soon_my_room.storage;
+
+import com.soon_my_room.soon_my_room.exception.ResourceNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 디스크 저장소 (온프레미스 배포, AWS 없이 실행하는 부하 테스트용)
+ *
+ * <p>객체는 {@code {root}/{버킷}/{키}} 파일로 저장하며, 임시 파일에 채널로 쓴 뒤 원자적으로 이동하므로 읽는 쪽에서 일부만 쓰인 파일을 보지
+ * 않습니다. 읽기/직접 업로드 URL은 HMAC으로 서명한 {@code /api/image/{버킷}/{키}} 주소이며, {@link LocalFileServer}가 검증 후
+ * 응답합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.storage.backend", havingValue = "local")
+@Slf4j
+public class LocalStorageBackend implements StorageBackend {
+
+  // 파일 경로로 사용할 수 있는 키 형식 (경로 이동 문자 불가)
+  private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]*");
+
+  private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+  // 진행 중인 멀티파트 업로드의 파트를 저장하는 디렉터리 (버킷 이름으로 쓸 수 없는 이름)
+  private static final String MULTIPART_DIRECTORY = ".multipart";
+
+  private final Path root;
+  private final String baseUrl;
+  private final Set<String> buckets;
+  private final SecretKeySpec signingKey;
+
+  public LocalStorageBackend(
+      @Value("${app.storage.local.root:./data/storage}") String root,
+      @Value("${app.storage.local.base-url:}") String baseUrl,
+      @Value("${app.storage.local.signing-secret:}") String signingSecret,
+      @Value("${aws.s3.bucket.profiles}") String profilesBucket,
+      @Value("${aws.s3.bucket.posts}") String postsBucket,
+      @Value("${aws.s3.bucket.products}") String productsBucket,
+      @Value("${aws.s3.bucket.default}") String defaultBucket)
+      throws IOException {
+    this.root = Path.of(root).toAbsolutePath().normalize();
+    this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    this.buckets = Set.of(profilesBucket, postsBucket, productsBucket, defaultBucket);
+
+    byte[] secret;
+    if (signingSecret.isBlank()) {
+      // 재시작하면 이전에 발급한 URL은 무효가 되므로 여러 인스턴스/운영 환경에서는 설정 필요
+      log.warn("app.storage.local.signing-secret이 설정되지 않아 임시 서명 키를 사용합니다.");
+      secret = new byte[32];
+      new SecureRandom().nextBytes(secret);
+    } else {
+      secret = signingSecret.getBytes(StandardCharsets.UTF_8);
+    }
+    this.signingKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+
+    for (String bucket : buckets) {
+      Files.createDirectories(this.root.resolve(bucket));
+    }
+    log.info("로컬 저장소 경로: {}", this.root);
+  }
+
+  /**
+   * 임시 파일에 채널로 쓴 뒤 최종 경로로 원자적으로 이동합니다.
+   *
+   * <p>SHA-256이 주어지면 쓰는 동안 계산한 값과 비교하여 다르면 저장하지 않습니다.
+   */
+  @Override
+  public void put(
+      String bucketName,
+      String key,
+      InputStream content,
+      long size,
+      String contentType,
+      byte[] sha256)
+      throws IOException {
+    Path target = resolve(bucketName, key);
+    Path temp = target.resolveSibling("." + key + "." + UUID.randomUUID() + ".tmp");
+
+    try {
+      write(temp, content, size, sha256);
+      moveAtomically(temp, target);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  @Override
+  public Optional<ObjectMetadata> head(String bucketName, String key) {
+    try {
+      BasicFileAttributes attributes = attributes(bucketName, key);
+      return Optional.of(new ObjectMetadata(attributes.size(), contentType(key).toString()));
+    } catch (NoSuchFileException e) {
+      return Optional.empty();
+    } catch (IOException e) {
+      throw new IllegalStateException("파일 정보를 읽을 수 없습니다: " + bucketName + "/" + key, e);
+    }
+  }
+
+  @Override
+  public InputStream get(String bucketName, String key) throws IOException {
+    try {
+      return Files.newInputStream(resolve(bucketName, key));
+    } catch (NoSuchFileException e) {
+      throw new ResourceNotFoundException("파일을 찾을 수 없습니다: " + bucketName + "/" + key);
+    }
+  }
+
+  @Override
+  public void delete(String bucketName, String key) {
+    try {
+      Files.deleteIfExists(resolve(bucketName, key));
+    } catch (IOException e) {
+      throw new IllegalStateException("파일을 삭제할 수 없습니다: " + bucketName + "/" + key, e);
+    }
+  }
+
+  @Override
+  public String signedGetUrl(String bucketName, String key, Duration ttl) {
+    long expires = Instant.now().plus(ttl).getEpochSecond();
+    return objectUrl(bucketName, key)
+        + "?expires="
+        + expires
+        + "&signature="
+        + sign("GET", bucketName, key, expires, "", -1);
+  }
+
+  @Override
+  public SignedUpload signedPutUrl(
+      String bucketName, String key, String contentType, long size, Duration ttl) {
+    Instant expiresAt = Instant.now().plus(ttl);
+    long expires = expiresAt.getEpochSecond();
+    String url =
+        objectUrl(bucketName, key)
+            + "?expires="
+            + expires
+            + "&signature="
+            + sign("PUT", bucketName, key, expires, contentType, size);
+
+    return new SignedUpload(url, Map.of("Content-Type", contentType), expiresAt);
+  }
+
+  /** 파트는 {@code {root}/.multipart/{업로드 ID}/{파트 번호}.part} 파일로 저장합니다. */
+  @Override
+  public String createMultipartUpload(String bucketName, String key, String contentType) {
+    resolve(bucketName, key);
+
+    String uploadId = UUID.randomUUID().toString();
+    try {
+      Files.createDirectories(root.resolve(MULTIPART_DIRECTORY).resolve(uploadId));
+    } catch (IOException e) {
+      throw new IllegalStateException("업로드를 시작할 수 없습니다: " + bucketName + "/" + key, e);
+    }
+    return uploadId;
+  }
+
+  /** 파트 ETag는 파트 크기(16진수)이며, 완료할 때 파일 크기와 비교합니다. */
+  @Override
+  public String uploadPart(
+      String bucketName,
+      String key,
+      String uploadId,
+      int partNumber,
+      InputStream content,
+      long size)
+      throws IOException {
+    Path directory = multipartDirectory(uploadId);
+    Path temp = directory.resolve("." + partNumber + "." + UUID.randomUUID() + ".tmp");
+
+    try {
+      write(temp, content, size, null);
+      moveAtomically(temp, directory.resolve(partNumber + ".part"));
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+    return Long.toHexString(size);
+  }
+
+  /** 파트 파일을 순서대로 채널 간 전송으로 이어 붙인 뒤 최종 경로로 원자적으로 이동합니다. */
+  @Override
+  public void completeMultipartUpload(
+      String bucketName, String key, String uploadId, List<String> partETags) throws IOException {
+    Path directory = multipartDirectory(uploadId);
+    Path target = resolve(bucketName, key);
+    Path temp = target.resolveSibling("." + key + "." + UUID.randomUUID() + ".tmp");
+
+    try {
+      try (FileChannel output =
+          FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+        for (int i = 0; i < partETags.size(); i++) {
+          try (FileChannel input =
+              FileChannel.open(directory.resolve((i + 1) + ".part"), StandardOpenOption.READ)) {
+            long size = input.size();
+            if (!Long.toHexString(size).equals(partETags.get(i))) {
+              throw new IOException("파트 내용이 일치하지 않습니다: " + (i + 1));
+            }
+
+            long position = 0;
+            while (position < size) {
+              long transferred = input.transferTo(position, size - position, output);
+              if (transferred <= 0) {
+                break;
+              }
+              position += transferred;
+            }
+          }
+        }
+        output.force(false);
+      }
+
+      moveAtomically(temp, target);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+
+    abortMultipartUpload(bucketName, key, uploadId);
+  }
+
+  @Override
+  public void abortMultipartUpload(String bucketName, String key, String uploadId) {
+    Path directory;
+    try {
+      directory = multipartDirectory(uploadId);
+    } catch (ResourceNotFoundException e) {
+      return;
+    }
+
+    try (DirectoryStream<Path> parts = Files.newDirectoryStream(directory)) {
+      for (Path part : parts) {
+        Files.deleteIfExists(part);
+      }
+      Files.deleteIfExists(directory);
+    } catch (NoSuchFileException e) {
+      // 이미 정리된 업로드
+    } catch (IOException e) {
+      throw new IllegalStateException("업로드 파트를 삭제할 수 없습니다: " + uploadId, e);
+    }
+  }
+
+  /**
+   * 서명된 URL의 서명과 유효 시간을 검증합니다.
+   *
+   * @param method HTTP 메서드 (GET 또는 PUT)
+   * @param contentType PUT 요청의 컨텐츠 타입 (GET은 빈 문자열)
+   * @param size PUT 요청의 크기 (GET은 -1)
+   * @return 서명이 일치하고 만료되지 않았으면 true
+   */
+  public boolean verify(
+      String method,
+      String bucketName,
+      String key,
+      long expires,
+      String signature,
+      String contentType,
+      long size) {
+    if (signature == null || expires < Instant.now().getEpochSecond()) {
+      return false;
+    }
+
+    byte[] expected =
+        sign(method, bucketName, key, expires, contentType, size).getBytes(StandardCharsets.UTF_8);
+    return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 객체 파일 경로를 반환합니다.
+   *
+   * @throws ResourceNotFoundException 버킷이나 키 형식이 유효하지 않은 경우
+   */
+  public Path resolve(String bucketName, String key) {
+    if (!buckets.contains(bucketName) || key == null || !KEY_PATTERN.matcher(key).matches()) {
+      throw new ResourceNotFoundException("파일을 찾을 수 없습니다: " + bucketName + "/" + key);
+    }
+    return root.resolve(bucketName).resolve(key);
+  }
+
+  /** 객체 파일의 크기/수정 시각 */
+  public BasicFileAttributes attributes(String bucketName, String key) throws IOException {
+    return Files.readAttributes(resolve(bucketName, key), BasicFileAttributes.class);
+  }
+
+  /** 키의 확장자로 판단한 컨텐츠 타입 */
+  public MediaType contentType(String key) {
+    return MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM);
+  }
+
+  /**
+   * 채널로 파일을 씁니다.
+   *
+   * <p>SHA-256이 주어지면 쓰는 동안 계산한 값과 비교하여 다르면 예외를 던집니다.
+   */
+  private void write(Path file, InputStream content, long size, byte[] sha256) throws IOException {
+    MessageDigest digest = sha256 != null ? newSha256() : null;
+    InputStream source = digest != null ? new DigestInputStream(content, digest) : content;
+
+    try (FileChannel channel =
+            FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        ReadableByteChannel input = Channels.newChannel(source)) {
+      long position = 0;
+      while (position < size) {
+        long transferred = channel.transferFrom(input, position, size - position);
+        if (transferred <= 0) {
+          break;
+        }
+        position += transferred;
+      }
+
+      if (position != size) {
+        throw new IOException("업로드 크기가 일치하지 않습니다: " + position + " / " + size);
+      }
+      channel.force(false);
+    }
+
+    if (digest != null && !MessageDigest.isEqual(digest.digest(), sha256)) {
+      throw new IOException("업로드 내용의 SHA-256이 일치하지 않습니다.");
+    }
+  }
+
+  private static void moveAtomically(Path source, Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  /** 진행 중인 업로드의 파트 디렉터리 */
+  private Path multipartDirectory(String uploadId) {
+    if (uploadId == null || !KEY_PATTERN.matcher(uploadId).matches()) {
+      throw new ResourceNotFoundException("업로드를 찾을 수 없습니다: " + uploadId);
+    }
+
+    Path directory = root.resolve(MULTIPART_DIRECTORY).resolve(uploadId);
+    if (!Files.isDirectory(directory)) {
+      throw new ResourceNotFoundException("업로드를 찾을 수 없습니다: " + uploadId);
+    }
+    return directory;
+  }
+
+  private String objectUrl(String bucketName, String key) {
+    return baseUrl + "/api/image/" + bucketName + "/" + key;
+  }
+
+  private String sign(
+      String method, String bucketName, String key, long expires, String contentType, long size) {
+    String payload =
+        String.join(
+            "\n",
+            method,
+            bucketName + "/" + key,
+            String.valueOf(expires),
+            contentType,
+            String.valueOf(size));
+
+    try {
+      Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+      mac.init(signingKey);
+      byte[] signature = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+      throw new IllegalStateException("URL 서명을 생성할 수 없습니다.", e);
+    }
+  }
+
+  private static MessageDigest newSha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
+  }
+}
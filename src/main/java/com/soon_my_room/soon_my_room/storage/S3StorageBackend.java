@@ -0,0 +1,298 @@
+package com.soon_my_room.soon_my_room.storage;
+
+import com.soon_my_room.soon_my_room.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+/**
+ * AWS S3 저장소 (기본값)
+ *
+ * <p>임계값 이하의 객체는 길이를 지정한 스트림으로 한 번에, 그보다 큰 객체는 파트 크기 버퍼 하나를 재사용하는 멀티파트 업로드로 저장합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.storage.backend", havingValue = "s3", matchIfMissing = true)
+public class S3StorageBackend implements StorageBackend {
+
+  // 저장된 키의 내용은 바뀌지 않으므로 오래 캐시
+  private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+  private final S3Client s3Client;
+  private final S3Presigner s3Presigner;
+
+  // 이 크기를 넘는 객체는 멀티파트 업로드로 전송 (그 이하는 스트림으로 한 번에 전송)
+  private final long multipartThreshold;
+
+  // 멀티파트 업로드 파트 크기 (업로드당 힙 버퍼 상한, S3 최소 파트 크기는 5MB)
+  private final int partSize;
+
+  // 현재 업로드 중인 파트 버퍼 크기 합계
+  private final AtomicLong bufferedBytes = new AtomicLong();
+
+  // 업로드당 최대 힙 버퍼 크기
+  private final DistributionSummary uploadBufferPeak;
+
+  public S3StorageBackend(
+      S3Client s3Client,
+      S3Presigner s3Presigner,
+      MeterRegistry meterRegistry,
+      @Value("${app.upload.multipart-threshold-bytes:5242880}") long multipartThreshold,
+      @Value("${app.upload.part-size-bytes:5242880}") int partSize) {
+    this.s3Client = s3Client;
+    this.s3Presigner = s3Presigner;
+    this.multipartThreshold = multipartThreshold;
+    this.partSize = partSize;
+
+    Gauge.builder("storage.upload.buffered.bytes", bufferedBytes, AtomicLong::get)
+        .description("업로드 중인 파트 버퍼 크기 합계")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    this.uploadBufferPeak =
+        DistributionSummary.builder("storage.upload.buffer.peak")
+            .description("업로드당 최대 힙 버퍼 크기")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+  }
+
+  @Override
+  public void put(
+      String bucketName,
+      String key,
+      InputStream content,
+      long size,
+      String contentType,
+      byte[] sha256)
+      throws IOException {
+    if (size > multipartThreshold) {
+      putMultipart(bucketName, key, content, contentType);
+      return;
+    }
+
+    // 임시 파일 등에서 바로 읽으므로 내용 크기만큼의 버퍼를 만들지 않음
+    PutObjectRequest.Builder putObjectRequest =
+        PutObjectRequest.builder()
+            .bucket(bucketName)
+            .key(key)
+            .contentType(contentType)
+            .cacheControl(CACHE_CONTROL);
+    if (sha256 != null) {
+      // S3가 내용이 SHA-256과 일치하는지 검증
+      putObjectRequest.checksumSHA256(Base64.getEncoder().encodeToString(sha256));
+    }
+
+    s3Client.putObject(putObjectRequest.build(), RequestBody.fromInputStream(content, size));
+    uploadBufferPeak.record(0);
+  }
+
+  /**
+   * 파트 크기 버퍼 하나로 나누어 멀티파트 업로드합니다.
+   *
+   * <p>버퍼를 파트마다 재사용하므로 업로드당 힙 사용량은 파트 크기로 제한되며, 실패 시 업로드를 중단하여 남은 파트를 정리합니다.
+   */
+  private void putMultipart(String bucketName, String key, InputStream content, String contentType)
+      throws IOException {
+    String uploadId = createMultipartUpload(bucketName, key, contentType);
+
+    byte[] buffer = new byte[partSize];
+    bufferedBytes.addAndGet(partSize);
+    uploadBufferPeak.record(partSize);
+
+    try {
+      List<String> partETags = new ArrayList<>();
+      int read;
+      while ((read = content.readNBytes(buffer, 0, partSize)) > 0) {
+        // 버퍼를 복사하지 않도록 스트림으로 감싸서 전송
+        partETags.add(
+            uploadPart(
+                bucketName,
+                key,
+                uploadId,
+                partETags.size() + 1,
+                new ByteArrayInputStream(buffer, 0, read),
+                read));
+      }
+
+      completeMultipartUpload(bucketName, key, uploadId, partETags);
+    } catch (IOException | RuntimeException e) {
+      abortMultipartUpload(bucketName, key, uploadId);
+      throw e;
+    } finally {
+      bufferedBytes.addAndGet(-partSize);
+    }
+  }
+
+  @Override
+  public String createMultipartUpload(String bucketName, String key, String contentType) {
+    return s3Client
+        .createMultipartUpload(
+            CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .cacheControl(CACHE_CONTROL)
+                .build())
+        .uploadId();
+  }
+
+  @Override
+  public String uploadPart(
+      String bucketName,
+      String key,
+      String uploadId,
+      int partNumber,
+      InputStream content,
+      long size) {
+    UploadPartRequest uploadPartRequest =
+        UploadPartRequest.builder()
+            .bucket(bucketName)
+            .key(key)
+            .uploadId(uploadId)
+            .partNumber(partNumber)
+            .contentLength(size)
+            .build();
+
+    return s3Client
+        .uploadPart(uploadPartRequest, RequestBody.fromInputStream(content, size))
+        .eTag();
+  }
+
+  @Override
+  public void completeMultipartUpload(
+      String bucketName, String key, String uploadId, List<String> partETags) {
+    List<CompletedPart> completedParts = new ArrayList<>();
+    for (int i = 0; i < partETags.size(); i++) {
+      completedParts.add(CompletedPart.builder().partNumber(i + 1).eTag(partETags.get(i)).build());
+    }
+
+    s3Client.completeMultipartUpload(
+        CompleteMultipartUploadRequest.builder()
+            .bucket(bucketName)
+            .key(key)
+            .uploadId(uploadId)
+            .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+            .build());
+  }
+
+  @Override
+  public void abortMultipartUpload(String bucketName, String key, String uploadId) {
+    try {
+      s3Client.abortMultipartUpload(
+          AbortMultipartUploadRequest.builder()
+              .bucket(bucketName)
+              .key(key)
+              .uploadId(uploadId)
+              .build());
+    } catch (S3Exception e) {
+      // 이미 완료/중단된 업로드
+      if (e.statusCode() != 404) {
+        throw e;
+      }
+    }
+  }
+
+  @Override
+  public Optional<ObjectMetadata> head(String bucketName, String key) {
+    try {
+      HeadObjectResponse head =
+          s3Client.headObject(HeadObjectRequest.builder().bucket(bucketName).key(key).build());
+      return Optional.of(new ObjectMetadata(head.contentLength(), head.contentType()));
+    } catch (S3Exception e) {
+      if (e.statusCode() == 404) {
+        return Optional.empty();
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public InputStream get(String bucketName, String key) {
+    try {
+      return s3Client.getObject(GetObjectRequest.builder().bucket(bucketName).key(key).build());
+    } catch (S3Exception e) {
+      if (e.statusCode() == 404) {
+        throw new ResourceNotFoundException("파일을 찾을 수 없습니다: " + bucketName + "/" + key);
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public void delete(String bucketName, String key) {
+    s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucketName).key(key).build());
+  }
+
+  @Override
+  public String signedGetUrl(String bucketName, String key, Duration ttl) {
+    GetObjectPresignRequest presignRequest =
+        GetObjectPresignRequest.builder()
+            .signatureDuration(ttl)
+            .getObjectRequest(GetObjectRequest.builder().bucket(bucketName).key(key).build())
+            .build();
+
+    return s3Presigner.presignGetObject(presignRequest).url().toString();
+  }
+
+  @Override
+  public SignedUpload signedPutUrl(
+      String bucketName, String key, String contentType, long size, Duration ttl) {
+    PutObjectRequest putObjectRequest =
+        PutObjectRequest.builder()
+            .bucket(bucketName)
+            .key(key)
+            .contentType(contentType)
+            .contentLength(size)
+            .build();
+
+    PresignedPutObjectRequest presigned =
+        s3Presigner.presignPutObject(
+            PutObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .putObjectRequest(putObjectRequest)
+                .build());
+
+    // 클라이언트가 함께 보내야 하는 서명된 헤더 (host는 클라이언트가 자동으로 설정)
+    Map<String, String> headers = new LinkedHashMap<>();
+    presigned
+        .signedHeaders()
+        .forEach(
+            (name, values) -> {
+              if (!name.equalsIgnoreCase("host")) {
+                headers.put(name, String.join(",", values));
+              }
+            });
+
+    return new SignedUpload(presigned.url().toString(), headers, presigned.expiration());
+  }
+}
@@ -0,0 +1,112 @@
+package com.soon_my_room.soon_my_room.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 이미지 객체 저장소입니다.
+ *
+ * <p>{@code app.storage.backend} 설정에 따라 S3({@link S3StorageBackend}) 또는 로컬 디스크({@link
+ * LocalStorageBackend}) 구현이 사용됩니다. 객체는 버킷과 키로 식별하며, 한 번 저장한 키의 내용은 바뀌지 않습니다.
+ */
+public interface StorageBackend {
+
+  /**
+   * 객체를 저장합니다.
+   *
+   * @param bucketName 버킷 이름
+   * @param key 객체 키
+   * @param content 저장할 내용 (size 바이트만큼 읽음)
+   * @param size 내용 크기
+   * @param contentType 컨텐츠 타입
+   * @param sha256 내용의 SHA-256 (있으면 저장소가 내용과 일치하는지 검증, 없으면 null)
+   */
+  void put(
+      String bucketName,
+      String key,
+      InputStream content,
+      long size,
+      String contentType,
+      byte[] sha256)
+      throws IOException;
+
+  /**
+   * 객체 메타데이터를 조회합니다.
+   *
+   * @return 객체 메타데이터, 객체가 없으면 빈 값
+   */
+  Optional<ObjectMetadata> head(String bucketName, String key);
+
+  /**
+   * 객체 내용을 읽습니다. (호출한 쪽에서 스트림을 닫아야 함)
+   *
+   * @throws com.soon_my_room.soon_my_room.exception.ResourceNotFoundException 객체가 없는 경우
+   */
+  InputStream get(String bucketName, String key) throws IOException;
+
+  /** 객체를 삭제합니다. (객체가 없으면 무시) */
+  void delete(String bucketName, String key);
+
+  /**
+   * 객체를 읽을 수 있는 서명된 URL을 생성합니다.
+   *
+   * @param ttl URL 유효 시간
+   */
+  String signedGetUrl(String bucketName, String key, Duration ttl);
+
+  /**
+   * 클라이언트가 객체를 직접 업로드할 수 있는 서명된 PUT URL을 생성합니다.
+   *
+   * @param contentType 업로드할 파일의 컨텐츠 타입 (서명에 포함)
+   * @param size 업로드할 파일 크기 (서명에 포함)
+   * @param ttl URL 유효 시간
+   */
+  SignedUpload signedPutUrl(
+      String bucketName, String key, String contentType, long size, Duration ttl);
+
+  /**
+   * 여러 파트로 나누어 저장하는 업로드를 시작합니다.
+   *
+   * @param contentType 완성될 객체의 컨텐츠 타입
+   * @return 저장소의 업로드 ID
+   */
+  String createMultipartUpload(String bucketName, String key, String contentType);
+
+  /**
+   * 파트 하나를 저장합니다. 같은 파트 번호로 다시 저장하면 이전 내용을 대체합니다.
+   *
+   * @param partNumber 파트 번호 (1부터 시작, 마지막 파트를 제외하고 5MB 이상)
+   * @param content 파트 내용 (size 바이트만큼 읽음)
+   * @return 완료할 때 전달할 파트 ETag
+   */
+  String uploadPart(
+      String bucketName,
+      String key,
+      String uploadId,
+      int partNumber,
+      InputStream content,
+      long size)
+      throws IOException;
+
+  /**
+   * 저장한 파트를 순서대로 이어 객체를 완성합니다.
+   *
+   * @param partETags 파트 번호 순서의 ETag 목록
+   */
+  void completeMultipartUpload(
+      String bucketName, String key, String uploadId, List<String> partETags) throws IOException;
+
+  /** 업로드를 중단하고 저장한 파트를 삭제합니다. (이미 끝났거나 없는 업로드는 무시) */
+  void abortMultipartUpload(String bucketName, String key, String uploadId);
+
+  /** 객체 메타데이터 */
+  record ObjectMetadata(long size, String contentType) {}
+
+  /** 직접 업로드 URL과 클라이언트가 함께 보내야 하는 헤더 */
+  record SignedUpload(String url, Map<String, String> headers, Instant expiresAt) {}
+}
@@ -0,0 +1,74 @@
+-- 기준 스키마 (Flyway 도입 전 ddl-auto=update로 만들어진 기존 스키마와 같은 구조)
+-- 기존 DB는 baseline-on-migrate로 이 버전을 적용된 것으로 기록하고 건너뛰므로, 이후 추가된 테이블/컬럼은 V2부터 추가합니다.
+-- 제약 조건 이름은 기존 DB(Hibernate가 생성한 이름)와 다를 수 있으므로 이후 버전에서 이름으로 참조하지 않습니다.
+
+CREATE TABLE users (
+    id            VARCHAR(255) NOT NULL,
+    username      VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) NOT NULL,
+    password      TEXT         NOT NULL,
+    accountname   VARCHAR(255) NOT NULL,
+    intro         TEXT         NOT NULL,
+    image         TEXT         NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6),
+    refresh_token TEXT,
+    active        BOOLEAN      NOT NULL,
+    role          SMALLINT CHECK (role BETWEEN 0 AND 1),
+    CONSTRAINT users_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_accountname UNIQUE (accountname)
+);
+
+CREATE TABLE posts (
+    id         VARCHAR(255) NOT NULL,
+    content    TEXT,
+    image      TEXT         NOT NULL,
+    author_id  VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    CONSTRAINT posts_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_posts_author FOREIGN KEY (author_id) REFERENCES users (id)
+);
+
+CREATE TABLE comments (
+    id         VARCHAR(255) NOT NULL,
+    post_id    VARCHAR(255) NOT NULL,
+    author_id  VARCHAR(255) NOT NULL,
+    content    TEXT         NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT comments_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES posts (id),
+    CONSTRAINT fk_comments_author FOREIGN KEY (author_id) REFERENCES users (id)
+);
+
+CREATE TABLE hearts (
+    post_id    VARCHAR(255) NOT NULL,
+    user_id    VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT hearts_pkey PRIMARY KEY (post_id, user_id),
+    CONSTRAINT fk_hearts_post FOREIGN KEY (post_id) REFERENCES posts (id),
+    CONSTRAINT fk_hearts_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE follows (
+    follower_id  VARCHAR(255) NOT NULL,
+    following_id VARCHAR(255) NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT follows_pkey PRIMARY KEY (follower_id, following_id),
+    CONSTRAINT fk_follows_follower FOREIGN KEY (follower_id) REFERENCES users (id),
+    CONSTRAINT fk_follows_following FOREIGN KEY (following_id) REFERENCES users (id)
+);
+
+CREATE TABLE products (
+    id         VARCHAR(255) NOT NULL,
+    item_name  VARCHAR(255) NOT NULL,
+    price      INTEGER      NOT NULL,
+    link       TEXT         NOT NULL,
+    item_image TEXT         NOT NULL,
+    author_id  VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    CONSTRAINT products_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_products_author FOREIGN KEY (author_id) REFERENCES users (id)
+);
@@ -0,0 +1,74 @@
+-- 기준 스키마(V1) 이후 추가된 컬럼과 테이블
+-- 기존 DB는 V1로 기록되고 이 버전부터 적용되므로, 이미 있는 행의 카운터는 여기서 한 번 계산합니다.
+-- ID 컬럼은 V1과 같은 VARCHAR(255)로 만들고 V4에서 uuid로 변환합니다.
+
+-- 사용자별 팔로워/팔로잉/게시글 수
+ALTER TABLE users
+    ADD COLUMN follower_count  INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN following_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN post_count      INTEGER NOT NULL DEFAULT 0;
+
+-- 게시글별 좋아요/댓글 수, 삭제 시각 (삭제된 게시글은 정리 작업이 연관 행과 함께 삭제)
+ALTER TABLE posts
+    ADD COLUMN heart_count   INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN comment_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN deleted_at    TIMESTAMP(6);
+
+-- 기존 행의 카운터 계산 (이후에는 쓰기 경로에서 증감하고 정기 보정 작업이 불일치를 바로잡음)
+UPDATE users u
+SET follower_count  = (SELECT COUNT(*) FROM follows f WHERE f.following_id = u.id),
+    following_count = (SELECT COUNT(*) FROM follows f WHERE f.follower_id = u.id),
+    post_count      = (SELECT COUNT(*) FROM posts p WHERE p.author_id = u.id AND p.deleted_at IS NULL);
+
+UPDATE posts p
+SET heart_count   = (SELECT COUNT(*) FROM hearts h WHERE h.post_id = p.id),
+    comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id);
+
+-- 팔로우한 사용자의 게시글을 미리 모아 둔 홈 피드 (비어 있으면 시작 시 팔로우 관계로 채움)
+CREATE TABLE timeline_entries (
+    owner_id   VARCHAR(255) NOT NULL,
+    post_id    VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT timeline_entries_pkey PRIMARY KEY (owner_id, post_id)
+);
+
+CREATE INDEX idx_timeline_entries_owner_created
+    ON timeline_entries (owner_id, created_at DESC, post_id DESC);
+CREATE INDEX idx_timeline_entries_post ON timeline_entries (post_id);
+
+-- 원본 이미지별 파생 이미지(크기, blurhash, 너비별 변형) 처리 상태
+CREATE TABLE image_assets (
+    reference      VARCHAR(255) NOT NULL,
+    status         VARCHAR(20)  NOT NULL
+        CHECK (status IN ('PENDING', 'READY', 'UNSUPPORTED', 'FAILED')),
+    width          INTEGER,
+    height         INTEGER,
+    blurhash       VARCHAR(255),
+    variant_widths VARCHAR(255),
+    attempts       INTEGER      NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    processed_at   TIMESTAMP(6),
+    CONSTRAINT image_assets_pkey PRIMARY KEY (reference)
+);
+
+CREATE INDEX idx_image_assets_status ON image_assets (status, created_at);
+
+-- 이어 올리기 세션 (세션을 만든 사용자만 청크 업로드/조회/완료/취소 가능)
+CREATE TABLE upload_sessions (
+    id                VARCHAR(255) NOT NULL,
+    owner_id          VARCHAR(255) NOT NULL,
+    bucket_name       VARCHAR(255) NOT NULL,
+    object_key        VARCHAR(255) NOT NULL,
+    content_type      VARCHAR(255) NOT NULL,
+    original_name     VARCHAR(255),
+    size              BIGINT       NOT NULL,
+    part_size         INTEGER      NOT NULL,
+    uploaded_bytes    BIGINT       NOT NULL,
+    storage_upload_id VARCHAR(255) NOT NULL,
+    part_etags        TEXT,
+    created_at        TIMESTAMP(6) NOT NULL,
+    expires_at        TIMESTAMP(6) NOT NULL,
+    CONSTRAINT upload_sessions_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_upload_sessions_expires_at ON upload_sessions (expires_at);
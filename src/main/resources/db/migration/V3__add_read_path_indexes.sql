@@ -0,0 +1,32 @@
+-- 기존 테이블의 조회 경로 인덱스
+-- 운영 중인 테이블에 쓰기 잠금 없이 만들기 위해 CONCURRENTLY로 생성합니다. (트랜잭션 밖에서 실행)
+-- 이전 시도가 실패해 INVALID 상태로 남은 인덱스는 IF NOT EXISTS로 건너뛰므로, 시작 시 인덱스 검사에서 감지됩니다.
+
+-- 사용자 게시글 목록 (author_id = ? ORDER BY created_at DESC, id DESC, 삭제되지 않은 게시글만)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_author_created
+    ON posts (author_id, created_at DESC, id DESC)
+    WHERE deleted_at IS NULL;
+
+-- 삭제된 게시글 정리 (deleted_at IS NOT NULL)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_posts_deleted_at
+    ON posts (deleted_at);
+
+-- 게시글 댓글 목록 (post_id = ? ORDER BY created_at DESC, id DESC), 게시글별 댓글 수, 삭제된 게시글 정리
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comments_post_created
+    ON comments (post_id, created_at DESC, id DESC);
+
+-- 게시글별 좋아요 수, 삭제된 게시글 정리 (기본 키 컬럼 순서와 관계없이 post_id로 탐색)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_hearts_post
+    ON hearts (post_id);
+
+-- 사용자 상품 목록 (author_id = ? ORDER BY created_at DESC, id DESC)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_author_created
+    ON products (author_id, created_at DESC, id DESC);
+
+-- 팔로워 목록 (following_id = ? ORDER BY created_at DESC, follower_id DESC), 팔로워 수
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_follows_following_created
+    ON follows (following_id, created_at DESC, follower_id DESC);
+
+-- 팔로잉 목록 (follower_id = ? ORDER BY created_at DESC, following_id DESC), 홈 피드 채우기
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_follows_follower_created
+    ON follows (follower_id, created_at DESC, following_id DESC);
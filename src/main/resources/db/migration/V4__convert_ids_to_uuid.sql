@@ -0,0 +1,74 @@
+-- 사용자/게시글/댓글/상품 ID와 이를 참조하는 컬럼(타임라인, 업로드 세션 소유자 포함)을 VARCHAR(255)에서 uuid(16바이트)로 변환
+-- 기존 ID(UUID 버전 4 문자열)는 URL 등에서 참조하므로 값은 그대로 두고 타입만 바꾸며, 새 행부터 시각 순 UUID(버전 7)를 사용합니다.
+-- 테이블을 다시 쓰므로 완료될 때까지 해당 테이블에 ACCESS EXCLUSIVE 잠금이 걸립니다. (점검 시간에 적용)
+
+-- 참조하는 쪽과 참조되는 쪽의 타입이 같아야 하므로 외래 키를 먼저 삭제
+-- (ddl-auto로 만들어진 기존 DB는 외래 키 이름이 다르므로 이름 대신 카탈로그에서 조회)
+DO $$
+DECLARE
+    fk RECORD;
+BEGIN
+    FOR fk IN
+        SELECT c.conrelid::regclass AS table_name, c.conname
+        FROM pg_constraint c
+        JOIN pg_namespace n ON n.oid = c.connamespace
+        WHERE c.contype = 'f'
+          AND n.nspname = current_schema()
+          AND c.conrelid::regclass::text IN
+              ('posts', 'comments', 'hearts', 'follows', 'products', 'timeline_entries')
+    LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', fk.table_name, fk.conname);
+    END LOOP;
+END
+$$;
+
+-- 테이블마다 한 번만 다시 쓰도록 컬럼을 함께 변환 (기본 키와 인덱스는 자동으로 다시 생성)
+ALTER TABLE users
+    ALTER COLUMN id TYPE uuid USING id::uuid;
+
+ALTER TABLE posts
+    ALTER COLUMN id TYPE uuid USING id::uuid,
+    ALTER COLUMN author_id TYPE uuid USING author_id::uuid;
+
+ALTER TABLE comments
+    ALTER COLUMN id TYPE uuid USING id::uuid,
+    ALTER COLUMN post_id TYPE uuid USING post_id::uuid,
+    ALTER COLUMN author_id TYPE uuid USING author_id::uuid;
+
+ALTER TABLE products
+    ALTER COLUMN id TYPE uuid USING id::uuid,
+    ALTER COLUMN author_id TYPE uuid USING author_id::uuid;
+
+ALTER TABLE hearts
+    ALTER COLUMN post_id TYPE uuid USING post_id::uuid,
+    ALTER COLUMN user_id TYPE uuid USING user_id::uuid;
+
+ALTER TABLE follows
+    ALTER COLUMN follower_id TYPE uuid USING follower_id::uuid,
+    ALTER COLUMN following_id TYPE uuid USING following_id::uuid;
+
+ALTER TABLE timeline_entries
+    ALTER COLUMN owner_id TYPE uuid USING owner_id::uuid,
+    ALTER COLUMN post_id TYPE uuid USING post_id::uuid;
+
+ALTER TABLE upload_sessions
+    ALTER COLUMN owner_id TYPE uuid USING owner_id::uuid;
+
+-- 외래 키 다시 생성 (새로 설치한 DB의 V1과 같은 이름)
+ALTER TABLE posts
+    ADD CONSTRAINT fk_posts_author FOREIGN KEY (author_id) REFERENCES users (id);
+
+ALTER TABLE comments
+    ADD CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES posts (id),
+    ADD CONSTRAINT fk_comments_author FOREIGN KEY (author_id) REFERENCES users (id);
+
+ALTER TABLE hearts
+    ADD CONSTRAINT fk_hearts_post FOREIGN KEY (post_id) REFERENCES posts (id),
+    ADD CONSTRAINT fk_hearts_user FOREIGN KEY (user_id) REFERENCES users (id);
+
+ALTER TABLE follows
+    ADD CONSTRAINT fk_follows_follower FOREIGN KEY (follower_id) REFERENCES users (id),
+    ADD CONSTRAINT fk_follows_following FOREIGN KEY (following_id) REFERENCES users (id);
+
+ALTER TABLE products
+    ADD CONSTRAINT fk_products_author FOREIGN KEY (author_id) REFERENCES users (id);
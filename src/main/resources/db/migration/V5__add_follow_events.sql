@@ -0,0 +1,12 @@
+-- 팔로우/언팔로우 변경 이벤트 (팔로우와 같은 트랜잭션에서 기록하고, 각 서버 인스턴스가 주기적으로 읽어 메모리 팔로우 그래프에 반영)
+-- 오래된 이벤트는 각 인스턴스가 전체 재적재 후 삭제합니다.
+CREATE TABLE follow_events (
+    id           BIGSERIAL    NOT NULL,
+    follower_id  uuid         NOT NULL,
+    following_id uuid         NOT NULL,
+    followed     BOOLEAN      NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT follow_events_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_follow_events_created_at ON follow_events (created_at);
@@ -0,0 +1,97 @@
+package com.soon_my_room.soon_my_room.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimitingDataSourceTest {
+
+  private DataSource target;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    target = mock(DataSource.class);
+    meterRegistry = new SimpleMeterRegistry();
+    when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+  }
+
+  @Test
+  @DisplayName("허가 수만큼만 커넥션을 빌려주고, 제한 시간이 지나면 실패")
+  void limitsConcurrentConnections() throws SQLException {
+    ConcurrencyLimitingDataSource dataSource = newDataSource(2);
+
+    Connection first = dataSource.getConnection();
+    dataSource.getConnection();
+
+    assertThat(meterRegistry.get("jdbc.connections.limiter.active").gauge().value()).isEqualTo(2);
+    assertThatThrownBy(dataSource::getConnection)
+        .isInstanceOf(SQLTransientConnectionException.class);
+
+    first.close();
+    assertThat(dataSource.getConnection()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("같은 커넥션을 여러 번 닫아도 허가는 한 번만 반환")
+  void releasesOnlyOnce() throws SQLException {
+    ConcurrencyLimitingDataSource dataSource = newDataSource(1);
+
+    Connection connection = dataSource.getConnection();
+    connection.close();
+    connection.close();
+
+    dataSource.getConnection();
+    assertThatThrownBy(dataSource::getConnection)
+        .isInstanceOf(SQLTransientConnectionException.class);
+  }
+
+  @Test
+  @DisplayName("풀에서 커넥션을 얻지 못하면 허가 반환")
+  void releasesWhenTargetFails() throws SQLException {
+    ConcurrencyLimitingDataSource dataSource = newDataSource(1);
+    when(target.getConnection())
+        .thenThrow(new SQLException("pool exhausted"))
+        .thenAnswer(invocation -> mock(Connection.class));
+
+    assertThatThrownBy(dataSource::getConnection).hasMessageContaining("pool exhausted");
+    assertThat(dataSource.getConnection()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("커넥션 메서드는 실제 커넥션에 위임하고 예외는 그대로 전달")
+  void delegatesToTargetConnection() throws SQLException {
+    Connection connection = mock(Connection.class);
+    when(connection.getAutoCommit()).thenReturn(true);
+    when(connection.isReadOnly()).thenThrow(new SQLException("closed"));
+    when(target.getConnection()).thenReturn(connection);
+    ConcurrencyLimitingDataSource dataSource = newDataSource(1);
+
+    Connection proxy = dataSource.getConnection();
+
+    assertThat(proxy.getAutoCommit()).isTrue();
+    assertThatThrownBy(proxy::isReadOnly)
+        .isInstanceOf(SQLException.class)
+        .hasMessageContaining("closed");
+    assertThat(proxy).isEqualTo(proxy).isNotEqualTo(connection);
+    proxy.close();
+    verify(connection).close();
+  }
+
+  private ConcurrencyLimitingDataSource newDataSource(int maxConcurrency) {
+    return new ConcurrencyLimitingDataSource(
+        target, maxConcurrency, Duration.ofMillis(50), meterRegistry);
+  }
+}
@@ -0,0 +1,76 @@
+package com.soon_my_room.soon_my_room.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class DataSourceConfigTest {
+
+  // 커넥션은 첫 사용 때 연결하므로 DB 없이 컨텍스트를 시작할 수 있음
+  private final ApplicationContextRunner contextRunner =
+      new ApplicationContextRunner()
+          .withConfiguration(
+              AutoConfigurations.of(
+                  DataSourceAutoConfiguration.class,
+                  JdbcTemplateAutoConfiguration.class,
+                  R2dbcAutoConfiguration.class))
+          .withUserConfiguration(DataSourceConfig.class, R2dbcConfig.class)
+          .withPropertyValues(
+              "spring.datasource.url=jdbc:postgresql://localhost:5432/soon_my_room",
+              "spring.datasource.username=user",
+              "spring.datasource.password=password",
+              "spring.datasource.driver-class-name=org.postgresql.Driver",
+              "spring.datasource.hikari.maximum-pool-size=7",
+              "spring.datasource.hikari.data-source-properties.stringtype=unspecified",
+              "app.reactive.pool-size=5");
+
+  @Test
+  @DisplayName("R2DBC 커넥션 풀과 JDBC 커넥션 풀이 함께 생성")
+  void createsBothPools() {
+    contextRunner.run(
+        context -> {
+          assertThat(context).hasNotFailed();
+          assertThat(context).hasSingleBean(ConnectionFactory.class);
+          assertThat(context.getBean(ConnectionFactory.class)).isInstanceOf(ConnectionPool.class);
+          assertThat(context).hasSingleBean(DataSource.class);
+          assertThat(context).hasSingleBean(JdbcTemplate.class);
+
+          HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+          assertThat(dataSource.getJdbcUrl())
+              .isEqualTo("jdbc:postgresql://localhost:5432/soon_my_room");
+          assertThat(dataSource.getUsername()).isEqualTo("user");
+          assertThat(dataSource.getMaximumPoolSize()).isEqualTo(7);
+          assertThat(dataSource.getDataSourceProperties().getProperty("stringtype"))
+              .isEqualTo("unspecified");
+        });
+  }
+
+  @Test
+  @DisplayName("가상 스레드 모드에서는 JDBC 커넥션 풀을 동시 사용 제한으로 감쌈")
+  void wrapsDataSourceWithVirtualThreads() {
+    contextRunner
+        .withUserConfiguration(JdbcConcurrencyConfig.class)
+        .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+        .withPropertyValues("spring.threads.virtual.enabled=true")
+        .run(
+            context -> {
+              assertThat(context).hasNotFailed();
+              assertThat(context).hasSingleBean(ConnectionFactory.class);
+              assertThat(context.getBean(DataSource.class))
+                  .isInstanceOf(ConcurrencyLimitingDataSource.class);
+            });
+  }
+}
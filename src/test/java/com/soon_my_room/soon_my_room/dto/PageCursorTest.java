@@ -0,0 +1,87 @@
+package com.soon_my_room.soon_my_room.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PageCursorTest {
+
+  private static final String ID = "0f8fad5b-d9cb-469f-a165-70867728950e";
+
+  private record Item(LocalDateTime createdAt, String id) {}
+
+  @Test
+  @DisplayName("인코딩한 커서를 디코딩하면 같은 값")
+  void encodeDecodeRoundTrip() {
+    LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123456000);
+
+    PageCursor decoded = PageCursor.decode(new PageCursor(createdAt, ID).encode());
+
+    assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+    assertThat(decoded.getId()).isEqualTo(ID);
+  }
+
+  @Test
+  @DisplayName("커서가 없으면 null")
+  void decodeBlank() {
+    assertThat(PageCursor.decode(null)).isNull();
+    assertThat(PageCursor.decode("")).isNull();
+    assertThat(PageCursor.decode("  ")).isNull();
+  }
+
+  @Test
+  @DisplayName("형식이 잘못된 커서는 IllegalArgumentException")
+  void decodeInvalid() {
+    assertThatThrownBy(() -> PageCursor.decode("not base64!"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> PageCursor.decode(encode("no-delimiter")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> PageCursor.decode(encode("|" + ID)))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> PageCursor.decode(encode("2025-03-01T12:30|")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> PageCursor.decode(encode("yesterday|" + ID)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("ID가 UUID 형식이 아닌 커서는 IllegalArgumentException")
+  void decodeNonUuidId() {
+    assertThatThrownBy(() -> PageCursor.decode(encode("2025-03-01T12:30|123")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> PageCursor.decode(encode("2025-03-01T12:30|1-2-3-4-5")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> PageCursor.decode(encode("2025-03-01T12:30|" + ID + "' OR 1=1")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> PageCursor.decode(new PageCursor(LocalDateTime.now(), "a").encode()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("페이지가 가득 찬 경우에만 마지막 항목으로 다음 커서 생성")
+  void next() {
+    LocalDateTime first = LocalDateTime.of(2025, 3, 2, 0, 0);
+    LocalDateTime last = LocalDateTime.of(2025, 3, 1, 0, 0);
+    List<Item> items = List.of(new Item(first, "a"), new Item(last, ID));
+
+    String cursor = PageCursor.next(items, 2, Item::createdAt, Item::id);
+
+    PageCursor decoded = PageCursor.decode(cursor);
+    assertThat(decoded.getCreatedAt()).isEqualTo(last);
+    assertThat(decoded.getId()).isEqualTo(ID);
+    assertThat(PageCursor.next(items, 3, Item::createdAt, Item::id)).isNull();
+    assertThat(PageCursor.next(List.<Item>of(), 3, Item::createdAt, Item::id)).isNull();
+  }
+
+  private static String encode(String raw) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,55 @@
+package com.soon_my_room.soon_my_room.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.generator.EventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedUuidGeneratorTest {
+
+  @Test
+  @DisplayName("버전 7, RFC 9562 변형 비트")
+  void versionAndVariant() {
+    UUID uuid = TimeOrderedUuidGenerator.next();
+
+    assertThat(uuid.version()).isEqualTo(7);
+    assertThat(uuid.variant()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("상위 48비트는 생성 시각(밀리초)")
+  void timestampPrefix() {
+    long before = System.currentTimeMillis();
+    UUID uuid = TimeOrderedUuidGenerator.next();
+
+    // 같은 밀리초에 많이 생성한 경우 시각 부분이 앞당겨질 수 있으므로 상한은 여유를 둠
+    long timestamp = uuid.getMostSignificantBits() >>> 16;
+    assertThat(timestamp).isBetween(before, System.currentTimeMillis() + 1_000);
+  }
+
+  @Test
+  @DisplayName("같은 밀리초에 4096개를 넘게 생성해도 문자열/바이트 순서가 항상 증가")
+  void monotonic() {
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      ids.add(TimeOrderedUuidGenerator.next().toString());
+    }
+
+    // uuid 컬럼은 바이트 순(부호 없는 비교)으로 정렬하며 소문자 16진 문자열 순서와 같음
+    assertThat(ids).isSorted().doesNotHaveDuplicates();
+  }
+
+  @Test
+  @DisplayName("엔티티 ID는 36자 UUID 문자열로 생성")
+  void generatesString() {
+    Object id = new TimeOrderedUuidGenerator().generate(null, null, null, EventType.INSERT);
+
+    assertThat(id).isInstanceOf(String.class);
+    assertThat(UuidStringType.isUuid((String) id)).isTrue();
+    assertThat(UUID.fromString((String) id).version()).isEqualTo(7);
+  }
+}
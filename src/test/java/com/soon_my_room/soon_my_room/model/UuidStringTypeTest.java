@@ -0,0 +1,53 @@
+package com.soon_my_room.soon_my_room.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UuidStringTypeTest {
+
+  private static final String ID = "0f8fad5b-d9cb-469f-a165-70867728950e";
+
+  @Test
+  @DisplayName("UUID 형식 문자열은 같은 값의 UUID로 변환")
+  void toUuid() {
+    assertThat(UuidStringType.toUuid(ID)).isEqualTo(UUID.fromString(ID));
+    assertThat(UuidStringType.toUuid(ID.toUpperCase())).isEqualTo(UUID.fromString(ID));
+  }
+
+  @Test
+  @DisplayName("UUID 형식이 아닌 값은 null")
+  void toUuidRejectsNonUuid() {
+    assertThat(UuidStringType.toUuid(null)).isNull();
+    assertThat(UuidStringType.toUuid("")).isNull();
+    assertThat(UuidStringType.toUuid("user-a")).isNull();
+    // UUID.fromString은 허용하지만 컬럼 값과 일치할 수 없는 축약 형식
+    assertThat(UuidStringType.toUuid("1-2-3-4-5")).isNull();
+    assertThat(UuidStringType.toUuid(ID + "0")).isNull();
+    assertThat(UuidStringType.toUuid(ID.replace('-', '_'))).isNull();
+  }
+
+  @Test
+  @DisplayName("UUID 형식 여부 확인")
+  void isUuid() {
+    assertThat(UuidStringType.isUuid(ID)).isTrue();
+    assertThat(UuidStringType.isUuid(TimeOrderedUuidGenerator.next().toString())).isTrue();
+    assertThat(UuidStringType.isUuid(null)).isFalse();
+    assertThat(UuidStringType.isUuid("not-a-uuid")).isFalse();
+  }
+
+  @Test
+  @DisplayName("목록 변환 시 UUID 형식이 아닌 값은 제외하고 순서 유지")
+  void toUuids() {
+    String other = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
+
+    List<UUID> uuids = UuidStringType.toUuids(Arrays.asList(other, "invalid", null, ID));
+
+    assertThat(uuids).containsExactly(UUID.fromString(other), UUID.fromString(ID));
+    assertThat(UuidStringType.toUuids(List.of())).isEmpty();
+  }
+}
@@ -0,0 +1,77 @@
+package com.soon_my_room.soon_my_room.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soon_my_room.soon_my_room.model.User;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+class JwtAuthenticationFilterTest {
+
+  private static final String EMAIL = "user@example.com";
+
+  private JwtUtil jwtUtil;
+  private PrincipalCache principalCache;
+  private JwtAuthenticationFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    jwtUtil = mock(JwtUtil.class);
+    principalCache = mock(PrincipalCache.class);
+    filter = new JwtAuthenticationFilter(jwtUtil, principalCache, new ObjectMapper());
+
+    Claims claims = mock(Claims.class);
+    when(claims.getSubject()).thenReturn(EMAIL);
+    when(jwtUtil.verify("token")).thenReturn(claims);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("유효한 토큰의 사용자는 인증")
+  void authenticatesActiveUser() throws Exception {
+    User user = User.builder().id("id").email(EMAIL).build();
+    when(principalCache.get(EMAIL)).thenReturn(AuthenticatedUser.from(user));
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(bearerRequest(), new MockHttpServletResponse(), chain);
+
+    assertThat(chain.getRequest()).isNotNull();
+    assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+        .isInstanceOf(AuthenticatedUser.class);
+  }
+
+  @Test
+  @DisplayName("토큰 발급 후 삭제된 사용자는 인증 없이 요청 처리")
+  void deletedUserProceedsUnauthenticated() throws Exception {
+    when(principalCache.get(EMAIL)).thenThrow(new UsernameNotFoundException(EMAIL));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(bearerRequest(), response, chain);
+
+    assertThat(chain.getRequest()).isNotNull();
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+  }
+
+  private static MockHttpServletRequest bearerRequest() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/post/feed");
+    request.addHeader("Authorization", "Bearer token");
+    return request;
+  }
+}
@@ -0,0 +1,83 @@
+package com.soon_my_room.soon_my_room.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BlurhashEncoderTest {
+
+  private static final String CHARACTERS =
+      "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+
+  @Test
+  @DisplayName("성분 수에 맞는 길이와 크기 플래그")
+  void lengthAndSizeFlag() {
+    String hash = BlurhashEncoder.encode(solid(32, 24, Color.RED), 4, 3);
+
+    // 크기 플래그 1자 + 최댓값 1자 + DC 4자 + AC 2자씩
+    assertThat(hash).hasSize(1 + 1 + 4 + 2 * (4 * 3 - 1));
+    assertThat(decode83(hash, 0, 1)).isEqualTo((4 - 1) + (3 - 1) * 9);
+  }
+
+  @Test
+  @DisplayName("단색 이미지의 DC 성분은 그 색")
+  void dcIsAverageColour() {
+    String hash = BlurhashEncoder.encode(solid(16, 16, new Color(0x12, 0x80, 0xFE)), 4, 3);
+
+    assertThat(decode83(hash, 2, 6)).isEqualTo(0x1280FE);
+  }
+
+  @Test
+  @DisplayName("성분이 하나면 최댓값 0과 DC만 인코딩")
+  void singleComponent() {
+    String hash = BlurhashEncoder.encode(solid(8, 8, Color.WHITE), 1, 1);
+
+    assertThat(hash).hasSize(6);
+    assertThat(decode83(hash, 1, 2)).isZero();
+    assertThat(decode83(hash, 2, 6)).isEqualTo(0xFFFFFF);
+  }
+
+  @Test
+  @DisplayName("가로 그라데이션과 세로 그라데이션은 다른 해시")
+  void gradientDirectionMatters() {
+    BufferedImage horizontal = new BufferedImage(32, 32, BufferedImage.TYPE_INT_RGB);
+    BufferedImage vertical = new BufferedImage(32, 32, BufferedImage.TYPE_INT_RGB);
+    for (int y = 0; y < 32; y++) {
+      for (int x = 0; x < 32; x++) {
+        horizontal.setRGB(x, y, gray(x * 8));
+        vertical.setRGB(x, y, gray(y * 8));
+      }
+    }
+
+    String horizontalHash = BlurhashEncoder.encode(horizontal, 4, 3);
+    String verticalHash = BlurhashEncoder.encode(vertical, 4, 3);
+
+    assertThat(horizontalHash).isNotEqualTo(verticalHash);
+    assertThat(horizontalHash.substring(2, 6)).isEqualTo(verticalHash.substring(2, 6));
+  }
+
+  private static BufferedImage solid(int width, int height, Color color) {
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        image.setRGB(x, y, color.getRGB());
+      }
+    }
+    return image;
+  }
+
+  private static int gray(int value) {
+    return (value << 16) | (value << 8) | value;
+  }
+
+  private static int decode83(String hash, int start, int end) {
+    int value = 0;
+    for (int i = start; i < end; i++) {
+      value = value * 83 + CHARACTERS.indexOf(hash.charAt(i));
+    }
+    return value;
+  }
+}
@@ -0,0 +1,237 @@
+package com.soon_my_room.soon_my_room.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.soon_my_room.soon_my_room.repository.FollowRepository;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class FollowGraphTest {
+
+  private JdbcTemplate jdbcTemplate;
+  private FollowRepository followRepository;
+  private FollowGraph graph;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate = mock(JdbcTemplate.class);
+    followRepository = mock(FollowRepository.class);
+    graph = new FollowGraph(jdbcTemplate, followRepository);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("적재 전에는 저장소로 조회")
+  void fallsBackBeforeLoad() {
+    when(followRepository.existsByFollowerIdAndFollowingId("a", "b")).thenReturn(true);
+
+    assertThat(graph.isReady()).isFalse();
+    assertThat(graph.isFollowing("a", "b")).isTrue();
+    verify(followRepository).existsByFollowerIdAndFollowingId("a", "b");
+  }
+
+  @Test
+  @DisplayName("적재 후에는 메모리 인덱스로 양방향 조회")
+  void queriesLoadedIndex() {
+    stubEdges(new String[] {"a", "b"}, new String[] {"a", "c"}, new String[] {"c", "b"});
+
+    graph.reload();
+
+    assertThat(graph.isReady()).isTrue();
+    assertThat(graph.isFollowing("a", "b")).isTrue();
+    assertThat(graph.isFollowing("b", "a")).isFalse();
+    assertThat(graph.isFollowing("a", "unknown")).isFalse();
+    assertThat(graph.findFollowingIdsIn("a", List.of("b", "c", "d")))
+        .containsExactlyInAnyOrder("b", "c");
+    assertThat(graph.findFollowingIds(List.of("a")).get("a")).containsExactlyInAnyOrder("b", "c");
+    assertThat(graph.findFollowerIds(List.of("b")).get("b")).containsExactlyInAnyOrder("a", "c");
+    verify(followRepository, never()).existsByFollowerIdAndFollowingId(anyString(), anyString());
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안의 변경은 커밋 후에만 반영")
+  void appliesAfterCommit() {
+    stubEdges();
+    graph.reload();
+
+    TransactionSynchronizationManager.initSynchronization();
+    graph.onFollow("a", "b");
+    assertThat(graph.isFollowing("a", "b")).isFalse();
+
+    List<TransactionSynchronization> synchronizations =
+        TransactionSynchronizationManager.getSynchronizations();
+    TransactionSynchronizationManager.clearSynchronization();
+    synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+    assertThat(graph.isFollowing("a", "b")).isTrue();
+  }
+
+  @Test
+  @DisplayName("언팔로우하면 양방향 목록에서 제거")
+  void unfollowRemovesEdge() {
+    stubEdges(new String[] {"a", "b"});
+    graph.reload();
+
+    graph.onUnfollow("a", "b");
+
+    assertThat(graph.isFollowing("a", "b")).isFalse();
+    assertThat(graph.findFollowingIds(List.of("a")).get("a")).isEmpty();
+    assertThat(graph.findFollowerIds(List.of("b")).get("b")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("적재 중 발생한 변경은 적재 완료 후 다시 반영")
+  void replaysEdgesChangedDuringLoad() {
+    doAnswer(
+            invocation -> {
+              RowCallbackHandler handler = invocation.getArgument(1);
+              handler.processRow(row("a", "b"));
+              // 적재 쿼리가 읽은 뒤 커밋된 변경
+              graph.onUnfollow("a", "b");
+              graph.onFollow("a", "c");
+              return null;
+            })
+        .when(jdbcTemplate)
+        .query(anyString(), any(RowCallbackHandler.class));
+
+    graph.reload();
+
+    assertThat(graph.isFollowing("a", "b")).isFalse();
+    assertThat(graph.isFollowing("a", "c")).isTrue();
+  }
+
+  @Test
+  @DisplayName("초기 용량보다 많은 사용자가 추가되어도 기존 관계 유지")
+  void growsBeyondInitialCapacity() {
+    stubEdges(new String[] {"a", "b"});
+    graph.reload();
+
+    for (int i = 0; i < 2000; i++) {
+      graph.onFollow("a", "user-" + i);
+    }
+
+    assertThat(graph.isFollowing("a", "b")).isTrue();
+    assertThat(graph.isFollowing("a", "user-1999")).isTrue();
+    Map<String, List<String>> followings = graph.findFollowingIds(List.of("a"));
+    assertThat(followings.get("a")).hasSize(2001);
+  }
+
+  @Test
+  @DisplayName("팔로우/언팔로우는 변경 이벤트로 기록")
+  void recordsEvents() {
+    graph.onFollow("a", "b");
+    graph.onUnfollow("a", "b");
+
+    verify(jdbcTemplate).update(contains("INSERT INTO follow_events"), eq("a"), eq("b"), eq(true));
+    verify(jdbcTemplate).update(contains("INSERT INTO follow_events"), eq("a"), eq("b"), eq(false));
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스의 변경 이벤트를 기록 순서대로 한 번만 반영")
+  void appliesEventsFromOtherInstances() {
+    LocalDateTime loadedAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+    when(jdbcTemplate.queryForObject(anyString(), eq(LocalDateTime.class))).thenReturn(loadedAt);
+    stubEdges(new String[] {"a", "b"});
+    graph.reload();
+
+    stubEvents(
+        event(1, "a", "b", false, loadedAt.plusSeconds(1)),
+        event(2, "a", "c", true, loadedAt.plusSeconds(2)));
+    graph.pollEvents();
+
+    assertThat(graph.isFollowing("a", "b")).isFalse();
+    assertThat(graph.isFollowing("a", "c")).isTrue();
+
+    // 겹쳐 읽은 이벤트는 다시 반영하지 않고, 늦게 커밋된 이벤트는 반영
+    graph.onUnfollow("a", "c");
+    stubEvents(
+        event(1, "a", "b", false, loadedAt.plusSeconds(1)),
+        event(2, "a", "c", true, loadedAt.plusSeconds(2)),
+        event(3, "a", "d", true, loadedAt.plusSeconds(1)));
+    graph.pollEvents();
+
+    assertThat(graph.isFollowing("a", "c")).isFalse();
+    assertThat(graph.isFollowing("a", "d")).isTrue();
+  }
+
+  @Test
+  @DisplayName("첫 적재 전에는 변경 이벤트를 조회하지 않음")
+  void skipsPollingBeforeLoad() {
+    graph.pollEvents();
+
+    verify(jdbcTemplate, never()).query(anyString(), any(RowCallbackHandler.class), any());
+  }
+
+  /** follow_events 테이블 조회 결과 (id, follower_id, following_id, followed, created_at) */
+  private void stubEvents(ResultSet... rows) {
+    doAnswer(
+            invocation -> {
+              RowCallbackHandler handler = invocation.getArgument(1);
+              for (ResultSet row : rows) {
+                handler.processRow(row);
+              }
+              return null;
+            })
+        .when(jdbcTemplate)
+        .query(anyString(), any(RowCallbackHandler.class), any());
+  }
+
+  private static ResultSet event(
+      long id, String followerId, String followingId, boolean followed, LocalDateTime createdAt)
+      throws Exception {
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getLong(1)).thenReturn(id);
+    when(rs.getString(2)).thenReturn(followerId);
+    when(rs.getString(3)).thenReturn(followingId);
+    when(rs.getBoolean(4)).thenReturn(followed);
+    when(rs.getTimestamp(5)).thenReturn(Timestamp.valueOf(createdAt));
+    return rs;
+  }
+
+  /** follows 테이블 조회 결과 (follower_id, following_id) */
+  private void stubEdges(String[]... edges) {
+    doAnswer(
+            invocation -> {
+              RowCallbackHandler handler = invocation.getArgument(1);
+              for (String[] edge : edges) {
+                handler.processRow(row(edge[0], edge[1]));
+              }
+              return null;
+            })
+        .when(jdbcTemplate)
+        .query(anyString(), any(RowCallbackHandler.class));
+  }
+
+  private static ResultSet row(String followerId, String followingId) throws Exception {
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getString(1)).thenReturn(followerId);
+    when(rs.getString(2)).thenReturn(followingId);
+    return rs;
+  }
+}
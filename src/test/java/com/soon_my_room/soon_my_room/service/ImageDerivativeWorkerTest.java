@@ -0,0 +1,143 @@
+package com.soon_my_room.soon_my_room.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.soon_my_room.soon_my_room.model.ImageAsset;
+import com.soon_my_room.soon_my_room.repository.ImageAssetRepository;
+import com.soon_my_room.soon_my_room.storage.StorageBackend;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ImageDerivativeWorkerTest {
+
+  private static final String BUCKET = "posts";
+  private static final String KEY = "1700000000000-0f8fad5b-0123456789abcdef.png";
+  private static final String UPLOAD_KEY = "incoming-" + KEY;
+
+  private StorageBackend storageBackend;
+  private ImageAssetRepository imageAssetRepository;
+  private ImageDerivativeWorker worker;
+  private ImageAsset asset;
+
+  @BeforeEach
+  void setUp() {
+    storageBackend = mock(StorageBackend.class);
+    imageAssetRepository = mock(ImageAssetRepository.class);
+    worker =
+        new ImageDerivativeWorker(
+            storageBackend,
+            imageAssetRepository,
+            mock(TransactionTemplate.class),
+            new SimpleMeterRegistry(),
+            new int[] {1},
+            0.82f,
+            1_000_000L,
+            3,
+            1,
+            10,
+            0L,
+            10);
+
+    asset =
+        ImageAsset.builder()
+            .reference(BUCKET + "/" + KEY)
+            .status(ImageAsset.Status.PENDING)
+            .createdAt(LocalDateTime.now())
+            .build();
+    when(imageAssetRepository.findById(BUCKET + "/" + KEY)).thenReturn(Optional.of(asset));
+  }
+
+  @AfterEach
+  void tearDown() {
+    worker.shutdown();
+  }
+
+  @Test
+  @DisplayName("JPEG, PNG 업로드 키는 임시 키, 그 외 형식은 최종 키")
+  void uploadKey() {
+    assertThat(ImageDerivativeWorker.uploadKey(KEY)).isEqualTo(UPLOAD_KEY);
+    assertThat(ImageDerivativeWorker.uploadKey("1700000000000-0f8fad5b.jpeg"))
+        .isEqualTo("incoming-1700000000000-0f8fad5b.jpeg");
+    assertThat(ImageDerivativeWorker.uploadKey("1700000000000-0f8fad5b.gif"))
+        .isEqualTo("1700000000000-0f8fad5b.gif");
+    assertThat(ImageDerivativeWorker.isUploadKey(UPLOAD_KEY)).isTrue();
+    assertThat(ImageDerivativeWorker.isUploadKey(KEY)).isFalse();
+  }
+
+  @Test
+  @DisplayName("임시 키의 업로드는 메타데이터를 제거해 최종 키로 옮긴 뒤 변형 생성")
+  void promotesUpload() throws Exception {
+    byte[] png = png();
+    byte[] withText = withTextChunk(png);
+    when(storageBackend.head(BUCKET, UPLOAD_KEY))
+        .thenReturn(Optional.of(new StorageBackend.ObjectMetadata(withText.length, "image/png")));
+    when(storageBackend.get(BUCKET, UPLOAD_KEY)).thenReturn(new ByteArrayInputStream(withText));
+
+    assertThat(worker.enqueueUpload(BUCKET, KEY)).containsKey("1");
+
+    verify(imageAssetRepository, timeout(5000)).save(asset);
+    assertThat(asset.getStatus()).isEqualTo(ImageAsset.Status.READY);
+    verify(storageBackend)
+        .put(eq(BUCKET), eq(KEY), any(), eq((long) png.length), eq("image/png"), isNull());
+    verify(storageBackend).delete(BUCKET, UPLOAD_KEY);
+    verify(storageBackend, never()).get(BUCKET, KEY);
+  }
+
+  @Test
+  @DisplayName("임시 객체가 없으면(이미 옮긴 경우) 최종 키의 원본으로 변형 생성")
+  void readsPromotedOriginal() throws Exception {
+    when(storageBackend.get(BUCKET, KEY)).thenReturn(new ByteArrayInputStream(png()));
+
+    worker.enqueueUpload(BUCKET, KEY);
+
+    verify(imageAssetRepository, timeout(5000)).save(asset);
+    assertThat(asset.getStatus()).isEqualTo(ImageAsset.Status.READY);
+    verify(storageBackend, never()).put(eq(BUCKET), eq(KEY), any(), anyLong(), anyString(), any());
+    verify(storageBackend, never()).delete(anyString(), anyString());
+  }
+
+  private static byte[] png() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ImageIO.write(new BufferedImage(2, 2, BufferedImage.TYPE_INT_RGB), "png", out);
+    return out.toByteArray();
+  }
+
+  /** IHDR 뒤에 tEXt 청크 삽입 (CRC는 검사하지 않으므로 0) */
+  private static byte[] withTextChunk(byte[] png) {
+    byte[] text = "Comment\0secret".getBytes(StandardCharsets.US_ASCII);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(png, 0, 33);
+    out.writeBytes(
+        ByteBuffer.allocate(12 + text.length)
+            .putInt(text.length)
+            .put("tEXt".getBytes(StandardCharsets.US_ASCII))
+            .put(text)
+            .putInt(0)
+            .array());
+    out.write(png, 33, png.length - 33);
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,231 @@
+package com.soon_my_room.soon_my_room.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ImageMetadataTest {
+
+  private static final byte[] GPS_MARKER =
+      "GPS-37.5665,126.9780".getBytes(StandardCharsets.US_ASCII);
+
+  @Test
+  @DisplayName("EXIF 방향 값 읽기 (리틀/빅 엔디언)")
+  void readsOrientation() {
+    assertThat(ImageMetadata.readExifOrientation(jpeg(exif(6, true)))).isEqualTo(6);
+    assertThat(ImageMetadata.readExifOrientation(jpeg(exif(8, false)))).isEqualTo(8);
+  }
+
+  @Test
+  @DisplayName("EXIF가 없거나 방향 값이 범위를 벗어나면 1")
+  void defaultsToNormalOrientation() {
+    assertThat(ImageMetadata.readExifOrientation(jpeg())).isEqualTo(1);
+    assertThat(ImageMetadata.readExifOrientation(jpeg(exif(9, true)))).isEqualTo(1);
+    assertThat(ImageMetadata.readExifOrientation(new byte[] {(byte) 0xFF, (byte) 0xD8}))
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("방향 태그가 잘린 EXIF는 1")
+  void truncatedExif() {
+    byte[] payload = exifPayload(6, true);
+    // 방향 항목 중간에서 잘린 세그먼트
+    byte[] truncated = segment(0xE1, slice(payload, 0, payload.length - 30));
+
+    assertThat(ImageMetadata.readExifOrientation(jpeg(truncated))).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("JPEG의 EXIF와 주석은 제거하고 방향, ICC 프로필, 이미지 데이터는 유지")
+  void stripsJpegMetadata() throws IOException {
+    byte[] icc = segment(0xE2, append("ICC_PROFILE\0".getBytes(StandardCharsets.US_ASCII), 1, 1));
+    byte[] comment = segment(0xFE, "camera serial 1234".getBytes(StandardCharsets.US_ASCII));
+    byte[] scan = {0x11, (byte) 0xFF, 0x00, 0x22, (byte) 0xFF, (byte) 0xD0, 0x33};
+    byte[] original =
+        concat(
+            new byte[] {(byte) 0xFF, (byte) 0xD8},
+            exif(6, true),
+            icc,
+            comment,
+            segment(0xDA, new byte[] {1, 1, 0, 0, 0x3F, 0}),
+            scan,
+            new byte[] {(byte) 0xFF, (byte) 0xD9},
+            GPS_MARKER);
+
+    byte[] stripped = strip(original);
+
+    assertThat(ImageMetadata.readExifOrientation(stripped)).isEqualTo(6);
+    assertThat(indexOf(stripped, GPS_MARKER)).isEqualTo(-1);
+    assertThat(indexOf(stripped, "camera".getBytes(StandardCharsets.US_ASCII))).isEqualTo(-1);
+    assertThat(indexOf(stripped, icc)).isPositive();
+    assertThat(indexOf(stripped, scan)).isPositive();
+    assertThat(stripped[stripped.length - 2] & 0xFF).isEqualTo(0xFF);
+    assertThat(stripped[stripped.length - 1] & 0xFF).isEqualTo(0xD9);
+  }
+
+  @Test
+  @DisplayName("메타데이터를 제거한 JPEG도 디코딩 가능")
+  void strippedJpegDecodes() throws IOException {
+    ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+    ImageIO.write(new BufferedImage(20, 10, BufferedImage.TYPE_INT_RGB), "jpg", encoded);
+    byte[] plain = encoded.toByteArray();
+    // SOI, JFIF(APP0) 뒤에 EXIF 삽입
+    int afterJfif = 4 + (((plain[4] & 0xFF) << 8) | (plain[5] & 0xFF));
+    byte[] withExif =
+        concat(slice(plain, 0, afterJfif), exif(3, false), slice(plain, afterJfif, plain.length));
+
+    byte[] stripped = strip(withExif);
+
+    BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(stripped));
+    assertThat(decoded.getWidth()).isEqualTo(20);
+    assertThat(decoded.getHeight()).isEqualTo(10);
+    assertThat(ImageMetadata.readExifOrientation(stripped)).isEqualTo(3);
+    assertThat(indexOf(stripped, GPS_MARKER)).isEqualTo(-1);
+  }
+
+  @Test
+  @DisplayName("메타데이터가 없는 JPEG는 그대로")
+  void leavesCleanJpegUnchanged() throws IOException {
+    ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+    ImageIO.write(new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB), "jpg", encoded);
+    byte[] plain = encoded.toByteArray();
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    boolean changed = ImageMetadata.strip(new ByteArrayInputStream(plain), out);
+
+    assertThat(changed).isFalse();
+    assertThat(out.toByteArray()).isEqualTo(plain);
+  }
+
+  @Test
+  @DisplayName("PNG의 텍스트, EXIF 청크는 제거하고 나머지 청크는 유지")
+  void stripsPngMetadata() throws IOException {
+    ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+    ImageIO.write(new BufferedImage(3, 2, BufferedImage.TYPE_INT_ARGB), "png", encoded);
+    byte[] plain = encoded.toByteArray();
+    // 시그니처(8) + IHDR(25) 뒤에 메타데이터 청크 삽입
+    byte[] withMetadata =
+        concat(
+            slice(plain, 0, 33),
+            chunk("tEXt", concat("Comment\0".getBytes(StandardCharsets.US_ASCII), GPS_MARKER)),
+            chunk("eXIf", GPS_MARKER),
+            slice(plain, 33, plain.length));
+
+    byte[] stripped = strip(withMetadata);
+
+    assertThat(stripped).isEqualTo(plain);
+    BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(stripped));
+    assertThat(decoded.getWidth()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("JPEG, PNG가 아니면 그대로 복사")
+  void copiesOtherFormats() throws IOException {
+    byte[] gif = "GIF89a....".getBytes(StandardCharsets.US_ASCII);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    boolean changed = ImageMetadata.strip(new ByteArrayInputStream(gif), out);
+
+    assertThat(changed).isFalse();
+    assertThat(out.toByteArray()).isEqualTo(gif);
+    assertThat(ImageMetadata.isStrippable("1700000000000-0f8fad5b.gif")).isFalse();
+    assertThat(ImageMetadata.isStrippable("1700000000000-0f8fad5b.JPEG")).isTrue();
+  }
+
+  private static byte[] strip(byte[] original) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    assertThat(ImageMetadata.strip(new ByteArrayInputStream(original), out)).isTrue();
+    return out.toByteArray();
+  }
+
+  /** 방향 태그와 GPS 흉내 값을 담은 APP1 EXIF 세그먼트 */
+  private static byte[] exif(int orientation, boolean littleEndian) {
+    return segment(0xE1, exifPayload(orientation, littleEndian));
+  }
+
+  private static byte[] exifPayload(int orientation, boolean littleEndian) {
+    ByteBuffer tiff = ByteBuffer.allocate(8 + 2 + 12 * 2 + 4 + GPS_MARKER.length);
+    tiff.order(littleEndian ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+    tiff.put(littleEndian ? (byte) 'I' : (byte) 'M').put(littleEndian ? (byte) 'I' : (byte) 'M');
+    tiff.putShort((short) 0x2A).putInt(8);
+    tiff.putShort((short) 2);
+    tiff.putShort((short) 0x010F).putShort((short) 2).putInt(GPS_MARKER.length).putInt(38);
+    tiff.putShort((short) 0x0112).putShort((short) 3).putInt(1);
+    tiff.putShort((short) orientation).putShort((short) 0);
+    tiff.putInt(0);
+    tiff.put(GPS_MARKER);
+    return concat("Exif\0\0".getBytes(StandardCharsets.US_ASCII), tiff.array());
+  }
+
+  private static byte[] jpeg(byte[]... segments) {
+    return concat(
+        new byte[] {(byte) 0xFF, (byte) 0xD8},
+        concat(segments),
+        new byte[] {(byte) 0xFF, (byte) 0xDA, 0, 2, (byte) 0xFF, (byte) 0xD9});
+  }
+
+  private static byte[] segment(int marker, byte[] payload) {
+    int length = payload.length + 2;
+    return concat(
+        new byte[] {(byte) 0xFF, (byte) marker, (byte) (length >> 8), (byte) length}, payload);
+  }
+
+  private static byte[] chunk(String type, byte[] data) {
+    byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+    CRC32 crc = new CRC32();
+    crc.update(typeBytes);
+    crc.update(data);
+    return ByteBuffer.allocate(12 + data.length)
+        .putInt(data.length)
+        .put(typeBytes)
+        .put(data)
+        .putInt((int) crc.getValue())
+        .array();
+  }
+
+  private static byte[] concat(byte[]... parts) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (byte[] part : parts) {
+      out.writeBytes(part);
+    }
+    return out.toByteArray();
+  }
+
+  private static byte[] append(byte[] prefix, int... bytes) {
+    byte[] result = new byte[prefix.length + bytes.length];
+    System.arraycopy(prefix, 0, result, 0, prefix.length);
+    for (int i = 0; i < bytes.length; i++) {
+      result[prefix.length + i] = (byte) bytes[i];
+    }
+    return result;
+  }
+
+  private static byte[] slice(byte[] data, int from, int to) {
+    byte[] result = new byte[to - from];
+    System.arraycopy(data, from, result, 0, result.length);
+    return result;
+  }
+
+  private static int indexOf(byte[] data, byte[] target) {
+    outer:
+    for (int i = 0; i + target.length <= data.length; i++) {
+      for (int j = 0; j < target.length; j++) {
+        if (data[i + j] != target[j]) {
+          continue outer;
+        }
+      }
+      return i;
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,135 @@
+package com.soon_my_room.soon_my_room.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.soon_my_room.soon_my_room.storage.ImageProxyAccess;
+import com.soon_my_room.soon_my_room.storage.StorageBackend;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ImageUrlResolverTest {
+
+  private static final String KEY = "1700000000000-0f8fad5b.png";
+
+  private static final String CONTENT_KEY =
+      "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08.png";
+
+  private StorageBackend storageBackend;
+  private ImageProxyAccess proxyAccess;
+  private ImageUrlResolver resolver;
+
+  @BeforeEach
+  void setUp() {
+    storageBackend = mock(StorageBackend.class);
+    proxyAccess =
+        new ImageProxyAccess(new String[] {"profiles", "posts", "products", "default"}, "secret");
+    resolver = newResolver(false);
+  }
+
+  @Test
+  @DisplayName("로컬 저장소의 상대 경로 URL은 쿼리와 관계없이 참조로 변환")
+  void parsesRelativeLocalUrl() {
+    assertThat(resolver.toReference("/api/image/posts/" + KEY + "?expires=1&signature=abc"))
+        .isEqualTo("posts/" + KEY);
+    assertThat(resolver.toReference("/api/image/posts/" + KEY)).isEqualTo("posts/" + KEY);
+  }
+
+  @Test
+  @DisplayName("로컬 저장소의 절대 URL과 S3 URL도 참조로 변환")
+  void parsesAbsoluteUrls() {
+    assertThat(resolver.toReference("https://api.example.com/api/image/posts/" + KEY + "?x=1"))
+        .isEqualTo("posts/" + KEY);
+    assertThat(resolver.toReference("https://posts.s3.ap-northeast-2.amazonaws.com/" + KEY))
+        .isEqualTo("posts/" + KEY);
+    assertThat(resolver.toReference("https://s3.ap-northeast-2.amazonaws.com/posts/" + KEY))
+        .isEqualTo("posts/" + KEY);
+  }
+
+  @Test
+  @DisplayName("프록시 URL은 상대 경로와 절대 경로 모두 참조로 변환")
+  void parsesProxyUrls() {
+    assertThat(resolver.toReference("/api/image/proxy/posts/" + CONTENT_KEY + "?signature=abc"))
+        .isEqualTo("posts/" + CONTENT_KEY);
+    assertThat(resolver.toReference("/api/image/proxy/posts/" + CONTENT_KEY))
+        .isEqualTo("posts/" + CONTENT_KEY);
+    assertThat(resolver.toReference("https://api.example.com/api/image/proxy/posts/" + KEY))
+        .isEqualTo("posts/" + KEY);
+  }
+
+  @Test
+  @DisplayName("프록시를 사용하면 서버가 생성한 키는 서명한 프록시 URL로 응답")
+  void usesSignedProxyUrl() {
+    ImageUrlResolver proxied = newResolver(true);
+
+    assertThat(proxied.toUrl("posts/" + CONTENT_KEY))
+        .isEqualTo(
+            "/api/image/proxy/posts/"
+                + CONTENT_KEY
+                + "?signature="
+                + proxyAccess.sign("posts", CONTENT_KEY));
+  }
+
+  @Test
+  @DisplayName("프록시로 조회할 수 없는 키는 저장소 서명 URL로 응답")
+  void fallsBackToSignedUrlForOtherKeys() {
+    when(storageBackend.signedGetUrl(anyString(), anyString(), any()))
+        .thenReturn("https://signed");
+    ImageUrlResolver proxied = newResolver(true);
+
+    assertThat(proxied.toUrl("posts/legacy-name.png")).isEqualTo("https://signed");
+  }
+
+  @Test
+  @DisplayName("모르는 버킷이나 다른 경로는 그대로 유지")
+  void keepsForeignValues() {
+    assertThat(resolver.toReference("/api/image/unknown/" + KEY))
+        .isEqualTo("/api/image/unknown/" + KEY);
+    assertThat(resolver.toReference("/static/logo.png")).isEqualTo("/static/logo.png");
+    assertThat(resolver.toReference("https://cdn.example.com/a.png"))
+        .isEqualTo("https://cdn.example.com/a.png");
+  }
+
+  @Test
+  @DisplayName("메타데이터 제거 전 업로드 임시 키는 참조로 변환하거나 서명하지 않음")
+  void ignoresUploadKeys() {
+    String uploadKey = ImageDerivativeWorker.uploadKey(KEY);
+
+    assertThat(resolver.toReference("/api/image/posts/" + uploadKey))
+        .isEqualTo("/api/image/posts/" + uploadKey);
+    assertThat(resolver.toUrl("posts/" + uploadKey)).isEqualTo("posts/" + uploadKey);
+    assertThat(resolver.references("posts/" + uploadKey)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("여러 이미지 중 우리 버킷의 참조만 추출")
+  void extractsReferences() {
+    String value =
+        String.join(
+            ", ",
+            "/api/image/posts/" + KEY + "?expires=1&signature=abc",
+            "https://cdn.example.com/a.png",
+            "profiles/b.png");
+
+    assertThat(resolver.references(value)).containsExactly("posts/" + KEY, "profiles/b.png");
+  }
+
+  private ImageUrlResolver newResolver(boolean proxyEnabled) {
+    return new ImageUrlResolver(
+        storageBackend,
+        proxyAccess,
+        "profiles",
+        "posts",
+        "products",
+        "default",
+        720,
+        60,
+        100,
+        proxyEnabled,
+        "");
+  }
+}
@@ -0,0 +1,55 @@
+package com.soon_my_room.soon_my_room.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+class PagingTest {
+
+  @Test
+  @DisplayName("skip이 limit의 배수가 아니어도 skip 위치부터 조회")
+  void offsetNotMultipleOfLimit() {
+    Pageable pageable = Paging.offset(15, 10);
+
+    assertThat(pageable.getOffset()).isEqualTo(15);
+    assertThat(pageable.getPageSize()).isEqualTo(10);
+    assertThat(pageable.next().getOffset()).isEqualTo(25);
+    assertThat(pageable.previousOrFirst().getOffset()).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("skip이 없으면 처음부터 조회")
+  void offsetWithoutSkip() {
+    Pageable pageable = Paging.offset(null, 10);
+
+    assertThat(pageable.getOffset()).isZero();
+    assertThat(pageable.hasPrevious()).isFalse();
+  }
+
+  @Test
+  @DisplayName("limit이 없으면 기본 크기, 1보다 작으면 IllegalArgumentException")
+  void pageSize() {
+    assertThat(Paging.pageSize(null, 10)).isEqualTo(10);
+    assertThat(Paging.pageSize(null, Paging.UNLIMITED)).isEqualTo(Integer.MAX_VALUE);
+    assertThat(Paging.pageSize(3, 10)).isEqualTo(3);
+    assertThatThrownBy(() -> Paging.pageSize(0, 10)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("skip이 음수이면 IllegalArgumentException")
+  void negativeSkip() {
+    assertThatThrownBy(() -> Paging.offset(-1, 10)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("커서가 있거나 skip이 없으면 커서 기반 조회")
+  void isKeysetRequest() {
+    assertThat(Paging.isKeysetRequest(null, null)).isTrue();
+    assertThat(Paging.isKeysetRequest(0, null)).isTrue();
+    assertThat(Paging.isKeysetRequest(20, "cursor")).isTrue();
+    assertThat(Paging.isKeysetRequest(20, null)).isFalse();
+  }
+}
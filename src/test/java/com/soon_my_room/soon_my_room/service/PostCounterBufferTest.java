@@ -0,0 +1,185 @@
+package com.soon_my_room.soon_my_room.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class PostCounterBufferTest {
+
+  private JdbcTemplate jdbcTemplate;
+  private PostCounterBuffer buffer;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate = mock(JdbcTemplate.class);
+    buffer = new PostCounterBuffer(jdbcTemplate);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("반영 전 변경분은 게시글별로 합산")
+  void pendingDeltas() {
+    buffer.addHearts("p1", 1);
+    buffer.addHearts("p1", 1);
+    buffer.addHearts("p1", -1);
+    buffer.addComments("p1", 3);
+
+    assertThat(buffer.pendingHearts("p1")).isEqualTo(1);
+    assertThat(buffer.pendingComments("p1")).isEqualTo(3);
+    assertThat(buffer.pendingHearts("p2")).isZero();
+  }
+
+  @Test
+  @DisplayName("게시글 ID 순으로 한 번의 배치로 반영하고 버퍼를 비움")
+  void flushSortedBatch() {
+    buffer.addHearts("b", 2);
+    buffer.addComments("a", 1);
+    buffer.addHearts("a", -1);
+
+    buffer.flush();
+
+    List<Object[]> batchArgs = captureFlushBatch();
+    assertThat(batchArgs).hasSize(2);
+    assertThat(batchArgs.get(0)).containsExactly(-1L, 1L, "a");
+    assertThat(batchArgs.get(1)).containsExactly(2L, 0L, "b");
+    assertThat(buffer.pendingHearts("a")).isZero();
+    assertThat(buffer.pendingHearts("b")).isZero();
+  }
+
+  @Test
+  @DisplayName("변경분이 없으면 DB에 반영하지 않음")
+  void flushEmpty() {
+    buffer.addHearts("p1", 1);
+    buffer.addHearts("p1", -1);
+
+    buffer.flush();
+
+    verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+  }
+
+  @Test
+  @DisplayName("반영에 실패하면 변경분을 버퍼로 되돌림")
+  void flushFailureRequeues() {
+    when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+        .thenThrow(new IllegalStateException("db down"));
+    buffer.addHearts("p1", 2);
+    buffer.addComments("p1", 1);
+
+    buffer.flush();
+
+    assertThat(buffer.pendingHearts("p1")).isEqualTo(2);
+    assertThat(buffer.pendingComments("p1")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("트랜잭션이 롤백되면 기록한 변경분을 되돌림")
+  void rollbackReverts() {
+    TransactionSynchronizationManager.initSynchronization();
+    buffer.addHearts("p1", 1);
+    assertThat(buffer.pendingHearts("p1")).isEqualTo(1);
+
+    complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+    assertThat(buffer.pendingHearts("p1")).isZero();
+  }
+
+  @Test
+  @DisplayName("보정은 변경분이 없는 게시글만 실제 행 수로 맞춤")
+  void reconcileSkipsPendingPosts() {
+    when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] {1});
+    stubDrift(new Object[] {"p1", 5L, 0L, 3L, 0L}, new Object[] {"p2", 1L, 1L, 2L, 1L});
+
+    // p2는 커밋되지 않은 트랜잭션에서 변경분을 기록한 상태
+    TransactionSynchronizationManager.initSynchronization();
+    buffer.addHearts("p2", 1);
+
+    int corrected = buffer.reconcile();
+
+    assertThat(corrected).isEqualTo(1);
+    ArgumentCaptor<List<Object[]>> captor = batchCaptor();
+    verify(jdbcTemplate)
+        .batchUpdate(startsWith("UPDATE posts SET heart_count = ?"), captor.capture());
+    assertThat(captor.getValue()).hasSize(1);
+    assertThat(captor.getValue().get(0)).containsExactly(3L, 0L, "p1", 5L, 0L);
+  }
+
+  @Test
+  @DisplayName("보정 전에 쌓인 변경분을 먼저 반영")
+  void reconcileFlushesFirst() {
+    stubDrift();
+    buffer.addComments("p1", 1);
+
+    buffer.reconcile();
+
+    assertThat(captureFlushBatch()).hasSize(1);
+    assertThat(buffer.pendingComments("p1")).isZero();
+  }
+
+  private void complete(int status) {
+    List<TransactionSynchronization> synchronizations =
+        TransactionSynchronizationManager.getSynchronizations();
+    TransactionSynchronizationManager.clearSynchronization();
+    synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+  }
+
+  /** 실제 행 수와 다른 게시글 조회 결과 (id, heart_count, comment_count, hearts, comments) */
+  private void stubDrift(Object[]... rows) {
+    when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<Object>>any()))
+        .thenAnswer(
+            invocation -> {
+              RowMapper<Object> mapper = invocation.getArgument(1);
+              List<Object> result = new ArrayList<>();
+              for (int i = 0; i < rows.length; i++) {
+                result.add(mapper.mapRow(resultSet(rows[i]), i));
+              }
+              return result;
+            });
+  }
+
+  private static ResultSet resultSet(Object[] row) throws Exception {
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getString("id")).thenReturn((String) row[0]);
+    when(rs.getLong("heart_count")).thenReturn((Long) row[1]);
+    when(rs.getLong("comment_count")).thenReturn((Long) row[2]);
+    when(rs.getLong("hearts")).thenReturn((Long) row[3]);
+    when(rs.getLong("comments")).thenReturn((Long) row[4]);
+    return rs;
+  }
+
+  private List<Object[]> captureFlushBatch() {
+    ArgumentCaptor<List<Object[]>> captor = batchCaptor();
+    verify(jdbcTemplate)
+        .batchUpdate(startsWith("UPDATE posts SET heart_count = heart_count"), captor.capture());
+    return captor.getValue();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ArgumentCaptor<List<Object[]>> batchCaptor() {
+    return ArgumentCaptor.forClass(List.class);
+  }
+}
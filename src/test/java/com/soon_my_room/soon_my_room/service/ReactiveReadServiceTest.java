@@ -0,0 +1,115 @@
+package com.soon_my_room.soon_my_room.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.soon_my_room.soon_my_room.dto.ProfileDTO;
+import com.soon_my_room.soon_my_room.model.Follow;
+import com.soon_my_room.soon_my_room.model.User;
+import com.soon_my_room.soon_my_room.repository.FollowRepository;
+import com.soon_my_room.soon_my_room.repository.ReactiveFollowRepository;
+import com.soon_my_room.soon_my_room.repository.ReactiveImageAssetRepository;
+import com.soon_my_room.soon_my_room.repository.ReactivePostRepository;
+import com.soon_my_room.soon_my_room.repository.ReactiveUserRepository;
+import java.sql.ResultSet;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class ReactiveReadServiceTest {
+
+  private static final String VIEWER = "viewer";
+  private static final String TARGET = "target";
+
+  private JdbcTemplate jdbcTemplate;
+  private FollowRepository jpaFollowRepository;
+  private ReactiveFollowRepository followRepository;
+  private FollowGraph followGraph;
+  private ReactiveReadService service;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate = mock(JdbcTemplate.class);
+    jpaFollowRepository = mock(FollowRepository.class);
+    followRepository = mock(ReactiveFollowRepository.class);
+    followGraph = new FollowGraph(jdbcTemplate, jpaFollowRepository);
+
+    ImageVariantLookup imageVariantLookup = mock(ImageVariantLookup.class);
+    when(imageVariantLookup.references(anyCollection())).thenReturn(Set.of());
+
+    ReactiveUserRepository userRepository = mock(ReactiveUserRepository.class);
+    when(userRepository.findByAccountname("target"))
+        .thenReturn(Mono.just(User.builder().id(TARGET).accountname("target").build()));
+
+    service =
+        new ReactiveReadService(
+            mock(ReactivePostRepository.class),
+            userRepository,
+            mock(ReactiveImageAssetRepository.class),
+            followRepository,
+            followGraph,
+            mock(PostEnricher.class),
+            new ProfileAssembler(followGraph, imageVariantLookup),
+            imageVariantLookup);
+  }
+
+  @Test
+  @DisplayName("팔로우 그래프 적재 전에는 R2DBC로 팔로우 관계를 조회하고 JPA는 사용하지 않음")
+  void readsFollowsWithR2dbcBeforeGraphLoads() {
+    when(followRepository.findFollowingIdsIn(anyString(), anyCollection()))
+        .thenReturn(Flux.just(TARGET));
+    when(followRepository.findByFollowingIdIn(anyCollection()))
+        .thenReturn(Flux.just(follow(VIEWER, TARGET)));
+    when(followRepository.findByFollowerIdIn(anyCollection())).thenReturn(Flux.empty());
+
+    ProfileDTO.Profile profile =
+        service.getProfile("target", VIEWER, ProfileDTO.View.FULL).block().getProfile();
+
+    assertThat(profile.isIsfollow()).isTrue();
+    assertThat(profile.getFollower()).containsExactly(VIEWER);
+    assertThat(profile.getFollowing()).isEmpty();
+    verifyNoInteractions(jpaFollowRepository);
+  }
+
+  @Test
+  @DisplayName("팔로우 그래프 적재 후에는 메모리에서 조회")
+  void readsFollowsFromGraphAfterLoad() {
+    doAnswer(
+            invocation -> {
+              RowCallbackHandler handler = invocation.getArgument(1);
+              ResultSet rs = mock(ResultSet.class);
+              when(rs.getString(1)).thenReturn(VIEWER);
+              when(rs.getString(2)).thenReturn(TARGET);
+              handler.processRow(rs);
+              return null;
+            })
+        .when(jdbcTemplate)
+        .query(anyString(), any(RowCallbackHandler.class));
+    followGraph.reload();
+
+    ProfileDTO.Profile profile =
+        service.getProfile("target", VIEWER, ProfileDTO.View.FULL).block().getProfile();
+
+    assertThat(profile.isIsfollow()).isTrue();
+    assertThat(profile.getFollower()).containsExactly(VIEWER);
+    verify(followRepository, never()).findFollowingIdsIn(anyString(), anyCollection());
+    verifyNoInteractions(jpaFollowRepository);
+  }
+
+  private static Follow follow(String followerId, String followingId) {
+    return Follow.builder().followerId(followerId).followingId(followingId).build();
+  }
+}
@@ -0,0 +1,134 @@
+package com.soon_my_room.soon_my_room.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.soon_my_room.soon_my_room.dto.ImageUploadDTO;
+import com.soon_my_room.soon_my_room.model.UploadSession;
+import com.soon_my_room.soon_my_room.repository.UploadSessionRepository;
+import com.soon_my_room.soon_my_room.storage.StorageBackend;
+import java.io.ByteArrayInputStream;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ResumableUploadServiceTest {
+
+  private static final String OWNER = "0190f5a2-8c4e-7b3a-9d1f-2a6b8c0e4f11";
+  private static final String OTHER = "0190f5a2-8c4e-7b3a-9d1f-2a6b8c0e4f22";
+
+  private UploadSessionRepository uploadSessionRepository;
+  private StorageBackend storageBackend;
+  private StorageService storageService;
+  private ResumableUploadService service;
+
+  @BeforeEach
+  void setUp() {
+    uploadSessionRepository = mock(UploadSessionRepository.class);
+    storageBackend = mock(StorageBackend.class);
+    storageService = mock(StorageService.class);
+    service =
+        new ResumableUploadService(
+            uploadSessionRepository,
+            storageBackend,
+            storageService,
+            mock(TransactionTemplate.class),
+            5,
+            60,
+            100);
+  }
+
+  @Test
+  @DisplayName("세션에 만든 사용자를 기록")
+  void recordsOwner() {
+    when(storageService.reserveUpload(anyString(), anyString(), anyLong(), any()))
+        .thenReturn(new StorageService.UploadTarget("posts", "1700000000000-0f8fad5b.png"));
+    when(storageBackend.createMultipartUpload(anyString(), anyString(), anyString()))
+        .thenReturn("storage-upload");
+
+    service.createSession(
+        ImageUploadDTO.PresignRequest.builder()
+            .filename("photo.png")
+            .contentType("image/png")
+            .size(10L)
+            .build(),
+        null,
+        OWNER);
+
+    ArgumentCaptor<UploadSession> saved = ArgumentCaptor.forClass(UploadSession.class);
+    verify(uploadSessionRepository).save(saved.capture());
+    assertThat(saved.getValue().getOwnerId()).isEqualTo(OWNER);
+  }
+
+  @Test
+  @DisplayName("세션을 만든 사용자는 조회 가능")
+  void ownerCanGetSession() {
+    stubSession(OWNER);
+
+    assertThat(service.getSession("upload", OWNER).getOffset()).isZero();
+  }
+
+  @Test
+  @DisplayName("다른 사용자는 조회, 청크 업로드, 완료, 취소 불가")
+  void otherUserIsDenied() {
+    stubSession(OWNER);
+
+    assertThatThrownBy(() -> service.getSession("upload", OTHER))
+        .isInstanceOf(AccessDeniedException.class);
+    assertThatThrownBy(
+            () -> service.uploadChunk("upload", OTHER, 0, new ByteArrayInputStream(new byte[5]), 5))
+        .isInstanceOf(AccessDeniedException.class);
+    assertThatThrownBy(() -> service.completeSession("upload", OTHER))
+        .isInstanceOf(AccessDeniedException.class);
+    assertThatThrownBy(() -> service.abortSession("upload", OTHER))
+        .isInstanceOf(AccessDeniedException.class);
+
+    verify(storageBackend, never())
+        .uploadPart(anyString(), anyString(), anyString(), anyInt(), any(), anyLong());
+    verify(storageBackend, never())
+        .completeMultipartUpload(anyString(), anyString(), anyString(), any());
+    verify(storageBackend, never()).abortMultipartUpload(anyString(), anyString(), anyString());
+    verify(uploadSessionRepository, never()).deleteById(anyString());
+  }
+
+  @Test
+  @DisplayName("소유자가 없는 이전 세션은 누구도 사용할 수 없음")
+  void legacySessionWithoutOwnerIsDenied() {
+    stubSession(null);
+
+    assertThatThrownBy(() -> service.getSession("upload", OWNER))
+        .isInstanceOf(AccessDeniedException.class);
+  }
+
+  private void stubSession(String ownerId) {
+    LocalDateTime now = LocalDateTime.now();
+    UploadSession session =
+        UploadSession.builder()
+            .id("upload")
+            .ownerId(ownerId)
+            .bucketName("posts")
+            .objectKey("1700000000000-0f8fad5b.png")
+            .contentType("image/png")
+            .size(10)
+            .partSize(5)
+            .uploadedBytes(0)
+            .storageUploadId("storage-upload")
+            .createdAt(now)
+            .expiresAt(now.plusMinutes(60))
+            .build();
+    when(uploadSessionRepository.findById("upload")).thenReturn(Optional.of(session));
+  }
+}
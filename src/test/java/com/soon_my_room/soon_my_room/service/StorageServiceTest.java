@@ -0,0 +1,157 @@
+package com.soon_my_room.soon_my_room.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.soon_my_room.soon_my_room.dto.ImageResponseDTO;
+import com.soon_my_room.soon_my_room.dto.ImageUploadDTO;
+import com.soon_my_room.soon_my_room.storage.StorageBackend;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class StorageServiceTest {
+
+  private StorageBackend storageBackend;
+  private ImageDerivativeWorker imageDerivativeWorker;
+  private StorageService storageService;
+
+  @BeforeEach
+  void setUp() {
+    storageBackend = mock(StorageBackend.class);
+    imageDerivativeWorker = mock(ImageDerivativeWorker.class);
+    storageService =
+        new StorageService(
+            storageBackend,
+            new SimpleMeterRegistry(),
+            mock(ImageUrlResolver.class),
+            imageDerivativeWorker);
+    ReflectionTestUtils.setField(storageService, "profilesBucket", "profiles");
+    ReflectionTestUtils.setField(storageService, "postsBucket", "posts");
+    ReflectionTestUtils.setField(storageService, "productsBucket", "products");
+    ReflectionTestUtils.setField(storageService, "defaultBucket", "default");
+    ReflectionTestUtils.setField(storageService, "presignTtlSeconds", 300L);
+    ReflectionTestUtils.setField(storageService, "uploadSigningSecret", "test-secret");
+    ReflectionTestUtils.setField(storageService, "maxConcurrency", 1);
+    ReflectionTestUtils.setField(storageService, "dedupCacheSize", 10L);
+    storageService.init();
+
+    when(storageBackend.signedPutUrl(
+            anyString(), anyString(), anyString(), anyLong(), any(Duration.class)))
+        .thenReturn(new StorageBackend.SignedUpload("https://upload", Map.of(), Instant.now()));
+  }
+
+  @Test
+  @DisplayName("JPEG, PNG 직접 업로드는 임시 키로 올리고 확인할 때는 HEAD만 요청")
+  void confirmByUploader() {
+    ImageUploadDTO.PresignResponse presigned = presign("user-a");
+    String uploadKey = "incoming-" + presigned.getFilename();
+    verify(storageBackend)
+        .signedPutUrl(
+            eq(presigned.getBucketName()),
+            eq(uploadKey),
+            eq("image/png"),
+            eq(1024L),
+            any(Duration.class));
+    when(storageBackend.head(presigned.getBucketName(), uploadKey))
+        .thenReturn(Optional.of(new StorageBackend.ObjectMetadata(1024, "image/png")));
+
+    ImageResponseDTO result = storageService.confirmUpload(confirmRequest(presigned), "user-a");
+
+    assertThat(presigned.getFilename()).matches("\\d+-[0-9a-f]{8}-[0-9a-f]{16}\\.png");
+    assertThat(result.getFilename()).isEqualTo(presigned.getFilename());
+    assertThat(result.getSize()).isEqualTo(1024);
+    // 메타데이터 제거 전 원본은 URL을 발급하지 않고 파생 이미지 작업자가 최종 키로 옮김
+    assertThat(result.getImageSrc()).isNull();
+    verify(imageDerivativeWorker).enqueueUpload(presigned.getBucketName(), presigned.getFilename());
+    verify(storageBackend, never()).get(anyString(), anyString());
+    verify(storageBackend, never())
+        .put(anyString(), anyString(), any(), anyLong(), anyString(), any());
+  }
+
+  @Test
+  @DisplayName("이미 최종 키로 옮겨진 업로드도 다시 확인할 수 있음")
+  void confirmAfterPromotion() {
+    ImageUploadDTO.PresignResponse presigned = presign("user-a");
+    when(storageBackend.head(presigned.getBucketName(), presigned.getFilename()))
+        .thenReturn(Optional.of(new StorageBackend.ObjectMetadata(1024, "image/png")));
+
+    ImageResponseDTO result = storageService.confirmUpload(confirmRequest(presigned), "user-a");
+
+    assertThat(result.getFilename()).isEqualTo(presigned.getFilename());
+    verify(imageDerivativeWorker).enqueue(presigned.getBucketName(), presigned.getFilename());
+    verify(storageBackend, never()).get(anyString(), anyString());
+  }
+
+  @Test
+  @DisplayName("조건에 맞지 않는 업로드는 임시 객체를 삭제")
+  void confirmDeletesInvalidUpload() {
+    ImageUploadDTO.PresignResponse presigned = presign("user-a");
+    String uploadKey = "incoming-" + presigned.getFilename();
+    when(storageBackend.head(presigned.getBucketName(), uploadKey))
+        .thenReturn(Optional.of(new StorageBackend.ObjectMetadata(1024, "text/html")));
+
+    assertThatThrownBy(() -> storageService.confirmUpload(confirmRequest(presigned), "user-a"))
+        .isInstanceOf(IllegalArgumentException.class);
+    verify(storageBackend).delete(presigned.getBucketName(), uploadKey);
+    verify(imageDerivativeWorker, never()).enqueueUpload(anyString(), anyString());
+  }
+
+  @Test
+  @DisplayName("다른 사용자에게 발급한 키는 확인할 수 없음")
+  void confirmByOtherUser() {
+    ImageUploadDTO.PresignResponse presigned = presign("user-a");
+
+    assertThatThrownBy(() -> storageService.confirmUpload(confirmRequest(presigned), "user-b"))
+        .isInstanceOf(AccessDeniedException.class);
+    verify(storageBackend, never()).head(anyString(), anyString());
+    verify(storageBackend, never()).delete(anyString(), anyString());
+  }
+
+  @Test
+  @DisplayName("서명이 없는 키는 IllegalArgumentException")
+  void confirmUnsignedKey() {
+    ImageUploadDTO.ConfirmRequest request =
+        ImageUploadDTO.ConfirmRequest.builder()
+            .bucketName("default")
+            .filename("1700000000000-0f8fad5b.png")
+            .build();
+
+    assertThatThrownBy(() -> storageService.confirmUpload(request, "user-a"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private ImageUploadDTO.PresignResponse presign(String uploaderId) {
+    return storageService.createPresignedUpload(
+        ImageUploadDTO.PresignRequest.builder()
+            .filename("photo.png")
+            .contentType("image/png")
+            .size(1024L)
+            .build(),
+        null,
+        uploaderId);
+  }
+
+  private static ImageUploadDTO.ConfirmRequest confirmRequest(
+      ImageUploadDTO.PresignResponse presigned) {
+    return ImageUploadDTO.ConfirmRequest.builder()
+        .bucketName(presigned.getBucketName())
+        .filename(presigned.getFilename())
+        .build();
+  }
+}
@@ -0,0 +1,43 @@
+package com.soon_my_room.soon_my_room.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FileResponsesTest {
+
+  @Test
+  @DisplayName("시작-끝 범위 (끝은 파일 크기로 제한)")
+  void parsesBoundedRange() {
+    assertThat(FileResponses.parseRange("bytes=0-99", 1000)).containsExactly(0, 99);
+    assertThat(FileResponses.parseRange("bytes=900-1999", 1000)).containsExactly(900, 999);
+    assertThat(FileResponses.parseRange("bytes= 10 - 20 ", 1000)).containsExactly(10, 20);
+  }
+
+  @Test
+  @DisplayName("끝이 없는 범위와 마지막 N 바이트 범위")
+  void parsesOpenAndSuffixRanges() {
+    assertThat(FileResponses.parseRange("bytes=500-", 1000)).containsExactly(500, 999);
+    assertThat(FileResponses.parseRange("bytes=-100", 1000)).containsExactly(900, 999);
+    assertThat(FileResponses.parseRange("bytes=-5000", 1000)).containsExactly(0, 999);
+  }
+
+  @Test
+  @DisplayName("만족할 수 없는 범위는 null")
+  void rejectsUnsatisfiableRanges() {
+    assertThat(FileResponses.parseRange("bytes=1000-", 1000)).isNull();
+    assertThat(FileResponses.parseRange("bytes=500-100", 1000)).isNull();
+    assertThat(FileResponses.parseRange("bytes=-0", 1000)).isNull();
+    assertThat(FileResponses.parseRange("bytes=0-", 0)).isNull();
+  }
+
+  @Test
+  @DisplayName("여러 범위나 해석할 수 없는 범위는 전체 응답")
+  void ignoresUnsupportedRanges() {
+    assertThat(FileResponses.parseRange("bytes=0-1,5-6", 1000)).isEmpty();
+    assertThat(FileResponses.parseRange("items=0-1", 1000)).isEmpty();
+    assertThat(FileResponses.parseRange("bytes=abc", 1000)).isEmpty();
+    assertThat(FileResponses.parseRange("bytes=a-b", 1000)).isEmpty();
+  }
+}
@@ -0,0 +1,45 @@
+package com.soon_my_room.soon_my_room.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ImageProxyAccessTest {
+
+  private static final String CONTENT_KEY =
+      "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08.png";
+
+  private final ImageProxyAccess access =
+      new ImageProxyAccess(new String[] {"posts", "profiles"}, "secret");
+
+  @Test
+  @DisplayName("허용한 버킷의 서버 생성 키만 허용")
+  void allowsGeneratedKeysInAllowedBuckets() {
+    assertThat(access.allows("posts", CONTENT_KEY)).isTrue();
+    assertThat(access.allows("posts", CONTENT_KEY.replace(".png", "_w640.jpg"))).isTrue();
+    assertThat(access.allows("posts", "1700000000000-0f8fad5b.png")).isTrue();
+    assertThat(access.allows("posts", "1700000000000-0f8fad5b-0123456789abcdef_w150.jpg"))
+        .isTrue();
+
+    assertThat(access.allows("default", CONTENT_KEY)).isFalse();
+    assertThat(access.allows("posts", "backup.sql")).isFalse();
+    assertThat(access.allows("posts", "../" + CONTENT_KEY)).isFalse();
+    assertThat(access.allows("posts", null)).isFalse();
+  }
+
+  @Test
+  @DisplayName("같은 객체의 서명은 항상 같고, 다른 객체나 다른 키로는 검증 실패")
+  void signsStably() {
+    String signature = access.sign("posts", CONTENT_KEY);
+
+    assertThat(access.sign("posts", CONTENT_KEY)).isEqualTo(signature);
+    assertThat(access.verify("posts", CONTENT_KEY, signature)).isTrue();
+    assertThat(access.verify("profiles", CONTENT_KEY, signature)).isFalse();
+    assertThat(access.verify("posts", CONTENT_KEY, null)).isFalse();
+    assertThat(access.verify("posts", CONTENT_KEY, signature.substring(1))).isFalse();
+
+    ImageProxyAccess other = new ImageProxyAccess(new String[] {"posts"}, "other-secret");
+    assertThat(other.verify("posts", CONTENT_KEY, signature)).isFalse();
+  }
+}
@@ -0,0 +1,129 @@
+package com.soon_my_room.soon_my_room.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.soon_my_room.soon_my_room.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.access.AccessDeniedException;
+
+class ImageProxyCacheTest {
+
+  private static final String KEY =
+      "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08.png";
+  private static final byte[] CONTENT = "image".getBytes(StandardCharsets.US_ASCII);
+
+  @TempDir Path directory;
+
+  private StorageBackend storageBackend;
+  private ImageProxyAccess access;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    storageBackend = mock(StorageBackend.class);
+    access = new ImageProxyAccess(new String[] {"posts"}, "secret");
+    when(storageBackend.get("posts", KEY))
+        .thenAnswer(invocation -> new ByteArrayInputStream(CONTENT));
+  }
+
+  @Test
+  @DisplayName("처음 요청은 저장소에서 내려받고 이후 요청은 디스크 캐시로 응답")
+  void servesFromDiskCache() throws IOException {
+    ImageProxyCache cache = newCache();
+
+    assertThat(serve(cache, KEY, access.sign("posts", KEY)).getContentAsByteArray())
+        .isEqualTo(CONTENT);
+    MockHttpServletResponse second = serve(cache, KEY, access.sign("posts", KEY));
+
+    assertThat(second.getContentAsByteArray()).isEqualTo(CONTENT);
+    assertThat(second.getHeader("Cache-Control")).contains("immutable");
+    verify(storageBackend, times(1)).get("posts", KEY);
+  }
+
+  @Test
+  @DisplayName("캐시 파일은 내려받을 때마다 고유한 이름으로 저장하고 재시작 후 다시 사용")
+  void storesUniqueFileNames() throws IOException {
+    serve(newCache(), KEY, access.sign("posts", KEY));
+
+    List<String> names = cachedFileNames();
+    assertThat(names).hasSize(1);
+    assertThat(names.get(0)).matches("[0-9a-f-]{36}_" + KEY);
+
+    serve(newCache(), KEY, access.sign("posts", KEY));
+    verify(storageBackend, times(1)).get("posts", KEY);
+  }
+
+  @Test
+  @DisplayName("이전 형식의 캐시 파일은 재시작할 때 삭제")
+  void deletesLegacyFilesOnLoad() throws IOException {
+    Files.createDirectories(directory.resolve("posts"));
+    Files.write(directory.resolve("posts").resolve(KEY), CONTENT);
+
+    newCache();
+
+    assertThat(cachedFileNames()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("서명이 없거나 다르면 403, 내려받지 않음")
+  void rejectsInvalidSignature() throws IOException {
+    ImageProxyCache cache = newCache();
+
+    assertThatThrownBy(() -> serve(cache, KEY, null)).isInstanceOf(AccessDeniedException.class);
+    assertThatThrownBy(() -> serve(cache, KEY, access.sign("posts", "other.png")))
+        .isInstanceOf(AccessDeniedException.class);
+    verify(storageBackend, never()).get(anyString(), anyString());
+  }
+
+  @Test
+  @DisplayName("서버가 생성하지 않은 키는 서명이 맞아도 404")
+  void rejectsOtherKeys() throws IOException {
+    ImageProxyCache cache = newCache();
+
+    assertThatThrownBy(() -> serve(cache, "backup.sql", access.sign("posts", "backup.sql")))
+        .isInstanceOf(ResourceNotFoundException.class);
+    verify(storageBackend, never()).get(anyString(), anyString());
+  }
+
+  private ImageProxyCache newCache() throws IOException {
+    return new ImageProxyCache(
+        storageBackend, access, new SimpleMeterRegistry(), directory.toString(), 1_000_000);
+  }
+
+  private static MockHttpServletResponse serve(ImageProxyCache cache, String key, String signature)
+      throws IOException {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    cache.serve(
+        "posts",
+        key,
+        signature,
+        new MockHttpServletRequest("GET", "/api/image/proxy/posts/" + key),
+        response);
+    return response;
+  }
+
+  private List<String> cachedFileNames() throws IOException {
+    try (Stream<Path> files = Files.list(directory.resolve("posts"))) {
+      return files.map(path -> path.getFileName().toString()).toList();
+    }
+  }
+}
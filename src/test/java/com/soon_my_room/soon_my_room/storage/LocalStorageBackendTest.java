@@ -0,0 +1,143 @@
+package com.soon_my_room.soon_my_room.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.soon_my_room.soon_my_room.exception.ResourceNotFoundException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+class LocalStorageBackendTest {
+
+  private static final String KEY = "1700000000000-0f8fad5b.png";
+
+  @TempDir Path root;
+
+  private LocalStorageBackend backend;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    backend = newBackend("", "secret");
+  }
+
+  @Test
+  @DisplayName("서명한 GET URL은 검증 통과")
+  void verifiesSignedGetUrl() {
+    UriComponents url = parse(backend.signedGetUrl("posts", KEY, Duration.ofMinutes(5)));
+
+    assertThat(url.getPath()).isEqualTo("/api/image/posts/" + KEY);
+    assertThat(backend.verify("GET", "posts", KEY, expires(url), signature(url), "", -1))
+        .isTrue();
+  }
+
+  @Test
+  @DisplayName("다른 객체, 다른 메서드, 다른 키로 서명한 URL은 검증 실패")
+  void rejectsMismatchedSignature() throws IOException {
+    UriComponents url = parse(backend.signedGetUrl("posts", KEY, Duration.ofMinutes(5)));
+    long expires = expires(url);
+    String signature = signature(url);
+
+    assertThat(backend.verify("GET", "profiles", KEY, expires, signature, "", -1)).isFalse();
+    assertThat(backend.verify("GET", "posts", "other.png", expires, signature, "", -1)).isFalse();
+    assertThat(backend.verify("PUT", "posts", KEY, expires, signature, "", -1)).isFalse();
+    assertThat(backend.verify("GET", "posts", KEY, expires + 60, signature, "", -1)).isFalse();
+    assertThat(backend.verify("GET", "posts", KEY, expires, null, "", -1)).isFalse();
+
+    LocalStorageBackend other = newBackend("", "other-secret");
+    assertThat(other.verify("GET", "posts", KEY, expires, signature, "", -1)).isFalse();
+  }
+
+  @Test
+  @DisplayName("만료된 URL은 검증 실패")
+  void rejectsExpiredUrl() {
+    UriComponents url = parse(backend.signedGetUrl("posts", KEY, Duration.ofSeconds(-1)));
+
+    assertThat(backend.verify("GET", "posts", KEY, expires(url), signature(url), "", -1))
+        .isFalse();
+  }
+
+  @Test
+  @DisplayName("PUT URL 서명은 컨텐츠 타입과 크기에 묶임")
+  void putSignatureBindsContentTypeAndSize() {
+    StorageBackend.SignedUpload upload =
+        backend.signedPutUrl("posts", KEY, "image/png", 1024, Duration.ofMinutes(5));
+    UriComponents url = parse(upload.url());
+    long expires = expires(url);
+    String signature = signature(url);
+
+    assertThat(upload.headers()).containsEntry("Content-Type", "image/png");
+    assertThat(backend.verify("PUT", "posts", KEY, expires, signature, "image/png", 1024))
+        .isTrue();
+    assertThat(backend.verify("PUT", "posts", KEY, expires, signature, "image/png", 2048))
+        .isFalse();
+    assertThat(backend.verify("PUT", "posts", KEY, expires, signature, "image/gif", 1024))
+        .isFalse();
+  }
+
+  @Test
+  @DisplayName("base-url을 설정하면 절대 URL로 발급")
+  void usesBaseUrl() throws IOException {
+    LocalStorageBackend withBaseUrl = newBackend("https://img.example.com/", "secret");
+
+    String url = withBaseUrl.signedGetUrl("posts", KEY, Duration.ofMinutes(5));
+
+    assertThat(url).startsWith("https://img.example.com/api/image/posts/" + KEY + "?");
+  }
+
+  @Test
+  @DisplayName("허용하지 않은 버킷이나 경로 이동 키는 찾을 수 없음")
+  void rejectsInvalidKeys() {
+    assertThatThrownBy(() -> backend.resolve("unknown", KEY))
+        .isInstanceOf(ResourceNotFoundException.class);
+    assertThatThrownBy(() -> backend.resolve("posts", "../secret"))
+        .isInstanceOf(ResourceNotFoundException.class);
+    assertThatThrownBy(() -> backend.resolve("posts", ".hidden"))
+        .isInstanceOf(ResourceNotFoundException.class);
+  }
+
+  @Test
+  @DisplayName("SHA-256이 다르면 저장하지 않음")
+  void rejectsDigestMismatch() {
+    byte[] content = "image".getBytes(StandardCharsets.US_ASCII);
+
+    assertThatThrownBy(
+            () ->
+                backend.put(
+                    "posts",
+                    KEY,
+                    new ByteArrayInputStream(content),
+                    content.length,
+                    "image/png",
+                    new byte[32]))
+        .isInstanceOf(IOException.class);
+    assertThat(Files.exists(backend.resolve("posts", KEY))).isFalse();
+  }
+
+  private LocalStorageBackend newBackend(String baseUrl, String secret) throws IOException {
+    return new LocalStorageBackend(
+        root.toString(), baseUrl, secret, "profiles", "posts", "products", "default");
+  }
+
+  private static UriComponents parse(String url) {
+    return UriComponentsBuilder.fromUri(URI.create(url)).build();
+  }
+
+  private static long expires(UriComponents url) {
+    return Long.parseLong(url.getQueryParams().getFirst("expires"));
+  }
+
+  private static String signature(UriComponents url) {
+    return url.getQueryParams().getFirst("signature");
+  }
+}